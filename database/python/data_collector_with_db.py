@@ -231,7 +231,9 @@ def main():
         inserted_count = db.bulk_upsert_stocks(db_records, collection_date)
 
         stats['total_success'] = inserted_count
-        stats['status'] = 'completed'
+        # 점수 / passed_profiles 는 아직 비어 있으므로 running 으로 기록
+        # (stock_screener_with_db.py 가 스크리닝 후 completed 로 변경 → 백엔드 게시 신호)
+        stats['status'] = 'running'
 
         logger.info(f"✅ 데이터베이스 삽입 완료: {inserted_count}개")
 
@@ -230,6 +230,9 @@ class DatabaseManager:
 
             count = len(stock_data)
             logger.info(f"✅ {count}개 레코드 삽입/업데이트 완료")
+
+            # 프로필 조회용 정규화 테이블 동기화
+            self.sync_stock_profiles(data_date)
             return count
 
         except Exception as e:
@@ -239,6 +242,27 @@ class DatabaseManager:
         finally:
             session.close()
 
+    def sync_stock_profiles(self, data_date: date):
+        """
+        stock_profiles 테이블을 passed_profiles JSON 기준으로 날짜 단위 재생성
+        (schema의 sync_stock_profiles 프로시저 호출)
+
+        Args:
+            data_date: 동기화할 데이터 날짜
+        """
+        session = self.get_session()
+        try:
+            session.execute(text("CALL sync_stock_profiles(:data_date)"), {'data_date': data_date})
+            session.commit()
+            logger.info(f"✅ stock_profiles 동기화 완료 (날짜: {data_date})")
+
+        except Exception as e:
+            session.rollback()
+            logger.error(f"❌ stock_profiles 동기화 실패: {str(e)}")
+            raise
+        finally:
+            session.close()
+
     def insert_collection_log(
         self,
         collection_date: date,
@@ -294,6 +318,42 @@ class DatabaseManager:
         finally:
             session.close()
 
+    def complete_collection_log(self, collection_date: date) -> Optional[int]:
+        """
+        수집 로그를 running → completed 로 변경 (스크리닝까지 끝난 날짜)
+
+        백엔드는 completed 로그를 스냅샷 게시 신호로 사용하므로
+        점수 / passed_profiles 가 채워진 뒤에만 호출한다.
+
+        Args:
+            collection_date: 수집 날짜
+
+        Returns:
+            변경한 로그 ID (running 로그가 없으면 None)
+        """
+        session = self.get_session()
+        try:
+            log = session.query(DataCollectionLog).filter(
+                DataCollectionLog.collection_date == collection_date,
+                DataCollectionLog.status == 'running'
+            ).order_by(DataCollectionLog.id.desc()).first()
+
+            if log is None:
+                logger.warning(f"⚠️  {collection_date} 의 running 수집 로그 없음 - 백엔드 반영은 /admin/refresh 로 요청")
+                return None
+
+            log.status = 'completed'
+            session.commit()
+            logger.info(f"✅ 수집 로그 완료 처리 (ID: {log.id})")
+            return log.id
+
+        except Exception as e:
+            session.rollback()
+            logger.error(f"❌ 수집 로그 완료 처리 실패: {str(e)}")
+            raise
+        finally:
+            session.close()
+
     def get_latest_data_date(self) -> Optional[date]:
         """가장 최근 데이터 날짜 조회"""
         session = self.get_session()
@@ -355,13 +415,33 @@ class DatabaseManager:
         finally:
             session.close()
 
+    def is_partitioned(self, table_name: str = 'undervalued_stocks') -> bool:
+        """data_date 파티셔닝(V7) 적용 여부"""
+        session = self.get_session()
+        try:
+            count = session.execute(text(
+                "SELECT COUNT(*) FROM information_schema.PARTITIONS "
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = :table_name "
+                "AND PARTITION_NAME IS NOT NULL"
+            ), {'table_name': table_name}).scalar()
+            return bool(count)
+        finally:
+            session.close()
+
     def cleanup_old_data(self, keep_days: int = 90):
         """
         오래된 데이터 삭제 (보관 기간 초과)
 
+        파티셔닝된 테이블(V7)은 백엔드 PartitionMaintenance 가 월 파티션 단위로 삭제하므로
+        (app.partition.retention-days) 행 단위 DELETE 를 하지 않는다.
+
         Args:
             keep_days: 보관할 일수
         """
+        if self.is_partitioned():
+            logger.info("ℹ️ 파티션 테이블 - 보관 기간 정리는 백엔드 파티션 관리에서 처리 (건너뜀)")
+            return
+
         session = self.get_session()
         try:
             cutoff_date = date.today() - timedelta(days=keep_days)
@@ -185,6 +185,9 @@ def update_screening_results_to_db(
         session.commit()
         logger.info(f"✅ {update_count}개 종목 업데이트 완료")
 
+        # 변경된 passed_profiles / total_score 를 stock_profiles 에 반영
+        db.sync_stock_profiles(target_date)
+
     except Exception as e:
         session.rollback()
         logger.error(f"❌ 업데이트 실패: {str(e)}")
@@ -363,7 +366,11 @@ def main():
         else:
             logger.warning("⚠️  필터를 통과한 종목이 없습니다")
 
-        # 10. 완료 메시지
+        # 10. 수집 로그 완료 처리 (백엔드 스냅샷 게시 신호, 전체 프로필 실행 시에만)
+        if args.profile == 'all':
+            db.complete_collection_log(actual_date)
+
+        # 11. 완료 메시지
         duration = (datetime.now() - start_time).total_seconds()
         logger.info("=" * 60)
         logger.info("✅ 스크리닝 완료!")
@@ -0,0 +1,78 @@
+-- ============================================================
+-- V2: 프로필 통과 종목 정규화 테이블 (stock_profiles)
+-- ============================================================
+-- passed_profiles JSON 컬럼은 JSON_CONTAINS 로 행마다 검사해야 해서 인덱스를 탈 수 없음.
+-- (profile_id, data_date, total_score) 인덱스를 가진 조인 테이블을 두어
+-- 프로필 페이지를 total_score 순 인덱스 범위 스캔으로 처리한다.
+--
+-- passed_profiles JSON 컬럼은 원본으로 유지하고,
+-- stock_profiles 는 sync_stock_profiles(날짜) 프로시저로 날짜 단위 재생성한다.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS stock_profiles (
+    stock_id BIGINT NOT NULL,      -- undervalued_stocks.id
+    profile_id INT NOT NULL,       -- screening_profiles.id
+
+    -- 범위 스캔용 비정규화 컬럼 (undervalued_stocks 와 동일 값)
+    data_date DATE NOT NULL,
+    total_score DECIMAL(6, 2),
+
+    PRIMARY KEY (stock_id, profile_id),
+    INDEX idx_profile_date_score (profile_id, data_date, total_score DESC, stock_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+  COMMENT '종목별 통과 스크리닝 프로필 (passed_profiles 정규화)';
+
+-- ------------------------------------------------------------
+-- 날짜 단위 동기화 프로시저
+-- 데이터 적재(bulk_upsert_stocks) 및 스크리닝 결과 업데이트 후 호출
+-- ------------------------------------------------------------
+DROP PROCEDURE IF EXISTS sync_stock_profiles;
+
+DELIMITER //
+CREATE PROCEDURE sync_stock_profiles(IN p_data_date DATE)
+BEGIN
+    -- 처음 보는 프로필 이름은 screening_profiles 에 등록
+    INSERT IGNORE INTO screening_profiles (profile_name, display_name)
+    SELECT DISTINCT jt.profile_name, jt.profile_name
+    FROM undervalued_stocks s
+    CROSS JOIN JSON_TABLE(
+        s.passed_profiles, '$[*]' COLUMNS (profile_name VARCHAR(50) PATH '$')
+    ) AS jt
+    WHERE s.data_date = p_data_date;
+
+    DELETE FROM stock_profiles WHERE data_date = p_data_date;
+
+    INSERT INTO stock_profiles (stock_id, profile_id, data_date, total_score)
+    SELECT DISTINCT s.id, p.id, s.data_date, s.total_score
+    FROM undervalued_stocks s
+    CROSS JOIN JSON_TABLE(
+        s.passed_profiles, '$[*]' COLUMNS (profile_name VARCHAR(50) PATH '$')
+    ) AS jt
+    JOIN screening_profiles p ON p.profile_name = jt.profile_name
+    WHERE s.data_date = p_data_date;
+END //
+DELIMITER ;
+
+-- ------------------------------------------------------------
+-- 기존 날짜 전체 백필
+-- ------------------------------------------------------------
+INSERT IGNORE INTO screening_profiles (profile_name, display_name)
+SELECT DISTINCT jt.profile_name, jt.profile_name
+FROM undervalued_stocks s
+CROSS JOIN JSON_TABLE(
+    s.passed_profiles, '$[*]' COLUMNS (profile_name VARCHAR(50) PATH '$')
+) AS jt;
+
+INSERT IGNORE INTO stock_profiles (stock_id, profile_id, data_date, total_score)
+SELECT s.id, p.id, s.data_date, s.total_score
+FROM undervalued_stocks s
+CROSS JOIN JSON_TABLE(
+    s.passed_profiles, '$[*]' COLUMNS (profile_name VARCHAR(50) PATH '$')
+) AS jt
+JOIN screening_profiles p ON p.profile_name = jt.profile_name;
+
+-- 확인
+-- SELECT p.profile_name, sp.data_date, COUNT(*)
+-- FROM stock_profiles sp JOIN screening_profiles p ON p.id = sp.profile_id
+-- GROUP BY p.profile_name, sp.data_date
+-- ORDER BY sp.data_date DESC, p.profile_name;
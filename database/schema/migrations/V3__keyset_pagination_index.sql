@@ -0,0 +1,13 @@
+-- ============================================================
+-- V3: 키셋(커서) 페이징용 복합 인덱스
+-- ============================================================
+-- /search/cursor 는 WHERE data_date = ? ORDER BY total_score DESC, id ASC 에
+-- (total_score, id) 이후 조건을 붙여 LIMIT 만큼만 읽는다.
+-- 정렬 순서와 같은 인덱스가 있어야 OFFSET 없이 커서 위치부터 바로 스캔 가능.
+--
+-- /profile/{name}/cursor 는 V2 의 stock_profiles.idx_profile_date_score
+-- (profile_id, data_date, total_score DESC, stock_id) 를 그대로 사용한다.
+-- ============================================================
+
+ALTER TABLE undervalued_stocks
+    ADD INDEX idx_date_score_id (data_date, total_score DESC, id);
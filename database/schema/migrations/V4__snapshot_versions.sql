@@ -0,0 +1,21 @@
+-- ============================================================
+-- V4: 스냅샷 게시 이력 (snapshot_versions)
+-- ============================================================
+-- 적재 중인 날짜가 MAX(data_date) 로 노출되어 반쪽 데이터로 캐시가 만들어지는 문제 해결.
+-- 백엔드는 새 날짜를 메모리에 따로 올려 검증/인덱싱한 뒤 이 테이블에 published 행을 남기고
+-- 참조 하나를 바꿔 게시한다. 최신 날짜와 데이터 버전은 마지막 published 행 기준.
+--
+-- 적용 후 첫 기동 시 published 행이 없으면 현재 MAX(data_date) 를 검증 후 게시한다.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS snapshot_versions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,   -- 데이터 버전 (단조 증가)
+    data_date DATE NOT NULL,
+    row_count INT,
+    status VARCHAR(20) NOT NULL,            -- 'published', 'rejected'
+    note VARCHAR(500),                      -- 검증 실패 사유 등
+    published_at TIMESTAMP NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_status_id (status, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,19 @@
+-- ============================================================
+-- V5: 날짜별 집계 통계 (daily_stats)
+-- ============================================================
+-- /stats 가 요청마다 COUNT / AVG / JSON_CONTAINS 쿼리를 프로필 수만큼 실행하던 문제 해결.
+-- 백엔드가 스냅샷 게시 시 메모리 스냅샷을 한 번 순회해 모든 집계를 계산하고
+-- 이 테이블에 저장한다. 프로필 목록은 하드코딩 대신 screening_profiles 의 활성 프로필.
+--
+-- 같은 버전의 행이 이미 있으면 (다른 인스턴스가 게시) 다시 계산하지 않고 읽어 사용한다.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS daily_stats (
+    data_date DATE PRIMARY KEY,
+    version BIGINT NOT NULL,                -- 집계한 snapshot_versions.id
+    total_stocks INT NOT NULL,
+    average_total_score DECIMAL(10, 4),
+    profile_counts JSON,                    -- {"undervalued_quality": 123, ...}
+    score_stats JSON,                       -- {"totalScore": {"count", "mean", "min", "p10", "p25", "median", "p75", "p90", "max"}, ...}
+    computed_at TIMESTAMP NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
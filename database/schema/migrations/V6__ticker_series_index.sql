@@ -0,0 +1,10 @@
+-- ============================================================
+-- V6: 티커 시계열 커버링 인덱스
+-- ============================================================
+-- /{ticker}/series 는 WHERE ticker = ? AND data_date BETWEEN ? AND ? ORDER BY data_date 로
+-- 요청 지표 컬럼만 읽는다. unique_ticker_date 범위 스캔 후 행마다 클러스터 인덱스를 읽는 대신
+-- 기본 요청(점수 5종)은 이 인덱스만으로 응답한다.
+-- ============================================================
+
+ALTER TABLE undervalued_stocks
+    ADD INDEX idx_ticker_date_scores (ticker, data_date, total_score, growth_score, quality_score, value_score, momentum_score);
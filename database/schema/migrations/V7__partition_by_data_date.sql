@@ -0,0 +1,79 @@
+-- ============================================================
+-- V7: data_date 월 단위 RANGE 파티셔닝 (undervalued_stocks, stock_profiles)
+-- ============================================================
+-- 보관 기간 정리를 DELETE ... WHERE data_date < ? 로 하면 수백만 행을 한 행씩 지우면서
+-- undo 로그가 커지고, 조회 중인 트랜잭션과 잠금이 겹친다.
+-- 월 파티션으로 나누면 오래된 달은 DROP PARTITION (메타데이터 변경) 으로 한 번에 지울 수 있고,
+-- 모든 조회가 쓰는 data_date = ? 조건은 해당 월 파티션만 읽는다 (partition pruning).
+--
+-- 파티션 이름: pYYYYMM = [YYYY-MM-01, 다음 달 1일), 마지막은 pmax (MAXVALUE)
+-- 이후 관리 (다음 달 파티션 미리 생성, 보관 기간 지난 파티션 삭제) 는
+-- 백엔드 PartitionMaintenance 스케줄러가 처리한다 (app.partition.*).
+--
+-- 파티션 테이블의 모든 UNIQUE / PRIMARY KEY 에는 파티션 컬럼이 포함되어야 하므로
+-- 기본 키에 data_date 를 추가한다. id 는 AUTO_INCREMENT 로 여전히 고유하며,
+-- unique_ticker_date (ticker, data_date) 는 이미 data_date 를 포함한다.
+--
+-- 주의: 테이블 전체를 다시 쓰는 작업이므로 수집이 없는 시간에 적용
+-- ============================================================
+
+ALTER TABLE undervalued_stocks
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, data_date);
+
+ALTER TABLE stock_profiles
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (stock_id, profile_id, data_date);
+
+-- ------------------------------------------------------------
+-- 최초 파티셔닝 프로시저
+-- 가장 오래된 data_date 의 달부터 이번 달 + p_months_ahead 까지 월 파티션 + pmax
+-- (데이터가 없으면 이번 달부터)
+-- ------------------------------------------------------------
+DROP PROCEDURE IF EXISTS apply_monthly_partitions;
+
+DELIMITER //
+CREATE PROCEDURE apply_monthly_partitions(IN p_table VARCHAR(64), IN p_months_ahead INT)
+BEGIN
+    DECLARE v_month DATE;
+    DECLARE v_end DATE;
+    DECLARE v_partitions TEXT DEFAULT '';
+
+    SET @min_date = NULL;
+    SET @sql = CONCAT('SELECT MIN(data_date) INTO @min_date FROM ', p_table);
+    PREPARE stmt FROM @sql;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+
+    SET v_month = DATE_FORMAT(COALESCE(@min_date, CURDATE()), '%Y-%m-01');
+    SET v_end = DATE_ADD(DATE_FORMAT(CURDATE(), '%Y-%m-01'), INTERVAL p_months_ahead + 1 MONTH);
+
+    WHILE v_month < v_end DO
+        SET v_partitions = CONCAT(v_partitions,
+            'PARTITION p', DATE_FORMAT(v_month, '%Y%m'),
+            ' VALUES LESS THAN (''', DATE_ADD(v_month, INTERVAL 1 MONTH), '''), ');
+        SET v_month = DATE_ADD(v_month, INTERVAL 1 MONTH);
+    END WHILE;
+
+    SET @sql = CONCAT('ALTER TABLE ', p_table, ' PARTITION BY RANGE COLUMNS (data_date) (',
+        v_partitions, 'PARTITION pmax VALUES LESS THAN (MAXVALUE))');
+    PREPARE stmt FROM @sql;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+END //
+DELIMITER ;
+
+-- 두 테이블 모두 같은 월 경계로 나누므로 보관 정리 시 같은 달이 함께 삭제된다
+CALL apply_monthly_partitions('undervalued_stocks', 3);
+CALL apply_monthly_partitions('stock_profiles', 3);
+
+-- ------------------------------------------------------------
+-- 확인
+-- ------------------------------------------------------------
+-- SELECT TABLE_NAME, PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS
+-- FROM information_schema.PARTITIONS
+-- WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ('undervalued_stocks', 'stock_profiles')
+-- ORDER BY TABLE_NAME, PARTITION_ORDINAL_POSITION;
+--
+-- 조회가 한 파티션만 읽는지 (partitions 컬럼)
+-- EXPLAIN SELECT * FROM undervalued_stocks WHERE data_date = '2025-11-07' ORDER BY total_score DESC LIMIT 20;
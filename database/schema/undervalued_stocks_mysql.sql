@@ -10,8 +10,8 @@
 -- 1. 주식 기본 정보 및 재무 데이터 테이블
 -- ============================================================
 CREATE TABLE IF NOT EXISTS undervalued_stocks (
-    -- Primary Key
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    -- Primary Key (파티션 테이블이므로 data_date 포함, 아래 PRIMARY KEY 참고)
+    id BIGINT AUTO_INCREMENT,
     ticker VARCHAR(20) NOT NULL,
 
     -- 기본 정보
@@ -96,11 +96,14 @@ CREATE TABLE IF NOT EXISTS undervalued_stocks (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
     -- 인덱스 및 제약조건
+    PRIMARY KEY (id, data_date),
     UNIQUE KEY unique_ticker_date (ticker, data_date),
     INDEX idx_ticker (ticker),
     INDEX idx_data_date (data_date),
     INDEX idx_sector (sector),
     INDEX idx_total_score (total_score DESC),
+    INDEX idx_date_score_id (data_date, total_score DESC, id),  -- 키셋(커서) 페이징
+    INDEX idx_ticker_date_scores (ticker, data_date, total_score, growth_score, quality_score, value_score, momentum_score),  -- 티커 시계열 (커버링)
     INDEX idx_market_cap (market_cap DESC)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
@@ -170,6 +173,51 @@ ON DUPLICATE KEY UPDATE
     display_name = VALUES(display_name),
     description = VALUES(description);
 
+-- ============================================================
+-- 2-1. 종목별 통과 프로필 테이블 (passed_profiles 정규화)
+-- ============================================================
+-- JSON_CONTAINS 는 인덱스를 사용할 수 없으므로 프로필 조회는 이 테이블로 처리
+-- (profile_id, data_date, total_score DESC) 범위 스캔 → 점수순 페이징
+-- 적재 후 CALL sync_stock_profiles('YYYY-MM-DD') 로 날짜 단위 동기화
+CREATE TABLE IF NOT EXISTS stock_profiles (
+    stock_id BIGINT NOT NULL,      -- undervalued_stocks.id
+    profile_id INT NOT NULL,       -- screening_profiles.id
+
+    -- 범위 스캔용 비정규화 컬럼 (undervalued_stocks 와 동일 값)
+    data_date DATE NOT NULL,
+    total_score DECIMAL(6, 2),
+
+    PRIMARY KEY (stock_id, profile_id, data_date),
+    INDEX idx_profile_date_score (profile_id, data_date, total_score DESC, stock_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+DROP PROCEDURE IF EXISTS sync_stock_profiles;
+
+DELIMITER //
+CREATE PROCEDURE sync_stock_profiles(IN p_data_date DATE)
+BEGIN
+    -- 처음 보는 프로필 이름은 screening_profiles 에 등록
+    INSERT IGNORE INTO screening_profiles (profile_name, display_name)
+    SELECT DISTINCT jt.profile_name, jt.profile_name
+    FROM undervalued_stocks s
+    CROSS JOIN JSON_TABLE(
+        s.passed_profiles, '$[*]' COLUMNS (profile_name VARCHAR(50) PATH '$')
+    ) AS jt
+    WHERE s.data_date = p_data_date;
+
+    DELETE FROM stock_profiles WHERE data_date = p_data_date;
+
+    INSERT INTO stock_profiles (stock_id, profile_id, data_date, total_score)
+    SELECT DISTINCT s.id, p.id, s.data_date, s.total_score
+    FROM undervalued_stocks s
+    CROSS JOIN JSON_TABLE(
+        s.passed_profiles, '$[*]' COLUMNS (profile_name VARCHAR(50) PATH '$')
+    ) AS jt
+    JOIN screening_profiles p ON p.profile_name = jt.profile_name
+    WHERE s.data_date = p_data_date;
+END //
+DELIMITER ;
+
 -- ============================================================
 -- 3. 데이터 수집 로그 테이블
 -- ============================================================
@@ -202,6 +250,82 @@ CREATE TABLE IF NOT EXISTS data_collection_logs (
     INDEX idx_status (status)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- ============================================================
+-- 3-1. 스냅샷 게시 이력 테이블
+-- ============================================================
+-- 서비스가 읽는 최신 data_date 는 MAX(data_date) 가 아니라 이 테이블의 마지막 published 행.
+-- 새 날짜는 백엔드가 메모리에 올려 검증(행 수, 티커 중복 등)을 마친 뒤에만 published 로 기록되므로
+-- 적재 도중의 반쪽 데이터가 최신으로 보이지 않는다.
+CREATE TABLE IF NOT EXISTS snapshot_versions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,   -- 데이터 버전 (단조 증가)
+    data_date DATE NOT NULL,
+    row_count INT,
+    status VARCHAR(20) NOT NULL,            -- 'published', 'rejected'
+    note VARCHAR(500),                      -- 검증 실패 사유 등
+    published_at TIMESTAMP NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_status_id (status, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ============================================================
+-- 3-2. 날짜별 집계 통계 테이블
+-- ============================================================
+-- /stats 응답 (프로필별 종목 수, 점수별 평균/백분위) 을 스냅샷 게시 시 한 번 계산해 저장.
+-- 프로필 목록은 screening_profiles 의 활성 프로필.
+CREATE TABLE IF NOT EXISTS daily_stats (
+    data_date DATE PRIMARY KEY,
+    version BIGINT NOT NULL,                -- 집계한 snapshot_versions.id
+    total_stocks INT NOT NULL,
+    average_total_score DECIMAL(10, 4),
+    profile_counts JSON,                    -- {"undervalued_quality": 123, ...}
+    score_stats JSON,                       -- {"totalScore": {"count", "mean", "min", "p10", "p25", "median", "p75", "p90", "max"}, ...}
+    computed_at TIMESTAMP NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- ============================================================
+-- 3-3. data_date 월 단위 RANGE 파티셔닝 (undervalued_stocks, stock_profiles)
+-- ============================================================
+-- 파티션 이름 pYYYYMM = [YYYY-MM-01, 다음 달 1일), 마지막은 pmax (MAXVALUE)
+-- data_date = ? 조회는 해당 월 파티션만 읽고, 보관 기간이 지난 달은 DROP PARTITION 으로 한 번에 삭제.
+-- 다음 달 파티션 생성 / 오래된 파티션 삭제는 백엔드 PartitionMaintenance 스케줄러가 처리 (app.partition.*).
+-- 파티션 테이블의 PRIMARY / UNIQUE KEY 는 모두 data_date 를 포함해야 한다.
+DROP PROCEDURE IF EXISTS apply_monthly_partitions;
+
+DELIMITER //
+CREATE PROCEDURE apply_monthly_partitions(IN p_table VARCHAR(64), IN p_months_ahead INT)
+BEGIN
+    DECLARE v_month DATE;
+    DECLARE v_end DATE;
+    DECLARE v_partitions TEXT DEFAULT '';
+
+    SET @min_date = NULL;
+    SET @sql = CONCAT('SELECT MIN(data_date) INTO @min_date FROM ', p_table);
+    PREPARE stmt FROM @sql;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+
+    SET v_month = DATE_FORMAT(COALESCE(@min_date, CURDATE()), '%Y-%m-01');
+    SET v_end = DATE_ADD(DATE_FORMAT(CURDATE(), '%Y-%m-01'), INTERVAL p_months_ahead + 1 MONTH);
+
+    WHILE v_month < v_end DO
+        SET v_partitions = CONCAT(v_partitions,
+            'PARTITION p', DATE_FORMAT(v_month, '%Y%m'),
+            ' VALUES LESS THAN (''', DATE_ADD(v_month, INTERVAL 1 MONTH), '''), ');
+        SET v_month = DATE_ADD(v_month, INTERVAL 1 MONTH);
+    END WHILE;
+
+    SET @sql = CONCAT('ALTER TABLE ', p_table, ' PARTITION BY RANGE COLUMNS (data_date) (',
+        v_partitions, 'PARTITION pmax VALUES LESS THAN (MAXVALUE))');
+    PREPARE stmt FROM @sql;
+    EXECUTE stmt;
+    DEALLOCATE PREPARE stmt;
+END //
+DELIMITER ;
+
+CALL apply_monthly_partitions('undervalued_stocks', 3);
+CALL apply_monthly_partitions('stock_profiles', 3);
+
 -- ============================================================
 -- 유용한 뷰
 -- ============================================================
@@ -213,12 +337,15 @@ FROM undervalued_stocks
 WHERE data_date = (SELECT MAX(data_date) FROM undervalued_stocks);
 
 -- 2. 저평가 우량주 프로필 통과 종목만 조회
--- MySQL에서 JSON 배열 검색
+-- stock_profiles 인덱스 사용
 CREATE OR REPLACE VIEW undervalued_quality_stocks AS
-SELECT *
-FROM latest_undervalued_stocks
-WHERE JSON_CONTAINS(passed_profiles, '"undervalued_quality"')
-ORDER BY total_score DESC;
+SELECT s.*
+FROM stock_profiles sp
+JOIN screening_profiles p ON p.id = sp.profile_id
+JOIN undervalued_stocks s ON s.id = sp.stock_id AND s.data_date = sp.data_date
+WHERE p.profile_name = 'undervalued_quality'
+  AND sp.data_date = (SELECT MAX(data_date) FROM undervalued_stocks)
+ORDER BY sp.total_score DESC;
 
 -- 3. Top 종합 점수 상위 종목
 CREATE OR REPLACE VIEW top_scored_stocks AS
@@ -236,6 +363,9 @@ LIMIT 100;
 ALTER TABLE undervalued_stocks COMMENT '저평가 우량주 데이터 - Python 스크립트에서 수집한 미국 주식 데이터';
 ALTER TABLE screening_profiles COMMENT '스크리닝 프로필 설정';
 ALTER TABLE data_collection_logs COMMENT '데이터 수집 로그';
+ALTER TABLE snapshot_versions COMMENT '스냅샷 게시 이력 (최신 데이터 버전 포인터)';
+ALTER TABLE daily_stats COMMENT '날짜별 사전 집계 통계 (/stats)';
+ALTER TABLE stock_profiles COMMENT '종목별 통과 스크리닝 프로필 (passed_profiles 정규화)';
 
 -- 주요 컬럼 설명 (MySQL 8.0+)
 -- ALTER TABLE undervalued_stocks MODIFY ticker VARCHAR(20) NOT NULL COMMENT '티커 심볼 (예: AAPL)';
@@ -247,11 +377,12 @@ ALTER TABLE data_collection_logs COMMENT '데이터 수집 로그';
 -- 사용 예시 (MySQL JSON 함수)
 -- ============================================================
 
--- 특정 프로필을 통과한 종목 조회
--- SELECT * FROM undervalued_stocks
--- WHERE JSON_CONTAINS(passed_profiles, '"undervalued_quality"')
--- AND data_date = (SELECT MAX(data_date) FROM undervalued_stocks)
--- ORDER BY total_score DESC
+-- 특정 프로필을 통과한 종목 조회 (stock_profiles 인덱스 범위 스캔)
+-- SELECT s.* FROM stock_profiles sp
+-- JOIN undervalued_stocks s ON s.id = sp.stock_id AND s.data_date = sp.data_date
+-- WHERE sp.profile_id = (SELECT id FROM screening_profiles WHERE profile_name = 'undervalued_quality')
+-- AND sp.data_date = (SELECT MAX(data_date) FROM undervalued_stocks)
+-- ORDER BY sp.total_score DESC
 -- LIMIT 50;
 
 -- JSON 배열에 요소 추가
@@ -0,0 +1,63 @@
+#!/bin/bash
+
+# ============================================================
+# servlet / reactive 조회 API 부하 비교
+#
+# 같은 DB 를 보는 두 인스턴스를 띄운 뒤 실행:
+#   servlet : java -jar app.jar --server.port=8080
+#   reactive: java -jar app.jar --server.port=8081 --spring.profiles.active=reactive
+#
+# 사용법: ./compare_reactive_load.sh [동시접속수 목록] [요청 수]
+#   예) ./compare_reactive_load.sh "50 200 800" 20000
+#
+# 필요 도구: hey (https://github.com/rakyll/hey)
+# DATE 를 과거 날짜로 주면 date 파라미터 조회가 스냅샷 대신 DB 경로(JPA/Hikari vs R2DBC)를 탄다.
+#   예) DATE=2025-11-06 ./compare_reactive_load.sh
+# ============================================================
+
+set -e
+
+SERVLET_URL="${SERVLET_URL:-http://localhost:8080}"
+REACTIVE_URL="${REACTIVE_URL:-http://localhost:8081}"
+CONCURRENCY_LEVELS="${1:-50 200 800}"
+REQUESTS="${2:-20000}"
+DATE="${DATE:-$(curl -s "$SERVLET_URL/api/undervalued-stocks/latest-date" | sed -E 's/.*"latestDate":"([0-9-]+)".*/\1/')}"
+
+if ! command -v hey > /dev/null; then
+    echo "hey 가 필요합니다: go install github.com/rakyll/hey@latest"
+    exit 1
+fi
+
+ENDPOINTS=(
+    "/api/undervalued-stocks/top?limit=100"
+    "/api/undervalued-stocks/profile/undervalued_quality?limit=50"
+    "/api/undervalued-stocks/search?sector=Technology&minScore=60&size=20&date=$DATE"
+    "/api/undervalued-stocks/AAPL/history?date=$DATE"
+)
+
+run() {
+    local name="$1" url="$2" concurrency="$3"
+    # 워밍업
+    hey -n 1000 -c 50 "$url" > /dev/null
+    hey -n "$REQUESTS" -c "$concurrency" "$url" | awk -v name="$name" -v c="$concurrency" '
+        /Requests\/sec/ { rps = $2 }
+        /50% in/ { p50 = $3 * 1000 }
+        /95% in/ { p95 = $3 * 1000 }
+        /99% in/ { p99 = $3 * 1000 }
+        /^  \[[2-5][0-9][0-9]\]/ { codes = codes " " $1 $2 }
+        END { printf "%-9s c=%-5s %10.1f req/s  p50 %7.1fms  p95 %7.1fms  p99 %7.1fms %s\n", name, c, rps, p50, p95, p99, codes }'
+}
+
+echo "============================================================"
+echo "servlet: $SERVLET_URL / reactive: $REACTIVE_URL"
+echo "요청 수: $REQUESTS, 동시접속: $CONCURRENCY_LEVELS, date: $DATE"
+echo "============================================================"
+
+for endpoint in "${ENDPOINTS[@]}"; do
+    echo ""
+    echo "▶ $endpoint"
+    for c in $CONCURRENCY_LEVELS; do
+        run "servlet" "$SERVLET_URL$endpoint" "$c"
+        run "reactive" "$REACTIVE_URL$endpoint" "$c"
+    done
+done
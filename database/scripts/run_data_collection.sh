@@ -66,6 +66,21 @@ fi
 
 echo "✅ 스크리닝 완료" | tee -a "$LOG_FILE"
 
+# 백엔드 스냅샷 게시 신호
+# 2단계가 수집 로그를 running → completed 로 바꾸면 백엔드가 주기 확인(기본 30초)에서 게시하므로
+# 점수가 채워지기 전 날짜는 게시되지 않는다. 아래 요청은 그 대기 없이 바로 게시하도록 하는 선택 단계.
+# 관리 API 토큰은 백엔드 app.admin.token 과 같은 값 (ADMIN_TOKEN 환경변수)
+BACKEND_URL="${BACKEND_URL:-http://localhost:8080}"
+if [ -z "$ADMIN_TOKEN" ]; then
+    echo "ℹ️  ADMIN_TOKEN 미설정 - 스냅샷 갱신 요청 생략 (completed 수집 로그로 주기 확인 시 반영)" | tee -a "$LOG_FILE"
+elif curl -fsS -X POST -H "X-Admin-Token: $ADMIN_TOKEN" \
+        "$BACKEND_URL/api/undervalued-stocks/admin/refresh" >> "$LOG_FILE" 2>&1; then
+    echo "" | tee -a "$LOG_FILE"
+    echo "✅ 백엔드 스냅샷 갱신 요청 완료" | tee -a "$LOG_FILE"
+else
+    echo "⚠️  백엔드 스냅샷 갱신 요청 실패 (completed 수집 로그로 주기 확인 시 반영)" | tee -a "$LOG_FILE"
+fi
+
 # 3단계: 백업 (선택사항)
 echo "" | tee -a "$LOG_FILE"
 echo "3단계: 백업 중..." | tee -a "$LOG_FILE"
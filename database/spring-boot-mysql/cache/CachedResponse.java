@@ -0,0 +1,106 @@
+package com.ddalkkak.backend.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 응답 본문 (원본 + 선택적 gzip) 과 strong ETag
+ */
+public final class CachedResponse {
+
+    private final String uri;
+    private final String contentType;
+    private final byte[] body;
+    private final byte[] gzipBody;
+    private final String etag;
+
+    private CachedResponse(String uri, String contentType, byte[] body, byte[] gzipBody, String etag) {
+        this.uri = uri;
+        this.contentType = contentType;
+        this.body = body;
+        this.gzipBody = gzipBody;
+        this.etag = etag;
+    }
+
+    /**
+     * gzipMinBytes 이상이면 gzip 본문도 미리 만들어 둠 (0 이하면 gzip 안 함)
+     * uri 는 메트릭 태그용 매핑 패턴 (예: /api/undervalued-stocks/{ticker})
+     */
+    public static CachedResponse of(String uri, String contentType, byte[] body, long version, int gzipMinBytes) {
+        byte[] gzipBody = gzipMinBytes > 0 && body.length >= gzipMinBytes ? gzip(body) : null;
+        return new CachedResponse(uri, contentType, body, gzipBody, etag(version, body));
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * gzip 본문 (만들지 않았으면 null)
+     */
+    public byte[] getGzipBody() {
+        return gzipBody;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * 캐시 크기 계산용 바이트 수 (원본 + gzip 본문)
+     */
+    public long weight() {
+        return body.length + (gzipBody != null ? gzipBody.length : 0L);
+    }
+
+    /**
+     * If-None-Match 헤더가 이 ETag 와 일치하는지 (목록, *, W/ 접두어 허용)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String etag(long version, byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + version + "-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
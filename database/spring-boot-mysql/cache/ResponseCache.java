@@ -0,0 +1,102 @@
+package com.ddalkkak.backend.cache;
+
+import com.ddalkkak.backend.snapshot.SnapshotVersionChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 직렬화된 응답 바이트 캐시
+ *
+ * 키는 "데이터 버전 + 경로 + 정렬된 쿼리 파라미터".
+ * 데이터는 하루 한 번 적재 시에만 바뀌므로 버전이 바뀌면 전체를 비운다.
+ *
+ * 본문 크기는 /top?limit=, /search?size= 처럼 클라이언트가 정하므로 건수가 아닌 바이트(본문 + gzip 본문)로 제한한다.
+ * - max-entry-bytes 를 넘는 응답은 저장하지 않음 (매번 새로 직렬화)
+ * - 합계가 max-bytes 또는 건수가 max-entries 를 넘으면 오래 저장된 항목부터 하나씩 제거
+ *   (전체를 비우면 인기 응답까지 한꺼번에 다시 만들어야 하므로)
+ * 조회는 잠금 없이, 저장/제거만 동기화 (저장은 캐시 미스 때만 발생)
+ */
+@Component
+@Slf4j
+public class ResponseCache {
+
+    private final Map<String, CachedResponse> responses = new ConcurrentHashMap<>();
+    // 저장 순서 (제거 대상 선택용)
+    private final Deque<String> insertionOrder = new ArrayDeque<>();
+    private long totalBytes;
+
+    @Value("${app.cache.response.max-entries:2000}")
+    private int maxEntries;
+
+    @Value("${app.cache.response.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${app.cache.response.max-entry-bytes:1048576}")
+    private long maxEntryBytes;
+
+    public CachedResponse get(String key) {
+        return responses.get(key);
+    }
+
+    /**
+     * 이 크기의 본문을 저장할 수 있는지 (gzip 생성 전 사전 확인)
+     */
+    public boolean fits(long bodyBytes) {
+        return bodyBytes <= maxEntryBytes;
+    }
+
+    /**
+     * 저장 (gzip 포함 크기가 max-entry-bytes 를 넘거나 바로 제거되면 false)
+     */
+    public synchronized boolean put(String key, CachedResponse response) {
+        long bytes = response.weight();
+        if (bytes > maxEntryBytes) {
+            return false;
+        }
+        CachedResponse previous = responses.put(key, response);
+        if (previous != null) {
+            totalBytes -= previous.weight();
+        } else {
+            insertionOrder.addLast(key);
+        }
+        totalBytes += bytes;
+
+        int evicted = 0;
+        while ((totalBytes > maxBytes || responses.size() > maxEntries) && !insertionOrder.isEmpty()) {
+            CachedResponse removed = responses.remove(insertionOrder.pollFirst());
+            if (removed != null) {
+                totalBytes -= removed.weight();
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.debug("응답 캐시 제거 - {} 건 (현재 {} 건, {} bytes)", evicted, responses.size(), totalBytes);
+        }
+        return responses.containsKey(key);
+    }
+
+    public int size() {
+        return responses.size();
+    }
+
+    /**
+     * 저장된 본문 바이트 합계 (원본 + gzip)
+     */
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    @EventListener
+    public synchronized void onVersionChanged(SnapshotVersionChangedEvent event) {
+        responses.clear();
+        insertionOrder.clear();
+        totalBytes = 0;
+    }
+}
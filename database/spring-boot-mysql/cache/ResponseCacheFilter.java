@@ -0,0 +1,180 @@
+package com.ddalkkak.backend.cache;
+
+import com.ddalkkak.backend.snapshot.SnapshotVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회 API 응답 바이트 캐시 + ETag / 304 처리
+ *
+ * 같은 데이터 버전에서는 모든 클라이언트에 같은 응답이 나가므로
+ * 최초 1회만 컨트롤러 → Jackson 직렬화를 거치고 이후에는 저장된 바이트를 그대로 쓴다.
+ * - ETag: "버전-본문 해시" (strong)
+ * - If-None-Match 일치 시 304 (본문 없음)
+ * - Accept-Encoding: gzip 이면 미리 압축해 둔 본문 전송
+ * 200 + JSON 응답만 저장하고, 관리/헬스/내보내기 API 는 대상에서 제외.
+ * 크기 제한(app.cache.response.max-entry-bytes)을 넘는 응답은 저장하지 않고 ETag 없이 그대로 보낸다.
+ *
+ * 메트릭: stock.cache.requests{cache=response, result=hit|miss},
+ * stock.response.size{uri, encoding} (전송 본문 바이트, 304 는 제외)
+ */
+@Component
+@Profile("!reactive")
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/undervalued-stocks/";
+
+    private final ResponseCache responseCache;
+    private final SnapshotVersion snapshotVersion;
+    private final MeterRegistry meterRegistry;
+    private final Counter hits;
+    private final Counter misses;
+    // (uri 패턴, encoding) 별 본문 크기 - 요청마다 레지스트리를 조회하지 않도록 처음 한 번만 등록
+    private final Map<String, DistributionSummary> responseSizes = new ConcurrentHashMap<>();
+
+    @Value("${app.cache.enabled:true}")
+    private boolean enabled;
+
+    // 이 크기 이상인 응답만 gzip 본문을 미리 생성 (0 이면 gzip 안 함)
+    @Value("${app.cache.response.gzip-min-bytes:1024}")
+    private int gzipMinBytes;
+
+    public ResponseCacheFilter(ResponseCache responseCache, SnapshotVersion snapshotVersion,
+                               MeterRegistry meterRegistry) {
+        this.responseCache = responseCache;
+        this.snapshotVersion = snapshotVersion;
+        this.meterRegistry = meterRegistry;
+        this.hits = meterRegistry.counter("stock.cache.requests", "cache", "response", "result", "hit");
+        this.misses = meterRegistry.counter("stock.cache.requests", "cache", "response", "result", "miss");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return !path.startsWith(API_PREFIX)
+            || path.startsWith(API_PREFIX + "admin")
+            || path.equals(API_PREFIX + "health")
+            || path.startsWith(API_PREFIX + "export");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+
+        long version = snapshotVersion.getVersion();
+        String key = cacheKey(request, version);
+
+        CachedResponse cached = responseCache.get(key);
+        (cached != null ? hits : misses).increment();
+        if (cached != null) {
+            write(cached, request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        // 너무 큰 본문은 저장하지 않으므로 gzip / ETag 계산도 생략하고 그대로 전송
+        if (!isCacheable(wrapper) || !responseCache.fits(wrapper.getContentSize())) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        cached = CachedResponse.of(uri, wrapper.getContentType(), wrapper.getContentAsByteArray(), version, gzipMinBytes);
+        // 처리 도중 버전이 바뀌었으면 어느 버전 데이터인지 알 수 없으므로 저장하지 않음
+        if (version == snapshotVersion.getVersion()) {
+            responseCache.put(key, cached);
+        }
+        wrapper.resetBuffer();
+        write(cached, request, response);
+    }
+
+    private static boolean isCacheable(ContentCachingResponseWrapper wrapper) {
+        String contentType = wrapper.getContentType();
+        return wrapper.getStatus() == HttpServletResponse.SC_OK
+            && contentType != null
+            && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+
+        response.setHeader(HttpHeaders.ETAG, cached.getEtag());
+        // 매번 ETag 로 재검증 (변경 없으면 304 로 본문 전송 생략)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (cached.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = cached.getBody();
+        boolean gzip = cached.getGzipBody() != null && acceptsGzip(request);
+        if (gzip) {
+            body = cached.getGzipBody();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        responseSize(cached.getUri(), gzip ? "gzip" : "identity").record(body.length);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.getContentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private DistributionSummary responseSize(String uri, String encoding) {
+        return responseSizes.computeIfAbsent(uri + ' ' + encoding, key -> DistributionSummary.builder("stock.response.size")
+            .baseUnit("bytes")
+            .tag("uri", uri)
+            .tag("encoding", encoding)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+
+    /**
+     * 버전 + 경로 + 이름순 정렬 파라미터 (파라미터 이름 순서와 무관하게 같은 키)
+     * 같은 이름의 값들은 요청 순서 그대로 둔다 (/batch?tickers=, /series?fields= 는 응답 행/열 순서가 요청 순서를 따름)
+     */
+    static String cacheKey(HttpServletRequest request, long version) {
+        StringBuilder key = new StringBuilder(64)
+            .append(version).append(' ')
+            .append(request.getRequestURI());
+        Map<String, String[]> params = new TreeMap<>(request.getParameterMap());
+        char separator = '?';
+        for (Map.Entry<String, String[]> param : params.entrySet()) {
+            for (String value : param.getValue()) {
+                key.append(separator).append(param.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+}
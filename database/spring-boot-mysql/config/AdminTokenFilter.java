@@ -0,0 +1,88 @@
+package com.ddalkkak.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 관리 API (/api/undervalued-stocks/admin/**) 토큰 인증
+ *
+ * 적재 / 스냅샷 게시처럼 데이터를 바꾸는 API 이므로 공유 토큰이 일치하는 요청만 통과시킨다.
+ * - 헤더: X-Admin-Token: {token} 또는 Authorization: Bearer {token}
+ * - app.admin.token 이 비어 있으면 관리 API 전체를 막는다 (설정 누락 시 열리지 않도록)
+ * CORS 필터 바로 뒤, 응답 캐시 필터보다 먼저 실행된다.
+ */
+@Component
+@Profile("!reactive")
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class AdminTokenFilter extends OncePerRequestFilter {
+
+    static final String ADMIN_PREFIX = "/api/undervalued-stocks/admin";
+    static final String TOKEN_HEADER = "X-Admin-Token";
+    private static final String BEARER = "Bearer ";
+
+    @Value("${app.admin.token:}")
+    private String token;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return !(path.equals(ADMIN_PREFIX) || path.startsWith(ADMIN_PREFIX + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+
+        if (token == null || token.isBlank()) {
+            reject(response, HttpServletResponse.SC_FORBIDDEN, "관리 API 가 비활성화되어 있습니다 (app.admin.token 미설정)");
+            return;
+        }
+        if (!matches(presentedToken(request))) {
+            log.warn("관리 API 인증 실패 - {} {} ({})", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+            reject(response, HttpServletResponse.SC_UNAUTHORIZED, "관리 API 토큰이 필요합니다");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static String presentedToken(HttpServletRequest request) {
+        String header = request.getHeader(TOKEN_HEADER);
+        if (header != null) {
+            return header.trim();
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            return authorization.substring(BEARER.length()).trim();
+        }
+        return null;
+    }
+
+    // 응답 시간으로 토큰을 추측할 수 없도록 상수 시간 비교
+    private boolean matches(String presented) {
+        return presented != null && MessageDigest.isEqual(
+            presented.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void reject(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+}
@@ -0,0 +1,62 @@
+package com.ddalkkak.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CORS 설정 (프론트엔드 허용)
+ *
+ * 응답 캐시(ResponseCacheFilter)가 컨트롤러를 거치지 않고 응답하므로
+ * 컨트롤러의 @CrossOrigin 대신 필터 체인 맨 앞에서 CORS 헤더를 붙인다.
+ * 허용 범위는 공개 조회 API 뿐이다 (조회 GET + 본문으로 조건을 받는 POST /batch, /screen).
+ * 관리 API (/admin/**) 는 CORS 헤더를 붙이지 않아 브라우저에서 다른 출처로 호출할 수 없다.
+ */
+@Configuration
+@Profile("!reactive")
+public class CorsConfig {
+
+    static final String API_PREFIX = "/api/undervalued-stocks";
+
+    // 본문으로 조회 조건을 받는 공개 POST API
+    static final List<String> PUBLIC_POST_PATHS = List.of(API_PREFIX + "/batch", API_PREFIX + "/screen");
+
+    @Bean
+    public FilterRegistrationBean<CorsFilter> corsFilter() {
+        FilterRegistrationBean<CorsFilter> registration = new FilterRegistrationBean<>(new CorsFilter(corsSource()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    static CorsConfigurationSource corsSource() {
+        CorsConfiguration read = config(HttpMethod.GET, HttpMethod.HEAD);
+        CorsConfiguration query = config(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.POST);
+        return request -> configFor(request, read, query);
+    }
+
+    private static CorsConfiguration configFor(HttpServletRequest request, CorsConfiguration read,
+                                               CorsConfiguration query) {
+        String path = request.getRequestURI();
+        if (!path.startsWith(API_PREFIX + "/") || path.startsWith(AdminTokenFilter.ADMIN_PREFIX)) {
+            return null;
+        }
+        return PUBLIC_POST_PATHS.contains(path) ? query : read;
+    }
+
+    private static CorsConfiguration config(HttpMethod... methods) {
+        CorsConfiguration config = new CorsConfiguration().applyPermitDefaultValues();
+        config.setAllowedOrigins(List.of("*"));
+        config.setAllowedMethods(Arrays.stream(methods).map(HttpMethod::name).toList());
+        return config;
+    }
+}
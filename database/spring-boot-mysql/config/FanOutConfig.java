@@ -0,0 +1,42 @@
+package com.ddalkkak.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 서비스 계층 병렬 조회(FanOut) 실행기
+ *
+ * spring.threads.virtual.enabled=true (Java 21) 이면 요청 처리와 같이 가상 스레드를 쓰고,
+ * 아니면 고정 크기 플랫폼 스레드 풀을 쓴다. 어느 쪽이든 동시 실행 수는
+ * app.fan-out.max-concurrency 로 제한하여 Hikari 풀 크기를 넘겨 커넥션 대기만 늘리지 않도록 한다.
+ */
+@Configuration
+public class FanOutConfig {
+
+    @Bean
+    public AsyncTaskExecutor fanOutExecutor(
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+        @Value("${app.fan-out.max-concurrency:16}") int maxConcurrency
+    ) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("fan-out-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxConcurrency);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("fan-out-");
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        // 대기열 없이, 풀이 다 차면 요청 스레드에서 직접 실행 (순차 실행으로 자연스럽게 후퇴)
+        executor.setQueueCapacity(0);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ddalkkak.backend.config;
+
+import com.ddalkkak.backend.snapshot.StockRowListModule;
+import com.fasterxml.jackson.databind.Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 설정
+ *
+ * Spring Boot 는 Module 빈을 자동으로 ObjectMapper 에 등록한다.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * 스냅샷 행 목록을 DTO / BigDecimal 없이 직렬화
+     */
+    @Bean
+    public Module stockRowListModule() {
+        return new StockRowListModule();
+    }
+}
@@ -0,0 +1,40 @@
+package com.ddalkkak.backend.config;
+
+import com.ddalkkak.backend.entity.ProfileRegistry;
+import com.ddalkkak.backend.entity.ScreeningProfile;
+import com.ddalkkak.backend.repository.ScreeningProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 screening_profiles 를 id 순으로 ProfileRegistry 에 등록
+ *
+ * 스냅샷 게시(ApplicationReadyEvent) 보다 먼저 실행되어 프로필 비트 번호와
+ * 복원되는 목록 순서가 테이블 순서를 따른다. 실패해도 이름은 처음 볼 때 등록된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileRegistryLoader {
+
+    private final ScreeningProfileRepository profileRepository;
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void load() {
+        try {
+            List<String> profiles = profileRepository.findAll(Sort.by("id")).stream()
+                .map(ScreeningProfile::getProfileName)
+                .toList();
+            ProfileRegistry.register(profiles);
+            log.info("프로필 레지스트리 등록 - {}개", ProfileRegistry.size());
+        } catch (Exception e) {
+            log.warn("프로필 레지스트리 초기화 실패: {}", e.getMessage());
+        }
+    }
+}
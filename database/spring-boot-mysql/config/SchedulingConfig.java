@@ -0,0 +1,12 @@
+package com.ddalkkak.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 (스냅샷 갱신 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,74 @@
+package com.ddalkkak.backend.controller;
+
+import com.ddalkkak.backend.snapshot.SnapshotPublisher;
+import com.ddalkkak.backend.snapshot.SnapshotVersion;
+import com.ddalkkak.backend.snapshot.StockSnapshot;
+import com.ddalkkak.backend.snapshot.StockSnapshotHolder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 스냅샷 관리 API
+ * 데이터 적재 스크립트가 완료 후 호출하여 최신 데이터를 즉시 반영
+ * 이전 날짜 재게시 / 검증 무시(force) 가 가능하므로 AdminTokenFilter 의 토큰 인증 뒤에 둔다.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/undervalued-stocks/admin")
+@RequiredArgsConstructor
+@Slf4j
+public class SnapshotAdminController {
+
+    private final SnapshotPublisher snapshotPublisher;
+    private final SnapshotVersion snapshotVersion;
+    private final StockSnapshotHolder snapshotHolder;
+
+    /**
+     * POST /api/undervalued-stocks/admin/refresh?date=2025-11-07&force=false
+     * 적재 완료 신호 - 최신 날짜(또는 지정 날짜) 스테이징/검증 후 게시
+     * 검증에 실패하면 기존 게시본이 유지되므로 응답의 version 으로 게시 여부 확인
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, Object>> refresh(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(defaultValue = "false") boolean force
+    ) {
+        log.info("POST /api/undervalued-stocks/admin/refresh - date: {}, force: {}", date, force);
+        if (date != null) {
+            snapshotPublisher.publish(date, force);
+        } else {
+            snapshotPublisher.publishLatest();
+        }
+        return ResponseEntity.ok(status());
+    }
+
+    /**
+     * GET /api/undervalued-stocks/admin/snapshot
+     * 현재 버전 및 스냅샷 상태 조회
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<Map<String, Object>> getSnapshotStatus() {
+        return ResponseEntity.ok(status());
+    }
+
+    private Map<String, Object> status() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("latestDate", snapshotVersion.getLatestDate().orElse(null));
+        response.put("version", snapshotVersion.getVersion());
+
+        StockSnapshot snapshot = snapshotHolder.current();
+        if (snapshot != null) {
+            response.put("snapshotDate", snapshot.getDataDate());
+            response.put("snapshotRows", snapshot.size());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,85 @@
+package com.ddalkkak.backend.controller;
+
+import com.ddalkkak.backend.export.ArrowExportService;
+import com.ddalkkak.backend.export.StockExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 대량 내보내기 API
+ * 분석/백테스트용 기간 데이터를 NDJSON / CSV 로 스트리밍 (Accept-Encoding: gzip 이면 압축)
+ * 날짜 단위 컬럼형 Arrow IPC 파일 (로컬 디스크 캐시)
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/undervalued-stocks")
+@RequiredArgsConstructor
+@Slf4j
+public class StockExportController {
+
+    private static final MediaType ARROW_FILE = MediaType.parseMediaType("application/vnd.apache.arrow.file");
+
+    private final StockExportService exportService;
+    private final ArrowExportService arrowExportService;
+
+    /**
+     * GET /api/undervalued-stocks/export?from=2025-01-01&to=2025-11-07&format=csv&fields=ticker,totalScore
+     * 기간 데이터 스트리밍 내보내기 (format: ndjson | csv, fields 생략 시 전체 컬럼)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(defaultValue = "ndjson") String format,
+        @RequestParam(required = false) List<String> fields,
+        HttpServletRequest request
+    ) {
+        log.info("GET /api/undervalued-stocks/export - from: {}, to: {}, format: {}, fields: {}", from, to, format, fields);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        StockExportService.Export export = exportService.prepare(from, to, format, fields, gzip);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(export.contentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(export.fileName()).build().toString())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (export.gzip()) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(export.body());
+    }
+
+    /**
+     * GET /api/undervalued-stocks/export/arrow?date=2025-11-07
+     * 날짜 전체를 Arrow IPC 파일로 다운로드 (date 생략 시 최신 날짜, Range 요청 지원)
+     */
+    @GetMapping("/export/arrow")
+    public ResponseEntity<Resource> exportArrow(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        log.info("GET /api/undervalued-stocks/export/arrow - date: {}", date);
+        Path file = arrowExportService.getFile(date);
+        return ResponseEntity.ok()
+            .contentType(ARROW_FILE)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString())
+            .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,50 @@
+package com.ddalkkak.backend.controller;
+
+import com.ddalkkak.backend.dto.IngestionResult;
+import com.ddalkkak.backend.ingest.StockIngestionService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 대량 적재 API
+ * 수집 스크립트가 NDJSON / CSV 를 본문으로 스트리밍 전송 (Content-Encoding: gzip 허용)
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/undervalued-stocks/admin")
+@RequiredArgsConstructor
+@Slf4j
+public class StockIngestionController {
+
+    private final StockIngestionService ingestionService;
+
+    /**
+     * POST /api/undervalued-stocks/admin/ingest?date=2025-11-07&format=ndjson
+     * 특정 날짜 데이터 대량 UPSERT (format: ndjson | csv)
+     */
+    @PostMapping("/ingest")
+    public ResponseEntity<IngestionResult> ingest(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(defaultValue = "ndjson") String format,
+        HttpServletRequest request
+    ) throws IOException {
+        log.info("POST /api/undervalued-stocks/admin/ingest - date: {}, format: {}", date, format);
+        InputStream body = request.getInputStream();
+        if ("gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            body = new GZIPInputStream(body, 1 << 16);
+        }
+        IngestionResult result = ingestionService.ingest(date, format, body);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -1,10 +1,20 @@
 package com.ddalkkak.backend.controller;
 
+import com.ddalkkak.backend.dto.BatchLookupRequest;
+import com.ddalkkak.backend.dto.BatchLookupResponse;
+import com.ddalkkak.backend.dto.CursorPage;
+import com.ddalkkak.backend.dto.ScreenRequest;
+import com.ddalkkak.backend.dto.ScreenResponse;
+import com.ddalkkak.backend.dto.SectorDistributionDto;
+import com.ddalkkak.backend.dto.StockSeriesDto;
+import com.ddalkkak.backend.dto.StockStatisticsDto;
 import com.ddalkkak.backend.dto.UndervaluedStockDto;
 import com.ddalkkak.backend.service.UndervaluedStockService;
+import com.ddalkkak.backend.snapshot.StockMetric;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -19,12 +29,15 @@ import java.util.Map;
  * 저평가 우량주 REST API 컨트롤러
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/undervalued-stocks")
 @RequiredArgsConstructor
 @Slf4j
-@CrossOrigin(origins = "*")  // 프론트엔드 CORS 허용
 public class UndervaluedStockController {
 
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+
     private final UndervaluedStockService service;
 
     // ============================================================
@@ -44,15 +57,18 @@ public class UndervaluedStockController {
     }
 
     /**
-     * GET /api/undervalued-stocks/top?limit=100
+     * GET /api/undervalued-stocks/top?limit=100&view=full
      * 최신 데이터 Top N 조회 (총점 기준)
      */
     @GetMapping("/top")
-    public ResponseEntity<List<UndervaluedStockDto>> getTopStocks(
-        @RequestParam(defaultValue = "100") int limit
+    public ResponseEntity<List<?>> getTopStocks(
+        @RequestParam(defaultValue = "100") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
     ) {
-        log.info("GET /api/undervalued-stocks/top - limit: {}", limit);
-        List<UndervaluedStockDto> stocks = service.getLatestTopStocks(limit);
+        log.info("GET /api/undervalued-stocks/top - limit: {}, view: {}", limit, view);
+        List<?> stocks = isSummary(view)
+            ? service.getLatestTopSummaries(limit)
+            : service.getLatestTopStocks(limit);
         return ResponseEntity.ok(stocks);
     }
 
@@ -69,6 +85,31 @@ public class UndervaluedStockController {
         return ResponseEntity.ok(stock);
     }
 
+    /**
+     * GET /api/undervalued-stocks/batch?tickers=AAPL,MSFT,GOOGL
+     * 여러 티커 일괄 조회 (최신 데이터, 응답 캐시 대상)
+     */
+    @GetMapping("/batch")
+    public ResponseEntity<BatchLookupResponse> getStocksByTickers(
+        @RequestParam List<String> tickers
+    ) {
+        log.info("GET /api/undervalued-stocks/batch - tickers: {}", tickers.size());
+        return ResponseEntity.ok(service.getStocksByTickers(tickers, null));
+    }
+
+    /**
+     * POST /api/undervalued-stocks/batch
+     * 여러 티커 일괄 조회 (본문: {"tickers": [...], "date": "2025-11-07"})
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchLookupResponse> postStocksByTickers(
+        @RequestBody BatchLookupRequest request
+    ) {
+        log.info("POST /api/undervalued-stocks/batch - tickers: {}, date: {}",
+            request.getTickers() != null ? request.getTickers().size() : 0, request.getDate());
+        return ResponseEntity.ok(service.getStocksByTickers(request.getTickers(), request.getDate()));
+    }
+
     /**
      * GET /api/undervalued-stocks/{ticker}/history?date=2025-11-07
      * 특정 날짜의 특정 티커 조회
@@ -83,25 +124,47 @@ public class UndervaluedStockController {
         return ResponseEntity.ok(stock);
     }
 
+    /**
+     * GET /api/undervalued-stocks/{ticker}/series?from=2025-01-01&to=2025-11-07&fields=totalScore,pe&interval=weekly&every=1
+     * 특정 티커 기간 시계열 (날짜 배열 + 지표별 값 배열)
+     */
+    @GetMapping("/{ticker}/series")
+    public ResponseEntity<StockSeriesDto> getStockSeries(
+        @PathVariable String ticker,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) List<String> fields,
+        @RequestParam(defaultValue = "daily") String interval,
+        @RequestParam(defaultValue = "1") int every
+    ) {
+        log.info("GET /api/undervalued-stocks/{}/series - from: {}, to: {}, fields: {}, interval: {}, every: {}",
+            ticker, from, to, fields, interval, every);
+        StockSeriesDto series = service.getTickerSeries(ticker.toUpperCase(), from, to, fields, interval, every);
+        return ResponseEntity.ok(series);
+    }
+
     // ============================================================
     // 프로필 기반 조회
     // ============================================================
 
     /**
-     * GET /api/undervalued-stocks/profile/undervalued-quality?limit=50
+     * GET /api/undervalued-stocks/profile/undervalued-quality?limit=50&view=full
      * 저평가 우량주 프로필 종목 조회
      */
     @GetMapping("/profile/undervalued-quality")
-    public ResponseEntity<List<UndervaluedStockDto>> getUndervaluedQualityStocks(
-        @RequestParam(defaultValue = "50") int limit
+    public ResponseEntity<List<?>> getUndervaluedQualityStocks(
+        @RequestParam(defaultValue = "50") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
     ) {
-        log.info("GET /api/undervalued-stocks/profile/undervalued-quality - limit: {}", limit);
-        List<UndervaluedStockDto> stocks = service.getUndervaluedQualityStocks(limit);
+        log.info("GET /api/undervalued-stocks/profile/undervalued-quality - limit: {}, view: {}", limit, view);
+        List<?> stocks = isSummary(view)
+            ? service.getSummariesByProfile("undervalued_quality", limit)
+            : service.getUndervaluedQualityStocks(limit);
         return ResponseEntity.ok(stocks);
     }
 
     /**
-     * GET /api/undervalued-stocks/profile/{profileName}?limit=50
+     * GET /api/undervalued-stocks/profile/{profileName}?limit=50&view=full
      * 특정 프로필 종목 조회
      *
      * 프로필 목록:
@@ -113,30 +176,54 @@ public class UndervaluedStockController {
      * - swing: 스윙 트레이딩
      */
     @GetMapping("/profile/{profileName}")
-    public ResponseEntity<List<UndervaluedStockDto>> getStocksByProfile(
+    public ResponseEntity<List<?>> getStocksByProfile(
         @PathVariable String profileName,
-        @RequestParam(defaultValue = "50") int limit
+        @RequestParam(defaultValue = "50") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
     ) {
-        log.info("GET /api/undervalued-stocks/profile/{} - limit: {}", profileName, limit);
-        List<UndervaluedStockDto> stocks = service.getStocksByProfile(profileName, limit);
+        log.info("GET /api/undervalued-stocks/profile/{} - limit: {}, view: {}", profileName, limit, view);
+        List<?> stocks = isSummary(view)
+            ? service.getSummariesByProfile(profileName, limit)
+            : service.getStocksByProfile(profileName, limit);
         return ResponseEntity.ok(stocks);
     }
 
     /**
      * GET /api/undervalued-stocks/profile/{profileName}/paging?page=0&size=20&date=2025-11-07
      * 특정 프로필 종목 조회 (페이징)
+     * withTotal=false 이면 전체 개수 없이 다음 페이지 여부(last)만 반환
      */
     @GetMapping("/profile/{profileName}/paging")
-    public ResponseEntity<Page<UndervaluedStockDto>> getStocksByProfileWithPaging(
+    public ResponseEntity<Slice<UndervaluedStockDto>> getStocksByProfileWithPaging(
         @PathVariable String profileName,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "20") int size,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(defaultValue = "true") boolean withTotal
+    ) {
+        log.info("GET /api/undervalued-stocks/profile/{}/paging - page: {}, size: {}, date: {}, withTotal: {}",
+            profileName, page, size, date, withTotal);
+        Slice<UndervaluedStockDto> stocksPage = withTotal
+            ? service.getStocksByProfileWithPaging(profileName, date, page, size)
+            : service.getStocksByProfileSlice(profileName, date, page, size);
+        return ResponseEntity.ok(stocksPage);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/profile/{profileName}/cursor?size=20&cursor=...
+     * 특정 프로필 종목 조회 (커서 페이징, 응답의 nextCursor 로 다음 페이지 요청)
+     */
+    @GetMapping("/profile/{profileName}/cursor")
+    public ResponseEntity<CursorPage<UndervaluedStockDto>> getStocksByProfileWithCursor(
+        @PathVariable String profileName,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ) {
-        log.info("GET /api/undervalued-stocks/profile/{}/paging - page: {}, size: {}, date: {}",
-            profileName, page, size, date);
-        Page<UndervaluedStockDto> stocksPage = service.getStocksByProfileWithPaging(
-            profileName, date, page, size
+        log.info("GET /api/undervalued-stocks/profile/{}/cursor - cursor: {}, size: {}, date: {}",
+            profileName, cursor, size, date);
+        CursorPage<UndervaluedStockDto> stocksPage = service.getStocksByProfileWithCursor(
+            profileName, date, cursor, size
         );
         return ResponseEntity.ok(stocksPage);
     }
@@ -157,19 +244,44 @@ public class UndervaluedStockController {
     }
 
     /**
-     * GET /api/undervalued-stocks/sector/{sectorName}/top?limit=20
+     * GET /api/undervalued-stocks/sector/{sectorName}/top?limit=20&view=full
      * 특정 섹터의 Top 종목 조회
      */
     @GetMapping("/sector/{sectorName}/top")
-    public ResponseEntity<List<UndervaluedStockDto>> getTopStocksBySector(
+    public ResponseEntity<List<?>> getTopStocksBySector(
         @PathVariable String sectorName,
-        @RequestParam(defaultValue = "20") int limit
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
     ) {
-        log.info("GET /api/undervalued-stocks/sector/{}/top - limit: {}", sectorName, limit);
-        List<UndervaluedStockDto> stocks = service.getTopStocksBySector(sectorName, limit);
+        log.info("GET /api/undervalued-stocks/sector/{}/top - limit: {}, view: {}", sectorName, limit, view);
+        List<?> stocks = isSummary(view)
+            ? service.getTopSummariesBySector(sectorName, limit)
+            : service.getTopStocksBySector(sectorName, limit);
         return ResponseEntity.ok(stocks);
     }
 
+    /**
+     * GET /api/undervalued-stocks/sectors/distribution
+     * 전체 섹터의 지표별 분포 (백분위 + 히스토그램)
+     */
+    @GetMapping("/sectors/distribution")
+    public ResponseEntity<List<SectorDistributionDto>> getSectorDistributions() {
+        log.info("GET /api/undervalued-stocks/sectors/distribution");
+        return ResponseEntity.ok(service.getSectorDistributions());
+    }
+
+    /**
+     * GET /api/undervalued-stocks/sectors/{sector}/distribution
+     * 특정 섹터의 지표별 분포 (섹터 중앙값 대비 비교 등)
+     */
+    @GetMapping("/sectors/{sector}/distribution")
+    public ResponseEntity<SectorDistributionDto> getSectorDistribution(
+        @PathVariable String sector
+    ) {
+        log.info("GET /api/undervalued-stocks/sectors/{}/distribution", sector);
+        return ResponseEntity.ok(service.getSectorDistribution(sector));
+    }
+
     // ============================================================
     // 필터링 조회
     // ============================================================
@@ -224,78 +336,134 @@ public class UndervaluedStockController {
     /**
      * GET /api/undervalued-stocks/search?profile=undervalued_quality&sector=Technology&minScore=70&page=0&size=20
      * 다중 조건 검색 (프로필, 섹터, 최소 점수)
+     * withTotal=false 이면 전체 개수 없이 다음 페이지 여부(last)만 반환
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<UndervaluedStockDto>> searchStocks(
+    public ResponseEntity<Slice<UndervaluedStockDto>> searchStocks(
         @RequestParam(required = false) String profile,
         @RequestParam(required = false) String sector,
         @RequestParam(required = false) BigDecimal minScore,
         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
         @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "true") boolean withTotal
+    ) {
+        log.info("GET /api/undervalued-stocks/search - profile: {}, sector: {}, minScore: {}, date: {}, page: {}, size: {}, withTotal: {}",
+            profile, sector, minScore, date, page, size, withTotal);
+
+        Slice<UndervaluedStockDto> stocksPage = withTotal
+            ? service.getStocksWithFilters(profile, sector, minScore, date, page, size)
+            : service.getStocksWithFiltersSlice(profile, sector, minScore, date, page, size);
+        return ResponseEntity.ok(stocksPage);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/search/cursor?profile=undervalued_quality&sector=Technology&minScore=70&size=20&cursor=...
+     * 다중 조건 검색 (커서 페이징, 응답의 nextCursor 로 다음 페이지 요청)
+     */
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorPage<UndervaluedStockDto>> searchStocksWithCursor(
+        @RequestParam(required = false) String profile,
+        @RequestParam(required = false) String sector,
+        @RequestParam(required = false) BigDecimal minScore,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(required = false) String cursor,
         @RequestParam(defaultValue = "20") int size
     ) {
-        log.info("GET /api/undervalued-stocks/search - profile: {}, sector: {}, minScore: {}, date: {}, page: {}, size: {}",
-            profile, sector, minScore, date, page, size);
+        log.info("GET /api/undervalued-stocks/search/cursor - profile: {}, sector: {}, minScore: {}, date: {}, cursor: {}, size: {}",
+            profile, sector, minScore, date, cursor, size);
 
-        Page<UndervaluedStockDto> stocksPage = service.getStocksWithFilters(
-            profile, sector, minScore, date, page, size
+        CursorPage<UndervaluedStockDto> stocksPage = service.getStocksWithFiltersByCursor(
+            profile, sector, minScore, date, cursor, size
         );
         return ResponseEntity.ok(stocksPage);
     }
 
+    /**
+     * POST /api/undervalued-stocks/screen
+     * 임의 지표 조건 스크리닝 (조건 트리 + 정렬 + Top K)
+     *
+     * 요청 예:
+     * {
+     *   "filter": {"and": [{"metric": "peRatio", "op": "<", "value": 15},
+     *                      {"metric": "roe", "op": ">", "value": 0.15},
+     *                      {"metric": "rsi14", "op": "<", "value": 40}]},
+     *   "sort": "fcfYield", "direction": "desc", "limit": 50
+     * }
+     */
+    @PostMapping("/screen")
+    public ResponseEntity<ScreenResponse> screenStocks(@RequestBody ScreenRequest request) {
+        log.info("POST /api/undervalued-stocks/screen - date: {}, sort: {} {}, limit: {}",
+            request.getDate(), request.getSort(), request.getDirection(), request.getLimit());
+        ScreenResponse response = service.screen(request);
+        return ResponseEntity.ok(response);
+    }
+
     // ============================================================
     // Top N 조회 (점수별)
     // ============================================================
 
     /**
-     * GET /api/undervalued-stocks/top/growth?limit=20
+     * GET /api/undervalued-stocks/top/growth?limit=20&view=full
      * 성장성 Top N
      */
     @GetMapping("/top/growth")
-    public ResponseEntity<List<UndervaluedStockDto>> getTopGrowthStocks(
-        @RequestParam(defaultValue = "20") int limit
+    public ResponseEntity<List<?>> getTopGrowthStocks(
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
     ) {
-        log.info("GET /api/undervalued-stocks/top/growth - limit: {}", limit);
-        List<UndervaluedStockDto> stocks = service.getTopGrowthStocks(limit);
+        log.info("GET /api/undervalued-stocks/top/growth - limit: {}, view: {}", limit, view);
+        List<?> stocks = isSummary(view)
+            ? service.getTopSummariesByScore(StockMetric.GROWTH_SCORE, limit)
+            : service.getTopGrowthStocks(limit);
         return ResponseEntity.ok(stocks);
     }
 
     /**
-     * GET /api/undervalued-stocks/top/quality?limit=20
+     * GET /api/undervalued-stocks/top/quality?limit=20&view=full
      * 우량성 Top N
      */
     @GetMapping("/top/quality")
-    public ResponseEntity<List<UndervaluedStockDto>> getTopQualityStocks(
-        @RequestParam(defaultValue = "20") int limit
+    public ResponseEntity<List<?>> getTopQualityStocks(
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
     ) {
-        log.info("GET /api/undervalued-stocks/top/quality - limit: {}", limit);
-        List<UndervaluedStockDto> stocks = service.getTopQualityStocks(limit);
+        log.info("GET /api/undervalued-stocks/top/quality - limit: {}, view: {}", limit, view);
+        List<?> stocks = isSummary(view)
+            ? service.getTopSummariesByScore(StockMetric.QUALITY_SCORE, limit)
+            : service.getTopQualityStocks(limit);
         return ResponseEntity.ok(stocks);
     }
 
     /**
-     * GET /api/undervalued-stocks/top/value?limit=20
+     * GET /api/undervalued-stocks/top/value?limit=20&view=full
      * 가치 Top N
      */
     @GetMapping("/top/value")
-    public ResponseEntity<List<UndervaluedStockDto>> getTopValueStocks(
-        @RequestParam(defaultValue = "20") int limit
+    public ResponseEntity<List<?>> getTopValueStocks(
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
     ) {
-        log.info("GET /api/undervalued-stocks/top/value - limit: {}", limit);
-        List<UndervaluedStockDto> stocks = service.getTopValueStocks(limit);
+        log.info("GET /api/undervalued-stocks/top/value - limit: {}, view: {}", limit, view);
+        List<?> stocks = isSummary(view)
+            ? service.getTopSummariesByScore(StockMetric.VALUE_SCORE, limit)
+            : service.getTopValueStocks(limit);
         return ResponseEntity.ok(stocks);
     }
 
     /**
-     * GET /api/undervalued-stocks/top/momentum?limit=20
+     * GET /api/undervalued-stocks/top/momentum?limit=20&view=full
      * 모멘텀 Top N
      */
     @GetMapping("/top/momentum")
-    public ResponseEntity<List<UndervaluedStockDto>> getTopMomentumStocks(
-        @RequestParam(defaultValue = "20") int limit
+    public ResponseEntity<List<?>> getTopMomentumStocks(
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
     ) {
-        log.info("GET /api/undervalued-stocks/top/momentum - limit: {}", limit);
-        List<UndervaluedStockDto> stocks = service.getTopMomentumStocks(limit);
+        log.info("GET /api/undervalued-stocks/top/momentum - limit: {}, view: {}", limit, view);
+        List<?> stocks = isSummary(view)
+            ? service.getTopSummariesByScore(StockMetric.MOMENTUM_SCORE, limit)
+            : service.getTopMomentumStocks(limit);
         return ResponseEntity.ok(stocks);
     }
 
@@ -305,29 +473,12 @@ public class UndervaluedStockController {
 
     /**
      * GET /api/undervalued-stocks/stats
-     * 전체 통계 조회
+     * 전체 통계 조회 (프로필별 종목 수 + 점수 분포, 게시 시점 사전 집계)
      */
     @GetMapping("/stats")
-    public ResponseEntity<Map<String, Object>> getStatistics() {
+    public ResponseEntity<StockStatisticsDto> getStatistics() {
         log.info("GET /api/undervalued-stocks/stats");
-
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("latestDate", service.getLatestDataDate());
-        stats.put("totalStocks", service.getTotalStockCount());
-        stats.put("averageTotalScore", service.getAverageTotalScore());
-
-        // 각 프로필별 종목 수
-        Map<String, Long> profileCounts = new HashMap<>();
-        profileCounts.put("undervalued_quality", service.getStockCountByProfile("undervalued_quality"));
-        profileCounts.put("value_basic", service.getStockCountByProfile("value_basic"));
-        profileCounts.put("value_strict", service.getStockCountByProfile("value_strict"));
-        profileCounts.put("growth_quality", service.getStockCountByProfile("growth_quality"));
-        profileCounts.put("momentum", service.getStockCountByProfile("momentum"));
-        profileCounts.put("swing", service.getStockCountByProfile("swing"));
-
-        stats.put("profileCounts", profileCounts);
-
-        return ResponseEntity.ok(stats);
+        return ResponseEntity.ok(service.getStatistics());
     }
 
     /**
@@ -374,4 +525,21 @@ public class UndervaluedStockController {
 
         return ResponseEntity.ok(response);
     }
+
+    // ============================================================
+    // Helper
+    // ============================================================
+
+    /**
+     * 목록 응답 형태 (full: 전체 지표, summary: 카드용 요약)
+     */
+    private static boolean isSummary(String view) {
+        if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+            return true;
+        }
+        if (VIEW_FULL.equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new IllegalArgumentException("view 는 summary 또는 full 입니다: " + view);
+    }
 }
@@ -0,0 +1,21 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * POST /api/undervalued-stocks/batch 요청
+ */
+@Data
+@NoArgsConstructor
+public class BatchLookupRequest {
+
+    // 조회할 티커 목록 (대소문자 무관, 중복 제거)
+    private List<String> tickers;
+
+    // 데이터 날짜 (없으면 최신)
+    private LocalDate date;
+}
@@ -0,0 +1,23 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 티커 일괄 조회 응답
+ */
+@Data
+@Builder
+public class BatchLookupResponse {
+
+    private LocalDate dataDate;
+
+    // 찾은 종목 (요청 순서)
+    private List<UndervaluedStockDto> found;
+
+    // 해당 날짜에 데이터가 없는 티커 (요청 순서)
+    private List<String> missing;
+}
@@ -0,0 +1,27 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 커서(키셋) 페이징 응답
+ * nextCursor 를 그대로 다음 요청의 cursor 파라미터로 전달 (hasNext 가 false 면 null)
+ */
+@Data
+@Builder
+public class CursorPage<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor;
+
+    // 커서가 가리키는 데이터 날짜 (적재 중에도 같은 날짜로 계속 조회)
+    private LocalDate dataDate;
+}
@@ -0,0 +1,28 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 고정 구간 히스토그램
+ * 구간 경계는 전체 종목 p1 ~ p99 를 등분한 값으로 모든 섹터가 같은 경계를 사용 (섹터 간 비교 가능)
+ * 경계 밖 값은 underflow / overflow 로 집계
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistogramDto {
+
+    private BigDecimal lower;
+    private BigDecimal upper;
+    private BigDecimal binWidth;
+
+    private int underflow;
+    private int[] counts;
+    private int overflow;
+}
@@ -0,0 +1,27 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 대량 적재 결과
+ */
+@Data
+@Builder
+public class IngestionResult {
+
+    private LocalDate dataDate;
+    private String format;
+
+    // 저장된 행 수 / 값 오류로 건너뛴 행 수
+    private long rows;
+    private long failed;
+
+    private long elapsedMs;
+    private long rowsPerSecond;
+
+    // 기록한 data_collection_logs.id
+    private Long logId;
+}
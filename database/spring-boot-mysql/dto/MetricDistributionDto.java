@@ -0,0 +1,32 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 지표 하나의 분포 (NULL 제외, 백분위는 선형 보간)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricDistributionDto {
+
+    private int count;
+    private BigDecimal mean;
+    private BigDecimal min;
+    private BigDecimal p5;
+    private BigDecimal p10;
+    private BigDecimal p25;
+    private BigDecimal median;
+    private BigDecimal p75;
+    private BigDecimal p90;
+    private BigDecimal p95;
+    private BigDecimal max;
+
+    private HistogramDto histogram;
+}
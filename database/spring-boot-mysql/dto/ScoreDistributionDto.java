@@ -0,0 +1,28 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 점수 분포 요약 (NULL 제외, 백분위는 선형 보간, 모든 값 소수 4자리)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScoreDistributionDto {
+
+    private int count;
+    private BigDecimal mean;
+    private BigDecimal min;
+    private BigDecimal p10;
+    private BigDecimal p25;
+    private BigDecimal median;
+    private BigDecimal p75;
+    private BigDecimal p90;
+    private BigDecimal max;
+}
@@ -0,0 +1,39 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 스크리닝 조건 트리 노드 (아래 중 하나만 지정)
+ *
+ * - and / or: 하위 조건 목록
+ * - not: 하위 조건 1개 (전체 종목 기준 여집합)
+ * - metric + op + value: 지표 비교 (metric 은 필드명/컬럼명/JSON 이름 모두 허용)
+ *     op: lt(<), lte(<=), gt(>), gte(>=), eq(=), ne(!=), between(value~value2), isNull, notNull
+ *     비교 연산은 SQL 처럼 NULL 지표를 제외
+ * - sector: 섹터 일치
+ * - profile: 프로필 통과
+ *
+ * 예) {"and": [{"metric": "peRatio", "op": "<", "value": 15},
+ *              {"metric": "roe", "op": ">", "value": 0.15},
+ *              {"metric": "rsi14", "op": "<", "value": 40}]}
+ */
+@Data
+@NoArgsConstructor
+public class ScreenCondition {
+
+    private List<ScreenCondition> and;
+    private List<ScreenCondition> or;
+    private ScreenCondition not;
+
+    private String metric;
+    private String op;
+    private BigDecimal value;
+    private BigDecimal value2;
+
+    private String sector;
+    private String profile;
+}
@@ -0,0 +1,26 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * POST /api/undervalued-stocks/screen 요청
+ */
+@Data
+@NoArgsConstructor
+public class ScreenRequest {
+
+    // 데이터 날짜 (없으면 최신)
+    private LocalDate date;
+
+    // 조건 트리 (없으면 전체 종목)
+    private ScreenCondition filter;
+
+    // 정렬 지표 (없으면 totalScore), 정렬 방향 asc | desc
+    private String sort;
+    private String direction = "desc";
+
+    private int limit = 50;
+}
@@ -0,0 +1,23 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * POST /api/undervalued-stocks/screen 응답
+ */
+@Data
+@Builder
+public class ScreenResponse {
+
+    private LocalDate dataDate;
+
+    // 조건을 만족한 전체 종목 수
+    private int matched;
+
+    // 정렬 후 상위 limit 개
+    private List<UndervaluedStockDto> content;
+}
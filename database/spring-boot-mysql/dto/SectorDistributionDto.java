@@ -0,0 +1,26 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 섹터별 지표 분포 (/sectors/{sector}/distribution 응답)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SectorDistributionDto {
+
+    private String sector;
+    private LocalDate dataDate;
+    private int stockCount;
+
+    // 응답 JSON 지표 이름 (pe, roe, totalScore ...) → 분포
+    private Map<String, MetricDistributionDto> metrics;
+}
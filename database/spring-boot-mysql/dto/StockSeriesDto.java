@@ -0,0 +1,31 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 티커 시계열 (컬럼형)
+ * dates[i] 의 값은 series 각 배열의 i 번째 (값이 없으면 null)
+ */
+@Data
+@Builder
+public class StockSeriesDto {
+
+    private String ticker;
+    private LocalDate from;
+    private LocalDate to;
+
+    // daily / weekly
+    private String interval;
+    private int every;
+
+    private List<LocalDate> dates;
+
+    // 응답 JSON 지표 이름 (totalScore, pe ...) → 값 배열
+    private Map<String, List<BigDecimal>> series;
+}
@@ -0,0 +1,35 @@
+package com.ddalkkak.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 날짜별 집계 통계 (/stats 응답)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockStatisticsDto {
+
+    private LocalDate latestDate;
+    private long version;
+
+    private long totalStocks;
+    private BigDecimal averageTotalScore;
+
+    // screening_profiles 의 활성 프로필 순서
+    private Map<String, Long> profileCounts;
+
+    // totalScore, growthScore, qualityScore, valueScore, momentumScore
+    private Map<String, ScoreDistributionDto> scoreStats;
+
+    private LocalDateTime computedAt;
+}
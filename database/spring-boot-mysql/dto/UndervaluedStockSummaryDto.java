@@ -0,0 +1,56 @@
+package com.ddalkkak.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 목록 카드용 요약 DTO (view=summary)
+ * 필드 이름은 UndervaluedStockDto 와 같으므로 프론트엔드는 같은 키로 읽으면 된다.
+ * JPQL 생성자 프로젝션에서 이 필드 순서 그대로 생성한다.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+public class UndervaluedStockSummaryDto {
+
+    private String ticker;
+    private String name;
+    private String sector;
+    private String industry;
+
+    private BigDecimal price;
+
+    @JsonProperty("marketCap")
+    private BigDecimal marketCap;
+
+    @JsonProperty("pe")
+    private BigDecimal peRatio;
+
+    @JsonProperty("fairValue")
+    private BigDecimal fairValue;
+
+    private BigDecimal discount;
+
+    @JsonProperty("growthScore")
+    private BigDecimal growthScore;
+
+    @JsonProperty("qualityScore")
+    private BigDecimal qualityScore;
+
+    @JsonProperty("valueScore")
+    private BigDecimal valueScore;
+
+    @JsonProperty("momentumScore")
+    private BigDecimal momentumScore;
+
+    @JsonProperty("totalScore")
+    private BigDecimal totalScore;
+
+    @JsonProperty("dataDate")
+    private LocalDate dataDate;
+}
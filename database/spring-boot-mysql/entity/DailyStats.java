@@ -0,0 +1,49 @@
+package com.ddalkkak.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 날짜별 사전 집계 통계 (daily_stats)
+ * 스냅샷 게시 시 한 번 계산하여 저장하고 /stats 는 이 값을 그대로 응답
+ */
+@Entity
+@Table(name = "daily_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyStats {
+
+    @Id
+    @Column(name = "data_date")
+    private LocalDate dataDate;
+
+    // 집계한 snapshot_versions.id
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "total_stocks", nullable = false)
+    private Integer totalStocks;
+
+    @Column(name = "average_total_score", precision = 10, scale = 4)
+    private BigDecimal averageTotalScore;
+
+    // {"undervalued_quality": 123, ...}
+    @Column(name = "profile_counts", columnDefinition = "JSON")
+    private String profileCountsJson;
+
+    // {"totalScore": {"count": .., "mean": .., "median": .., "p10": .., ...}, ...}
+    @Column(name = "score_stats", columnDefinition = "JSON")
+    private String scoreStatsJson;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+}
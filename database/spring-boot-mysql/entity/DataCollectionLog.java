@@ -0,0 +1,83 @@
+package com.ddalkkak.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 데이터 수집 로그 엔티티 (MySQL 8.0)
+ * Python 수집 스크립트가 수집 후 running 으로 1건 기록하고, 스크리닝 스크립트가 점수 계산 후 completed 로 변경
+ * (대량 적재 API 는 적재 시작 시 running, 커밋 후 completed). completed 가 백엔드 스냅샷 게시 신호
+ */
+@Entity
+@Table(
+    name = "data_collection_logs",
+    indexes = {
+        @Index(name = "idx_collection_date", columnList = "collection_date DESC"),
+        @Index(name = "idx_status", columnList = "status")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DataCollectionLog {
+
+    public static final String STATUS_RUNNING = "running";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String STATUS_FAILED = "failed";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "collection_date", nullable = false)
+    private LocalDate collectionDate;
+
+    @Column(name = "collection_start_time", nullable = false)
+    private LocalDateTime collectionStartTime;
+
+    @Column(name = "collection_end_time")
+    private LocalDateTime collectionEndTime;
+
+    // ============================================================
+    // 통계
+    // ============================================================
+
+    @Column(name = "total_tickers_attempted")
+    private Integer totalTickersAttempted;
+
+    @Column(name = "total_tickers_success")
+    private Integer totalTickersSuccess;
+
+    @Column(name = "total_tickers_failed")
+    private Integer totalTickersFailed;
+
+    @Column(name = "stage1_success")
+    private Integer stage1Success;
+
+    @Column(name = "stage1_failed")
+    private Integer stage1Failed;
+
+    @Column(name = "stage2_success")
+    private Integer stage2Success;
+
+    @Column(name = "stage2_failed")
+    private Integer stage2Failed;
+
+    // 오류 로그 (JSON 배열 문자열)
+    @Column(name = "error_messages", columnDefinition = "JSON")
+    private String errorMessagesJson;
+
+    // 'running' (수집/적재 중, 스크리닝 대기), 'completed' (게시 가능), 'failed'
+    @Column(name = "status", length = 20)
+    private String status;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.ddalkkak.backend.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Mutability;
+import org.hibernate.type.descriptor.java.Immutability;
+
+import java.util.List;
+
+/**
+ * passed_profiles JSON 컬럼 ↔ ProfileSet
+ *
+ * 값이 불변이므로 Hibernate 가 변경 감지용 스냅샷을 만들 때 JSON 을 다시 변환하지 않는다.
+ */
+@Converter
+@Mutability(Immutability.class)
+public class PassedProfilesConverter implements AttributeConverter<List<String>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(List<String> profiles) {
+        return ProfileSet.of(profiles).toJson();
+    }
+
+    @Override
+    public List<String> convertToEntityAttribute(String json) {
+        return ProfileSet.fromJson(json);
+    }
+}
@@ -0,0 +1,68 @@
+package com.ddalkkak.backend.entity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스크리닝 프로필 이름 ↔ 비트 번호 (프로세스 전역, 한 번 부여한 번호는 바뀌지 않음)
+ *
+ * 기동 시 screening_profiles 를 id 순으로 등록하고,
+ * 테이블에 없는 이름이 들어오면 그때 다음 번호를 부여한다.
+ */
+public final class ProfileRegistry {
+
+    private static final Map<String, Integer> INDEX = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[0];
+
+    private ProfileRegistry() {
+    }
+
+    /**
+     * 프로필 목록을 순서대로 등록 (이미 있는 이름은 기존 번호 유지)
+     */
+    public static void register(List<String> profiles) {
+        for (String profile : profiles) {
+            indexOf(profile);
+        }
+    }
+
+    /**
+     * 프로필 비트 번호 (처음 보는 이름이면 새로 부여)
+     */
+    public static int indexOf(String profile) {
+        Integer index = INDEX.get(profile);
+        return index != null ? index : intern(profile);
+    }
+
+    /**
+     * 등록된 프로필의 비트 번호 (없으면 -1, 새로 부여하지 않음)
+     */
+    public static int find(String profile) {
+        Integer index = INDEX.get(profile);
+        return index != null ? index : -1;
+    }
+
+    public static String name(int index) {
+        return names[index];
+    }
+
+    public static int size() {
+        return names.length;
+    }
+
+    private static synchronized int intern(String profile) {
+        Integer index = INDEX.get(profile);
+        if (index != null) {
+            return index;
+        }
+        int next = names.length;
+        String[] grown = Arrays.copyOf(names, next + 1);
+        grown[next] = profile.intern();
+        names = grown;
+        // names 를 먼저 교체해야 다른 스레드가 번호를 본 뒤 name() 으로 찾을 수 있음
+        INDEX.put(grown[next], next);
+        return next;
+    }
+}
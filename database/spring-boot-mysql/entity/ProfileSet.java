@@ -0,0 +1,152 @@
+package com.ddalkkak.backend.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 통과 프로필 집합 (ProfileRegistry 비트 번호 기반 비트마스크, 불변)
+ *
+ * 같은 JSON 문자열은 같은 인스턴스를 재사용하므로 (조합 수가 적음) 행마다 JSON 을 파싱하지 않는다.
+ * 이름 목록은 List 로 실제 접근할 때 한 번만 복원하며, 순서는 프로필 등록(id) 순.
+ */
+public final class ProfileSet extends AbstractList<String> implements RandomAccess {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final TypeReference<List<String>> LIST_TYPE = new TypeReference<>() {};
+
+    // JSON 문자열 → 인스턴스 (조합 수가 비정상적으로 많으면 더 담지 않음)
+    private static final int MAX_INTERNED = 4096;
+    private static final Map<String, ProfileSet> INTERNED = new ConcurrentHashMap<>();
+
+    public static final ProfileSet EMPTY = new ProfileSet(new long[0]);
+
+    private final long[] words;
+    private final int size;
+
+    // 최초 접근 시 복원
+    private volatile String[] names;
+    private volatile String json;
+
+    private ProfileSet(long[] words) {
+        this.words = words;
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        this.size = count;
+    }
+
+    /**
+     * 프로필 이름 목록 → 집합 (중복 제거)
+     */
+    public static ProfileSet of(Collection<String> profiles) {
+        if (profiles instanceof ProfileSet set) {
+            return set;
+        }
+        if (profiles == null || profiles.isEmpty()) {
+            return EMPTY;
+        }
+        long[] words = new long[0];
+        for (String profile : profiles) {
+            if (profile == null) {
+                continue;
+            }
+            int index = ProfileRegistry.indexOf(profile);
+            if (index / 64 >= words.length) {
+                words = Arrays.copyOf(words, index / 64 + 1);
+            }
+            words[index / 64] |= 1L << index;
+        }
+        return new ProfileSet(words);
+    }
+
+    /**
+     * passed_profiles JSON 컬럼 값 → 집합 (잘못된 JSON 은 빈 집합)
+     */
+    public static ProfileSet fromJson(String json) {
+        if (json == null || json.isEmpty()) {
+            return EMPTY;
+        }
+        ProfileSet cached = INTERNED.get(json);
+        if (cached != null) {
+            return cached;
+        }
+        ProfileSet parsed;
+        try {
+            parsed = of(JSON.readValue(json, LIST_TYPE));
+        } catch (JsonProcessingException e) {
+            parsed = EMPTY;
+        }
+        if (INTERNED.size() < MAX_INTERNED) {
+            INTERNED.putIfAbsent(json, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * JSON 배열 문자열 (인스턴스당 한 번 생성)
+     */
+    public String toJson() {
+        String value = json;
+        if (value == null) {
+            try {
+                value = JSON.writeValueAsString(Arrays.asList(names()));
+            } catch (JsonProcessingException e) {
+                value = "[]";
+            }
+            json = value;
+        }
+        return value;
+    }
+
+    public boolean contains(int profileIndex) {
+        int word = profileIndex / 64;
+        return word < words.length && (words[word] & (1L << profileIndex)) != 0;
+    }
+
+    @Override
+    public boolean contains(Object profile) {
+        if (!(profile instanceof String name)) {
+            return false;
+        }
+        int index = ProfileRegistry.find(name);
+        return index >= 0 && contains(index);
+    }
+
+    @Override
+    public String get(int index) {
+        return names()[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private String[] names() {
+        String[] decoded = names;
+        if (decoded == null) {
+            decoded = new String[size];
+            int i = 0;
+            for (int word = 0; word < words.length; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    int bit = Long.numberOfTrailingZeros(bits);
+                    decoded[i++] = ProfileRegistry.name(word * 64 + bit);
+                    bits &= bits - 1;
+                }
+            }
+            names = decoded;
+        }
+        return decoded;
+    }
+}
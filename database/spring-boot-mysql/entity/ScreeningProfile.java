@@ -0,0 +1,36 @@
+package com.ddalkkak.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+/**
+ * 스크리닝 프로필 엔티티 (MySQL 8.0)
+ * 프로필 목록/표시명만 매핑 (필터 기준과 가중치는 Python 스크리너가 사용)
+ */
+@Entity
+@Table(name = "screening_profiles")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScreeningProfile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "profile_name", nullable = false, unique = true, length = 50)
+    private String profileName;
+
+    @Column(name = "display_name", length = 100)
+    private String displayName;
+
+    @Column(name = "description", columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+}
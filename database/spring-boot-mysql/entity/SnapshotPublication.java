@@ -0,0 +1,58 @@
+package com.ddalkkak.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 스냅샷 게시 이력 엔티티 (snapshot_versions)
+ *
+ * 서비스가 읽는 "현재 data_date" 의 기준점.
+ * 가장 최근 published 행의 id 가 데이터 버전, data_date 가 최신 날짜가 된다.
+ * 검증에 실패한 날짜는 rejected 로 남기고 기존 게시본을 유지한다.
+ */
+@Entity
+@Table(
+    name = "snapshot_versions",
+    indexes = {
+        @Index(name = "idx_status_id", columnList = "status, id")
+    }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SnapshotPublication {
+
+    public static final String STATUS_PUBLISHED = "published";
+    public static final String STATUS_REJECTED = "rejected";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "data_date", nullable = false)
+    private LocalDate dataDate;
+
+    @Column(name = "row_count")
+    private Integer rowCount;
+
+    // 'published', 'rejected'
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    // 검증 실패 사유 등
+    @Column(name = "note", length = 500)
+    private String note;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -5,15 +5,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * 저평가 우량주 엔티티 (MySQL 8.0)
@@ -30,6 +26,8 @@ import java.util.ArrayList;
         @Index(name = "idx_data_date", columnList = "data_date"),
         @Index(name = "idx_sector", columnList = "sector"),
         @Index(name = "idx_total_score", columnList = "total_score DESC"),
+        @Index(name = "idx_date_score_id", columnList = "data_date, total_score DESC, id"),
+        @Index(name = "idx_ticker_date_scores", columnList = "ticker, data_date, total_score, growth_score, quality_score, value_score, momentum_score"),
         @Index(name = "idx_market_cap", columnList = "market_cap DESC")
     }
 )
@@ -39,8 +37,6 @@ import java.util.ArrayList;
 @Builder
 public class UndervaluedStock {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -247,42 +243,20 @@ public class UndervaluedStock {
     // ============================================================
     // 스크리닝 프로필 (JSON으로 저장)
     // MySQL은 ARRAY 타입이 없으므로 JSON 컬럼 사용
+    // 프로필 조회는 정규화 테이블 stock_profiles 사용 (sync_stock_profiles 로 동기화)
     // ============================================================
 
+    // 행마다 JSON 을 파싱하지 않도록 같은 JSON 은 같은 ProfileSet(비트마스크) 을 공유
+    // 엔티티에서 목록을 바꿀 때는 새 List 를 set (ProfileSet 은 불변)
+    @Convert(converter = PassedProfilesConverter.class)
     @Column(name = "passed_profiles", columnDefinition = "JSON")
-    private String passedProfilesJson;
-
-    // JSON ↔ List<String> 변환 메서드
-    @Transient
     private List<String> passedProfiles;
 
-    @PostLoad
-    public void afterLoad() {
-        if (passedProfilesJson != null && !passedProfilesJson.isEmpty()) {
-            try {
-                this.passedProfiles = objectMapper.readValue(
-                    passedProfilesJson,
-                    new TypeReference<List<String>>() {}
-                );
-            } catch (JsonProcessingException e) {
-                this.passedProfiles = new ArrayList<>();
-            }
-        } else {
-            this.passedProfiles = new ArrayList<>();
-        }
-    }
-
     @PrePersist
     @PreUpdate
     public void beforeSave() {
-        if (passedProfiles != null) {
-            try {
-                this.passedProfilesJson = objectMapper.writeValueAsString(passedProfiles);
-            } catch (JsonProcessingException e) {
-                this.passedProfilesJson = "[]";
-            }
-        } else {
-            this.passedProfilesJson = "[]";
+        if (passedProfiles == null) {
+            passedProfiles = ProfileSet.EMPTY;
         }
 
         if (createdAt == null) {
@@ -0,0 +1,153 @@
+package com.ddalkkak.backend.export;
+
+import com.ddalkkak.backend.repository.UndervaluedStockRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 날짜별 Arrow IPC 파일 생성 + 로컬 디스크 캐시
+ *
+ * 분석 쪽에서 SQL 로 한 행씩 읽어 DataFrame 을 만드는 대신,
+ * 컬럼형 Arrow 파일을 받아 pyarrow 로 메모리 맵 하면 파싱 없이 바로 쓸 수 있다.
+ *
+ * 캐시 파일명은 날짜 + 지문(행 수, MAX(updated_at)) 이라 재적재되면 자동으로 새 파일을 만든다.
+ * 같은 날짜의 이전 지문 파일은 새 파일 생성 시 삭제.
+ * 생성은 임시 파일에 쓴 뒤 원자적 이동이라 읽는 쪽이 덜 쓴 파일을 볼 일이 없다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ArrowExportService {
+
+    private static final String FINGERPRINT_SQL = "SELECT COUNT(*), COALESCE(UNIX_TIMESTAMP(MAX(updated_at)), 0) "
+        + "FROM undervalued_stocks WHERE data_date = ?";
+    private static final String SELECT_SQL = "SELECT " + ArrowStockWriter.SELECT_COLUMNS
+        + " FROM undervalued_stocks WHERE data_date = ? ORDER BY total_score DESC, id";
+
+    private final DataSource dataSource;
+    private final UndervaluedStockRepository repository;
+
+    private final BufferAllocator allocator = new RootAllocator();
+    // 같은 날짜 동시 생성 방지
+    private final Map<LocalDate, Object> locks = new ConcurrentHashMap<>();
+
+    @Value("${app.export.arrow.cache-dir:${java.io.tmpdir}/ddalkkak-arrow}")
+    private Path cacheDir;
+
+    @Value("${app.export.arrow.batch-size:4096}")
+    private int batchSize;
+
+    /**
+     * 날짜의 Arrow 파일 경로 (캐시에 없으면 생성). date 생략 시 최신 날짜
+     */
+    public Path getFile(LocalDate date) {
+        LocalDate dataDate = date != null ? date : repository.findLatestDataDate()
+            .orElseThrow(() -> new RuntimeException("데이터가 없습니다"));
+
+        String fingerprint = fingerprint(dataDate);
+        Path file = cacheDir.resolve(filePrefix(dataDate) + fingerprint + ".arrow");
+        if (Files.exists(file)) {
+            return file;
+        }
+        synchronized (locks.computeIfAbsent(dataDate, d -> new Object())) {
+            if (!Files.exists(file)) {
+                create(dataDate, file);
+            }
+        }
+        return file;
+    }
+
+    private String fingerprint(LocalDate dataDate) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(FINGERPRINT_SQL)) {
+            statement.setDate(1, Date.valueOf(dataDate));
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                long rows = rs.getLong(1);
+                if (rows == 0) {
+                    throw new RuntimeException("해당 날짜의 데이터가 없습니다: " + dataDate);
+                }
+                return rows + "-" + rs.getLong(2);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Arrow 내보내기 지문 조회 실패: " + dataDate, e);
+        }
+    }
+
+    private void create(LocalDate dataDate, Path file) {
+        long started = System.nanoTime();
+        try {
+            Files.createDirectories(cacheDir);
+            Path temp = Files.createTempFile(cacheDir, filePrefix(dataDate), ".tmp");
+            long rows;
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(
+                     SELECT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                 FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+
+                // MySQL Connector/J 행 단위 스트리밍
+                statement.setFetchSize(Integer.MIN_VALUE);
+                statement.setDate(1, Date.valueOf(dataDate));
+                try (ResultSet rs = statement.executeQuery()) {
+                    rows = ArrowStockWriter.write(rs, allocator, channel, batchSize);
+                }
+            } catch (SQLException | IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            deleteStale(dataDate, file);
+            log.info("Arrow 파일 생성 - {}, {}행, {} bytes, {}ms",
+                dataDate, rows, Files.size(file), (System.nanoTime() - started) / 1_000_000);
+        } catch (SQLException e) {
+            throw new RuntimeException("Arrow 내보내기 실패: " + dataDate, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Arrow 파일 기록 실패: " + dataDate, e);
+        }
+    }
+
+    /**
+     * 같은 날짜의 이전 지문 파일 삭제 (읽는 중인 파일은 OS 가 닫힐 때까지 유지)
+     */
+    private void deleteStale(LocalDate dataDate, Path current) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir, filePrefix(dataDate) + "*.arrow")) {
+            for (Path file : files) {
+                if (!file.equals(current)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static String filePrefix(LocalDate dataDate) {
+        return "undervalued-stocks_" + dataDate + "_";
+    }
+
+    @PreDestroy
+    public void close() {
+        allocator.close();
+    }
+}
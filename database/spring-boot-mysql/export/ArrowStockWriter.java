@@ -0,0 +1,131 @@
+package com.ddalkkak.backend.export;
+
+import com.ddalkkak.backend.entity.ProfileSet;
+import com.ddalkkak.backend.snapshot.StockMetric;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * undervalued_stocks 결과 집합 → Arrow IPC 파일 (record batch 단위)
+ *
+ * 컬럼 타입은 엔티티와 동일하게 맞춘다.
+ * - ticker / name / sector / industry: utf8
+ * - 지표: decimal128(precision, scale) - StockMetric 의 precision/scale 그대로
+ * - passed_profiles: list&lt;utf8&gt;
+ * - data_date: date32 (day)
+ * 결과 집합 컬럼 순서는 {@link #SELECT_COLUMNS} 와 같아야 한다.
+ */
+final class ArrowStockWriter {
+
+    static final String SELECT_COLUMNS = "ticker, name, sector, industry, "
+        + Arrays.stream(StockMetric.values()).map(StockMetric::getColumnName).collect(Collectors.joining(", "))
+        + ", passed_profiles, data_date";
+
+    private static final String[] TEXT_COLUMNS = {"ticker", "name", "sector", "industry"};
+    private static final StockMetric[] METRICS = StockMetric.values();
+
+    static final Schema SCHEMA = buildSchema();
+
+    private ArrowStockWriter() {
+    }
+
+    /**
+     * 결과 집합 전체를 batchSize 행씩 record batch 로 기록, 기록한 행 수 반환
+     */
+    static long write(ResultSet rs, BufferAllocator allocator, WritableByteChannel channel, int batchSize)
+        throws SQLException, IOException {
+
+        long rows = 0;
+        try (VectorSchemaRoot root = VectorSchemaRoot.create(SCHEMA, allocator);
+             ArrowFileWriter writer = new ArrowFileWriter(root, null, channel)) {
+
+            VarCharVector[] texts = new VarCharVector[TEXT_COLUMNS.length];
+            for (int c = 0; c < texts.length; c++) {
+                texts[c] = (VarCharVector) root.getVector(TEXT_COLUMNS[c]);
+            }
+            DecimalVector[] metrics = new DecimalVector[METRICS.length];
+            for (int m = 0; m < metrics.length; m++) {
+                metrics[m] = (DecimalVector) root.getVector(METRICS[m].getColumnName());
+            }
+            ListVector profiles = (ListVector) root.getVector("passed_profiles");
+            DateDayVector dataDate = (DateDayVector) root.getVector("data_date");
+
+            writer.start();
+            boolean more = rs.next();
+            while (more) {
+                root.allocateNew();
+                VarCharVector profileNames = (VarCharVector) profiles.getDataVector();
+                int count = 0;
+                while (more && count < batchSize) {
+                    int column = 1;
+                    for (VarCharVector text : texts) {
+                        String value = rs.getString(column++);
+                        if (value != null) {
+                            text.setSafe(count, value.getBytes(StandardCharsets.UTF_8));
+                        }
+                    }
+                    for (DecimalVector metric : metrics) {
+                        BigDecimal value = rs.getBigDecimal(column++);
+                        if (value != null) {
+                            metric.setSafe(count, value.setScale(metric.getScale()));
+                        }
+                    }
+                    int offset = profiles.startNewValue(count);
+                    List<String> passed = ProfileSet.fromJson(rs.getString(column++));
+                    for (int p = 0; p < passed.size(); p++) {
+                        profileNames.setSafe(offset + p, passed.get(p).getBytes(StandardCharsets.UTF_8));
+                    }
+                    profiles.endValue(count, passed.size());
+                    dataDate.setSafe(count, (int) rs.getDate(column).toLocalDate().toEpochDay());
+
+                    count++;
+                    more = rs.next();
+                }
+                root.setRowCount(count);
+                writer.writeBatch();
+                rows += count;
+            }
+            writer.end();
+        }
+        return rows;
+    }
+
+    private static Schema buildSchema() {
+        List<Field> fields = new ArrayList<>();
+        for (String column : TEXT_COLUMNS) {
+            boolean nullable = !"ticker".equals(column);
+            fields.add(new Field(column, new FieldType(nullable, ArrowType.Utf8.INSTANCE, null), null));
+        }
+        for (StockMetric metric : METRICS) {
+            ArrowType type = new ArrowType.Decimal(metric.getPrecision(), metric.getScale(), 128);
+            fields.add(new Field(metric.getColumnName(), FieldType.nullable(type), null));
+        }
+        Field item = new Field("item", FieldType.notNullable(ArrowType.Utf8.INSTANCE), null);
+        fields.add(new Field("passed_profiles",
+            FieldType.notNullable(ArrowType.List.INSTANCE), List.of(item)));
+        fields.add(new Field("data_date",
+            FieldType.notNullable(new ArrowType.Date(DateUnit.DAY)), null));
+        return new Schema(fields);
+    }
+}
@@ -0,0 +1,74 @@
+package com.ddalkkak.backend.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV (헤더 = DB 컬럼명, NULL 은 빈 값)
+ * 쉼표/따옴표/줄바꿈이 있는 값만 따옴표로 감싼다. passed_profiles 는 JSON 배열 문자열.
+ */
+final class CsvStockRowWriter implements StockRowWriter {
+
+    private final Writer writer;
+    private final int columnCount;
+
+    CsvStockRowWriter(OutputStream out, List<ExportColumn> columns) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+        this.columnCount = columns.size();
+        for (int i = 0; i < columnCount; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns.get(i).getName());
+        }
+        writer.write('\n');
+    }
+
+    @Override
+    public void write(ResultSet rs) throws SQLException, IOException {
+        for (int i = 0; i < columnCount; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = rs.getString(i + 1);
+            if (value != null) {
+                writeValue(value);
+            }
+        }
+        writer.write('\n');
+    }
+
+    private void writeValue(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        // 스트림은 호출자가 닫음
+        writer.flush();
+    }
+}
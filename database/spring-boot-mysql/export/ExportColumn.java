@@ -0,0 +1,89 @@
+package com.ddalkkak.backend.export;
+
+import com.ddalkkak.backend.snapshot.StockMetric;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 내보내기 컬럼 (출력 이름 = DB 컬럼명, 대량 적재 입력으로 그대로 다시 사용 가능)
+ */
+final class ExportColumn {
+
+    enum Kind { TEXT, NUMBER, JSON, DATE }
+
+    private static final List<ExportColumn> ALL = buildAll();
+
+    private final String name;
+    private final Kind kind;
+
+    private ExportColumn(String name, Kind kind) {
+        this.name = name;
+        this.kind = kind;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * 선택한 필드 (없으면 전체). 이름은 DB 컬럼명 / 엔티티 필드명 / 응답 JSON 이름 모두 허용
+     * 순서는 요청 순서, 중복은 제거
+     */
+    static List<ExportColumn> select(List<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return ALL;
+        }
+        Set<ExportColumn> selected = new LinkedHashSet<>();
+        for (String field : fields) {
+            String trimmed = field.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(find(trimmed)
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 필드입니다: " + trimmed)));
+        }
+        if (selected.isEmpty()) {
+            return ALL;
+        }
+        return new ArrayList<>(selected);
+    }
+
+    private static Optional<ExportColumn> find(String field) {
+        Optional<StockMetric> metric = StockMetric.fromName(field);
+        if (metric.isPresent()) {
+            return Optional.of(ALL.get(4 + metric.get().ordinal()));
+        }
+        String column = switch (field.toLowerCase(Locale.ROOT)) {
+            case "passedprofiles", "passed_profiles" -> "passed_profiles";
+            case "datadate", "data_date" -> "data_date";
+            default -> field.toLowerCase(Locale.ROOT);
+        };
+        return ALL.stream().filter(c -> c.name.equals(column)).findFirst();
+    }
+
+    /**
+     * ticker, name, sector, industry, 지표(StockMetric 순서), passed_profiles, data_date
+     */
+    private static List<ExportColumn> buildAll() {
+        List<ExportColumn> columns = new ArrayList<>();
+        columns.add(new ExportColumn("ticker", Kind.TEXT));
+        columns.add(new ExportColumn("name", Kind.TEXT));
+        columns.add(new ExportColumn("sector", Kind.TEXT));
+        columns.add(new ExportColumn("industry", Kind.TEXT));
+        for (StockMetric metric : StockMetric.values()) {
+            columns.add(new ExportColumn(metric.getColumnName(), Kind.NUMBER));
+        }
+        columns.add(new ExportColumn("passed_profiles", Kind.JSON));
+        columns.add(new ExportColumn("data_date", Kind.DATE));
+        return List.copyOf(columns);
+    }
+}
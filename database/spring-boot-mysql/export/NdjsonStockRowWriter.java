@@ -0,0 +1,58 @@
+package com.ddalkkak.backend.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 한 행 = JSON 객체 한 줄 (NULL 컬럼은 생략)
+ * 숫자는 DECIMAL 문자열을 그대로 기록하여 BigDecimal 변환 없이 자릿수 유지
+ */
+final class NdjsonStockRowWriter implements StockRowWriter {
+
+    private final JsonGenerator gen;
+    private final List<ExportColumn> columns;
+    private final SerializableString[] names;
+
+    NdjsonStockRowWriter(OutputStream out, List<ExportColumn> columns, JsonFactory jsonFactory) throws IOException {
+        this.gen = jsonFactory.createGenerator(out);
+        // 스트림은 호출자가 닫음
+        this.gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.columns = columns;
+        this.names = new SerializableString[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            names[i] = new SerializedString(columns.get(i).getName());
+        }
+    }
+
+    @Override
+    public void write(ResultSet rs) throws SQLException, IOException {
+        gen.writeStartObject();
+        for (int i = 0; i < columns.size(); i++) {
+            String value = rs.getString(i + 1);
+            if (value == null) {
+                continue;
+            }
+            gen.writeFieldName(names[i]);
+            switch (columns.get(i).getKind()) {
+                case NUMBER -> gen.writeNumber(value);
+                case JSON -> gen.writeRawValue(value);
+                default -> gen.writeString(value);
+            }
+        }
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        gen.close();
+    }
+}
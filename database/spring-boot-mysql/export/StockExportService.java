@@ -0,0 +1,120 @@
+package com.ddalkkak.backend.export;
+
+import com.ddalkkak.backend.repository.UndervaluedStockRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 기간 데이터 NDJSON / CSV 스트리밍 내보내기
+ *
+ * JPA 엔티티/DTO 를 거치지 않고 JDBC 결과 집합을 한 행씩 읽어 바로 응답 스트림에 쓴다.
+ * MySQL Connector/J 는 fetchSize=Integer.MIN_VALUE + 전방 전용/읽기 전용 문장일 때
+ * 결과를 한 번에 받지 않고 행 단위로 스트리밍하므로, 기간이 길어도 메모리 사용량은 일정하다.
+ * 출력 컬럼명은 DB 컬럼명이라 그대로 대량 적재(/admin/ingest) 입력으로 다시 쓸 수 있다.
+ *
+ * 정렬은 (data_date, id) 라 idx_data_date 순서 그대로 읽고 filesort 없이 첫 행부터 바로 전송된다.
+ * 스트리밍 동안 커넥션 1개를 점유하므로 요청 기간은 app.export.max-days 로 제한.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockExportService {
+
+    private final DataSource dataSource;
+    private final UndervaluedStockRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.export.max-days:366}")
+    private int maxDays;
+
+    /**
+     * 내보내기 요청 (검증은 즉시, 조회/기록은 응답 스트림에 쓸 때 수행)
+     * to 생략 시 최신 날짜, from 생략 시 to 와 같은 날짜
+     */
+    public Export prepare(LocalDate from, LocalDate to, String format, List<String> fields, boolean gzip) {
+        String normalizedFormat = StockRowWriter.format(format);
+        List<ExportColumn> columns = ExportColumn.select(fields);
+
+        LocalDate end = to != null ? to : repository.findLatestDataDate()
+            .orElseThrow(() -> new RuntimeException("데이터가 없습니다"));
+        LocalDate start = from != null ? from : end;
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from 은 to 보다 이후일 수 없습니다: " + start + " > " + end);
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxDays) {
+            throw new IllegalArgumentException("내보내기 기간은 최대 " + maxDays + "일입니다");
+        }
+
+        String fileName = "undervalued-stocks_" + start + "_" + end + "." + normalizedFormat;
+        StreamingResponseBody body = out -> stream(start, end, normalizedFormat, columns, gzip, out);
+        return new Export(normalizedFormat, fileName, gzip, body);
+    }
+
+    private void stream(LocalDate from, LocalDate to, String format, List<ExportColumn> columns,
+                        boolean gzip, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long rows = 0;
+        OutputStream target = gzip ? new GZIPOutputStream(out, 1 << 16) : out;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 selectSql(columns), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            // MySQL Connector/J 행 단위 스트리밍
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setDate(1, Date.valueOf(from));
+            statement.setDate(2, Date.valueOf(to));
+
+            try (ResultSet rs = statement.executeQuery();
+                 StockRowWriter writer = StockRowWriter.of(format, target, columns, objectMapper.getFactory())) {
+                while (rs.next()) {
+                    writer.write(rs);
+                    rows++;
+                }
+            }
+        } catch (SQLException e) {
+            // 헤더는 이미 나갔으므로 상태 코드로 알릴 수 없음 - 연결을 끊어 잘린 응답임을 알림
+            log.error("내보내기 실패 - {} ~ {}, {}행 기록 후 중단", from, to, rows, e);
+            throw new UncheckedIOException(new IOException("내보내기 실패", e));
+        }
+        if (target instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        target.flush();
+        log.info("내보내기 완료 - {} ~ {}, format: {}, {}행, {}ms",
+            from, to, format, rows, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static String selectSql(List<ExportColumn> columns) {
+        return "SELECT " + columns.stream().map(ExportColumn::getName).collect(Collectors.joining(", "))
+            + " FROM undervalued_stocks WHERE data_date BETWEEN ? AND ? ORDER BY data_date, id";
+    }
+
+    /**
+     * 준비된 내보내기 (응답 헤더 정보 + 본문)
+     */
+    public record Export(String format, String fileName, boolean gzip, StreamingResponseBody body) {
+
+        public String contentType() {
+            return "csv".equals(format) ? "text/csv; charset=UTF-8" : "application/x-ndjson";
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ddalkkak.backend.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 결과 행을 출력 스트림에 바로 기록하는 라이터 (행을 모아두지 않음)
+ * 결과 집합의 컬럼 순서는 columns 와 같다.
+ */
+interface StockRowWriter extends Closeable {
+
+    void write(ResultSet rs) throws SQLException, IOException;
+
+    static StockRowWriter of(String format, OutputStream out, List<ExportColumn> columns,
+                             JsonFactory jsonFactory) throws IOException {
+        return switch (format(format)) {
+            case "ndjson" -> new NdjsonStockRowWriter(out, columns, jsonFactory);
+            case "csv" -> new CsvStockRowWriter(out, columns);
+            default -> throw new IllegalStateException(format);
+        };
+    }
+
+    /**
+     * 형식 이름 정규화 (ndjson | csv)
+     */
+    static String format(String format) {
+        return switch (format != null ? format.toLowerCase(Locale.ROOT) : "") {
+            case "ndjson", "jsonl" -> "ndjson";
+            case "csv" -> "csv";
+            default -> throw new IllegalArgumentException("지원하지 않는 형식입니다 (ndjson | csv): " + format);
+        };
+    }
+}
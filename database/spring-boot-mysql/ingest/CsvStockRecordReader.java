@@ -0,0 +1,110 @@
+package com.ddalkkak.backend.ingest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 스트리밍 리더 (첫 줄 헤더, RFC 4180 따옴표 규칙)
+ * 헤더 이름은 DB 컬럼명 / 엔티티 필드명 / JSON 이름 모두 허용
+ */
+final class CsvStockRecordReader implements StockRecordReader {
+
+    private final BufferedReader reader;
+    private final int[] slots;
+
+    // 행마다 재사용하는 버퍼
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder(32);
+    private long line;
+
+    CsvStockRecordReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16);
+        if (!readFields()) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다");
+        }
+        this.slots = new int[fields.size()];
+        for (int i = 0; i < slots.length; i++) {
+            String name = fields.get(i).trim();
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            slots[i] = StockRecord.slotOf(name);
+        }
+    }
+
+    @Override
+    public boolean next(StockRecord record) throws IOException {
+        long started;
+        do {
+            started = line + 1;
+            if (!readFields()) {
+                return false;
+            }
+        } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+        record.clear(started);
+        if (fields.size() > slots.length) {
+            record.fail("컬럼 수(" + fields.size() + ")가 헤더(" + slots.length + ")보다 많습니다");
+            return true;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            record.setText(slots[i], fields.get(i));
+        }
+        return true;
+    }
+
+    /**
+     * 한 레코드의 필드를 fields 에 채움 (따옴표 안 줄바꿈 허용, EOF 면 false)
+     */
+    private boolean readFields() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean any = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                line++;
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!any) {
+            return false;
+        }
+        fields.add(field.toString());
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,92 @@
+package com.ddalkkak.backend.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NDJSON (한 줄에 JSON 객체 하나) 스트리밍 리더
+ * pandas to_json(orient="records", lines=True) 결과의 NaN / Infinity 도 NULL 로 처리
+ */
+final class NdjsonStockRecordReader implements StockRecordReader {
+
+    private static final JsonFactory FACTORY = JsonFactory.builder()
+        .enable(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS)
+        .build();
+
+    private final JsonParser parser;
+
+    // 키 → 슬롯 (행마다 같은 키가 반복되므로 한 번만 해석)
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final List<String> profiles = new ArrayList<>();
+
+    NdjsonStockRecordReader(InputStream in) throws IOException {
+        this.parser = FACTORY.createParser(in);
+    }
+
+    @Override
+    public boolean next(StockRecord record) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return false;
+        }
+        long line = parser.currentTokenLocation().getLineNr();
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("line " + line + ": NDJSON 행은 JSON 객체여야 합니다");
+        }
+        record.clear(line);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            int slot = slots.computeIfAbsent(parser.currentName(), StockRecord::slotOf);
+            token = parser.nextToken();
+            switch (token) {
+                case VALUE_NULL:
+                    record.setNumber(slot, null);
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    record.setNumber(slot, parser.isNaN() ? null : parser.getDecimalValue());
+                    break;
+                case VALUE_STRING:
+                    record.setText(slot, parser.getText());
+                    break;
+                case START_ARRAY:
+                    if (slot == StockRecord.PASSED_PROFILES) {
+                        readProfiles(record);
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return true;
+    }
+
+    private void readProfiles(StockRecord record) throws IOException {
+        profiles.clear();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                profiles.add(parser.getText());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        record.setPassedProfiles(profiles);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,141 @@
+package com.ddalkkak.backend.ingest;
+
+import com.ddalkkak.backend.dto.IngestionResult;
+import com.ddalkkak.backend.entity.DataCollectionLog;
+import com.ddalkkak.backend.repository.DataCollectionLogRepository;
+import com.ddalkkak.backend.snapshot.SnapshotPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NDJSON / CSV 스트리밍 대량 적재
+ *
+ * 1. data_collection_logs 에 running 로그 기록
+ * 2. 입력을 한 행씩 파싱하여 바로 배치 UPSERT (파일 전체를 메모리에 올리지 않음)
+ * 3. sync_stock_profiles(날짜) 로 stock_profiles 재생성
+ * 4. 로그를 completed 로 갱신하고 스냅샷 스테이징/검증 후 게시
+ *
+ * 2~3 은 한 트랜잭션 - 중간에 실패하면 해당 날짜 변경 전체가 롤백되고 로그는 failed (0행) 로 남는다.
+ * undervalued_stocks 와 stock_profiles 가 어긋난 상태로 커밋되지 않으며, UPSERT 라 같은 파일로 다시 적재하면 된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockIngestionService {
+
+    // 로그에 남길 행 오류 최대 개수
+    private static final int MAX_ERROR_MESSAGES = 100;
+
+    private final DataSource dataSource;
+    private final DataCollectionLogRepository logRepository;
+    private final SnapshotPublisher snapshotPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.ingest.batch-size:1000}")
+    private int batchSize;
+
+    public IngestionResult ingest(LocalDate dataDate, String format, InputStream in) {
+        long started = System.nanoTime();
+        DataCollectionLog collectionLog = logRepository.save(DataCollectionLog.builder()
+            .collectionDate(dataDate)
+            .collectionStartTime(LocalDateTime.now())
+            .status(DataCollectionLog.STATUS_RUNNING)
+            .build());
+
+        long written;
+        long failed = 0;
+        List<String> errors = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (StockRecordReader reader = StockRecordReader.of(format, in);
+                 StockUpsertWriter writer = new StockUpsertWriter(connection, dataDate, batchSize)) {
+
+                StockRecord record = new StockRecord();
+                while (reader.next(record)) {
+                    String error = record.getError();
+                    if (error != null) {
+                        failed++;
+                        if (errors.size() < MAX_ERROR_MESSAGES) {
+                            errors.add(error);
+                        }
+                        continue;
+                    }
+                    writer.write(record);
+                }
+                writer.flush();
+                written = writer.getWritten();
+
+                syncStockProfiles(connection, dataDate);
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (Exception e) {
+            log.error("대량 적재 실패 - date: {}, format: {}: {}", dataDate, format, e.getMessage(), e);
+            errors.add(e.getMessage());
+            finishLog(collectionLog, DataCollectionLog.STATUS_FAILED, 0, failed, errors);
+            if (e instanceof IllegalArgumentException) {
+                throw (IllegalArgumentException) e;
+            }
+            throw new RuntimeException("데이터 적재 실패: " + e.getMessage(), e);
+        }
+
+        finishLog(collectionLog, DataCollectionLog.STATUS_COMPLETED, written, failed, errors);
+        snapshotPublisher.onIngestionCompleted(collectionLog.getId());
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        long rowsPerSecond = written * 1000 / elapsedMs;
+        log.info("대량 적재 완료 - date: {}, format: {}, rows: {}, failed: {}, {}ms ({} rows/s)",
+            dataDate, format, written, failed, elapsedMs, rowsPerSecond);
+
+        return IngestionResult.builder()
+            .dataDate(dataDate)
+            .format(format)
+            .rows(written)
+            .failed(failed)
+            .elapsedMs(elapsedMs)
+            .rowsPerSecond(rowsPerSecond)
+            .logId(collectionLog.getId())
+            .build();
+    }
+
+    private static void syncStockProfiles(Connection connection, LocalDate dataDate) throws SQLException {
+        try (CallableStatement call = connection.prepareCall("{call sync_stock_profiles(?)}")) {
+            call.setDate(1, Date.valueOf(dataDate));
+            call.execute();
+        }
+    }
+
+    private void finishLog(DataCollectionLog collectionLog, String status, long written, long failed, List<String> errors) {
+        collectionLog.setCollectionEndTime(LocalDateTime.now());
+        collectionLog.setTotalTickersAttempted((int) (written + failed));
+        collectionLog.setTotalTickersSuccess((int) written);
+        collectionLog.setTotalTickersFailed((int) failed);
+        collectionLog.setStatus(status);
+        try {
+            collectionLog.setErrorMessagesJson(errors.isEmpty() ? null : objectMapper.writeValueAsString(errors));
+        } catch (JsonProcessingException e) {
+            log.warn("오류 메시지 직렬화 실패: {}", e.getMessage());
+        }
+        logRepository.save(collectionLog);
+    }
+}
@@ -0,0 +1,221 @@
+package com.ddalkkak.backend.ingest;
+
+import com.ddalkkak.backend.snapshot.StockMetric;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 적재 중인 한 행 버퍼 (리더가 채우고 writer 가 바인딩, 행마다 재사용)
+ *
+ * 키는 DB 컬럼명 / 엔티티 필드명 / 응답 JSON 이름을 모두 허용하고
+ * 모르는 키(id, data_date, created_at 등)는 무시한다. data_date 는 요청 값으로 고정.
+ */
+final class StockRecord {
+
+    static final int UNKNOWN = -1;
+    static final int TICKER = -2;
+    static final int NAME = -3;
+    static final int SECTOR = -4;
+    static final int INDUSTRY = -5;
+    static final int PASSED_PROFILES = -6;
+
+    private static final StockMetric[] METRICS = StockMetric.values();
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {
+    };
+    private static final Map<String, Integer> TEXT_SLOTS = new HashMap<>();
+
+    static {
+        TEXT_SLOTS.put("ticker", TICKER);
+        TEXT_SLOTS.put("name", NAME);
+        TEXT_SLOTS.put("sector", SECTOR);
+        TEXT_SLOTS.put("industry", INDUSTRY);
+        TEXT_SLOTS.put("passed_profiles", PASSED_PROFILES);
+        TEXT_SLOTS.put("passedProfiles", PASSED_PROFILES);
+    }
+
+    private String ticker;
+    private String name;
+    private String sector;
+    private String industry;
+    private String passedProfilesJson;
+    private final BigDecimal[] metrics = new BigDecimal[METRICS.length];
+
+    // 값 변환 실패 시 첫 오류 (행은 건너뜀)
+    private String error;
+    private long line;
+
+    /**
+     * 키 → 슬롯 (지표는 ordinal, 문자 컬럼은 음수 상수, 모르면 UNKNOWN)
+     */
+    static int slotOf(String key) {
+        Integer text = TEXT_SLOTS.get(key);
+        if (text != null) {
+            return text;
+        }
+        return StockMetric.fromName(key).map(Enum::ordinal).orElse(UNKNOWN);
+    }
+
+    void clear(long line) {
+        ticker = null;
+        name = null;
+        sector = null;
+        industry = null;
+        passedProfilesJson = null;
+        Arrays.fill(metrics, null);
+        error = null;
+        this.line = line;
+    }
+
+    /**
+     * 문자열 값 설정 (숫자 컬럼이면 파싱, 빈 값 / NaN / None 은 NULL)
+     */
+    void setText(int slot, String value) {
+        switch (slot) {
+            case UNKNOWN:
+                return;
+            case TICKER:
+                ticker = value != null ? value.trim().toUpperCase(Locale.ROOT) : null;
+                return;
+            case NAME:
+                name = blankToNull(value);
+                return;
+            case SECTOR:
+                sector = blankToNull(value);
+                return;
+            case INDUSTRY:
+                industry = blankToNull(value);
+                return;
+            case PASSED_PROFILES:
+                setPassedProfiles(parseProfiles(value));
+                return;
+            default:
+                setNumber(slot, parseNumber(slot, value));
+        }
+    }
+
+    /**
+     * 숫자 값 설정 (컬럼 scale 로 반올림, precision 초과 시 행 오류)
+     */
+    void setNumber(int slot, BigDecimal value) {
+        if (slot < 0) {
+            if (slot != UNKNOWN) {
+                setText(slot, value != null ? value.toPlainString() : null);
+            }
+            return;
+        }
+        if (value == null) {
+            metrics[slot] = null;
+            return;
+        }
+        StockMetric metric = METRICS[slot];
+        BigDecimal scaled = value.setScale(metric.getScale(), RoundingMode.HALF_UP);
+        if (scaled.precision() > metric.getPrecision()) {
+            fail(metric.getColumnName() + " 값이 DECIMAL(" + metric.getPrecision() + ", "
+                + metric.getScale() + ") 범위를 벗어남: " + value);
+            return;
+        }
+        metrics[slot] = scaled;
+    }
+
+    /**
+     * 통과 프로필 목록 설정 (JSON 배열 문자열로 저장)
+     */
+    void setPassedProfiles(List<String> profiles) {
+        if (profiles == null) {
+            passedProfilesJson = null;
+            return;
+        }
+        try {
+            passedProfilesJson = JSON.writeValueAsString(profiles);
+        } catch (JsonProcessingException e) {
+            fail("passed_profiles 변환 실패: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * CSV 값: JSON 배열 문자열(["a","b"]) 또는 | 구분 목록(a|b)
+     */
+    private List<String> parseProfiles(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String text = value.trim();
+        if (text.startsWith("[")) {
+            try {
+                return JSON.readValue(text, STRING_LIST);
+            } catch (JsonProcessingException e) {
+                fail("passed_profiles JSON 형식 오류: " + value);
+                return null;
+            }
+        }
+        return Arrays.stream(text.split("\\|"))
+            .map(String::trim)
+            .filter(profile -> !profile.isEmpty())
+            .toList();
+    }
+
+    void fail(String message) {
+        if (error == null) {
+            error = "line " + line + ": " + message;
+        }
+    }
+
+    private BigDecimal parseNumber(int slot, String value) {
+        String text = value != null ? value.trim() : "";
+        if (text.isEmpty() || text.equalsIgnoreCase("nan") || text.equalsIgnoreCase("none")
+            || text.equalsIgnoreCase("null") || text.equalsIgnoreCase("inf") || text.equalsIgnoreCase("-inf")) {
+            return null;
+        }
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            fail(METRICS[slot].getColumnName() + " 숫자 형식 오류: " + value);
+            return null;
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    String getTicker() {
+        return ticker;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getSector() {
+        return sector;
+    }
+
+    String getIndustry() {
+        return industry;
+    }
+
+    String getPassedProfilesJson() {
+        return passedProfilesJson;
+    }
+
+    BigDecimal getMetric(StockMetric metric) {
+        return metrics[metric.ordinal()];
+    }
+
+    String getError() {
+        if (error == null && (ticker == null || ticker.isEmpty())) {
+            return "line " + line + ": ticker 가 없습니다";
+        }
+        return error;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ddalkkak.backend.ingest;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+/**
+ * 입력 스트림에서 한 행씩 읽어 StockRecord 를 채우는 리더
+ * 파일 전체를 메모리에 올리지 않고 스트림을 따라가며 파싱한다.
+ */
+interface StockRecordReader extends Closeable {
+
+    /**
+     * 다음 행을 record 에 채움 (더 없으면 false)
+     * 행 단위 값 오류는 record 에 기록하고, 형식 자체가 깨진 경우만 예외
+     */
+    boolean next(StockRecord record) throws IOException;
+
+    static StockRecordReader of(String format, InputStream in) throws IOException {
+        switch (format != null ? format.toLowerCase(Locale.ROOT) : "") {
+            case "ndjson":
+            case "jsonl":
+                return new NdjsonStockRecordReader(in);
+            case "csv":
+                return new CsvStockRecordReader(in);
+            default:
+                throw new IllegalArgumentException("지원하지 않는 형식입니다 (ndjson | csv): " + format);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.ddalkkak.backend.ingest;
+
+import com.ddalkkak.backend.snapshot.StockMetric;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * undervalued_stocks 배치 UPSERT (JPA 영속성 컨텍스트를 거치지 않는 JDBC 경로)
+ *
+ * INSERT ... ON DUPLICATE KEY UPDATE 를 batchSize 행씩 executeBatch 한다.
+ * 커밋은 하지 않는다 - 호출자가 적재 전체를 한 트랜잭션으로 커밋/롤백.
+ * 연결 URL 에 rewriteBatchedStatements=true 가 있으면 드라이버가 배치를
+ * 다중 행 INSERT 한 문장으로 재작성하므로 왕복 횟수가 배치당 1회가 된다.
+ */
+final class StockUpsertWriter implements AutoCloseable {
+
+    private static final StockMetric[] METRICS = StockMetric.values();
+    private static final String SQL = buildSql();
+
+    private final PreparedStatement statement;
+    private final Date dataDate;
+    private final int batchSize;
+
+    private int pending;
+    private long written;
+
+    StockUpsertWriter(Connection connection, LocalDate dataDate, int batchSize) throws SQLException {
+        this.statement = connection.prepareStatement(SQL);
+        this.dataDate = Date.valueOf(dataDate);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 컬럼 순서: ticker, name, sector, industry, 지표(StockMetric 순서), passed_profiles, data_date
+     * (unique_ticker_date 충돌 시 id / created_at 을 제외한 전체 갱신)
+     */
+    private static String buildSql() {
+        List<String> columns = new ArrayList<>();
+        columns.add("ticker");
+        columns.add("name");
+        columns.add("sector");
+        columns.add("industry");
+        for (StockMetric metric : METRICS) {
+            columns.add(metric.getColumnName());
+        }
+        columns.add("passed_profiles");
+        columns.add("data_date");
+
+        StringBuilder sql = new StringBuilder("INSERT INTO undervalued_stocks (")
+            .append(String.join(", ", columns))
+            .append(") VALUES (")
+            .append(String.join(", ", Collections.nCopies(columns.size(), "?")))
+            .append(") ON DUPLICATE KEY UPDATE ");
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i);
+            if (column.equals("ticker") || column.equals("data_date")) {
+                continue;
+            }
+            sql.append(column).append(" = VALUES(").append(column).append("), ");
+        }
+        return sql.append("updated_at = CURRENT_TIMESTAMP").toString();
+    }
+
+    void write(StockRecord record) throws SQLException {
+        int index = 1;
+        statement.setString(index++, record.getTicker());
+        setNullableString(index++, record.getName());
+        setNullableString(index++, record.getSector());
+        setNullableString(index++, record.getIndustry());
+        for (StockMetric metric : METRICS) {
+            statement.setBigDecimal(index++, record.getMetric(metric));
+        }
+        setNullableString(index++, record.getPassedProfilesJson());
+        statement.setDate(index, dataDate);
+        statement.addBatch();
+
+        if (++pending >= batchSize) {
+            flush();
+        }
+    }
+
+    void flush() throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        statement.executeBatch();
+        written += pending;
+        pending = 0;
+    }
+
+    /**
+     * 실행한 행 수 (커밋 전)
+     */
+    long getWritten() {
+        return written;
+    }
+
+    private void setNullableString(int index, String value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.VARCHAR);
+        } else {
+            statement.setString(index, value);
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        statement.close();
+    }
+}
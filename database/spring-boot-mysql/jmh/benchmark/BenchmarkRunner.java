@@ -0,0 +1,32 @@
+package com.ddalkkak.backend.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 읽기 경로 벤치마크 실행기 (IDE 실행용)
+ *
+ * 인자로 벤치마크 이름 정규식을 줄 수 있다 (기본: 전체).
+ * GC 프로파일러를 항상 켜서 시간과 함께 연산당 할당 바이트(gc.alloc.rate.norm)를 출력하고,
+ * 결과는 build/jmh-result.json 에 남긴다.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com\\.ddalkkak\\.backend\\..*Benchmark";
+        Options options = new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result("build/jmh-result.json")
+            .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,153 @@
+package com.ddalkkak.backend.benchmark;
+
+import com.ddalkkak.backend.entity.ProfileRegistry;
+import com.ddalkkak.backend.entity.ProfileSet;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import com.ddalkkak.backend.snapshot.StockMetric;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 결정적 합성 데이터셋
+ *
+ * 같은 seed / rows 면 항상 같은 종목 목록을 만든다 (실행 간 결과 비교용).
+ * 지표 값은 컬럼 precision/scale 범위 안에서 생성하고, 약 10% 는 실제 데이터처럼 NULL 로 둔다.
+ */
+public final class SyntheticDataset {
+
+    public static final long DEFAULT_SEED = 20240101L;
+    public static final LocalDate DATA_DATE = LocalDate.of(2024, 1, 2);
+
+    public static final List<String> PROFILES = List.of(
+        "undervalued_quality", "value_basic", "value_strict", "growth_quality");
+
+    public static final List<String> SECTORS = List.of(
+        "Technology", "Healthcare", "Financial Services", "Consumer Cyclical", "Industrials",
+        "Communication Services", "Consumer Defensive", "Energy", "Utilities", "Real Estate", "Basic Materials");
+
+    private static final double NULL_RATIO = 0.1;
+
+    // 지표별 엔티티 필드 (생성 시 한 번만 조회)
+    private static final Map<StockMetric, Field> FIELDS = new EnumMap<>(StockMetric.class);
+
+    static {
+        ProfileRegistry.register(PROFILES);
+        for (StockMetric metric : StockMetric.values()) {
+            try {
+                Field field = UndervaluedStock.class.getDeclaredField(metric.getFieldName());
+                field.setAccessible(true);
+                FIELDS.put(metric, field);
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException("엔티티에 지표 필드가 없습니다: " + metric.getFieldName(), e);
+            }
+        }
+    }
+
+    private SyntheticDataset() {
+    }
+
+    /**
+     * 기본 seed 로 rows 건 생성
+     */
+    public static List<UndervaluedStock> stocks(int rows) {
+        return stocks(rows, DEFAULT_SEED);
+    }
+
+    /**
+     * seed 기반 rows 건 생성 (id 1..rows, ticker 는 id 순서대로 고유)
+     */
+    public static List<UndervaluedStock> stocks(int rows, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime updatedAt = DATA_DATE.atTime(18, 0);
+        List<UndervaluedStock> stocks = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String sector = SECTORS.get(random.nextInt(SECTORS.size()));
+            UndervaluedStock stock = UndervaluedStock.builder()
+                .id((long) i + 1)
+                .ticker(ticker(i))
+                .name("Synthetic Corp " + i)
+                .sector(sector)
+                .industry(sector + " " + (char) ('A' + random.nextInt(6)))
+                .passedProfiles(profiles(random))
+                .dataDate(DATA_DATE)
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build();
+            for (StockMetric metric : StockMetric.values()) {
+                if (random.nextDouble() >= NULL_RATIO) {
+                    set(stock, metric, value(metric, random));
+                }
+            }
+            stocks.add(stock);
+        }
+        return stocks;
+    }
+
+    /**
+     * 행별 passed_profiles JSON 원문 (컬럼 변환 벤치마크 입력)
+     */
+    public static List<String> passedProfilesJson(List<UndervaluedStock> stocks) {
+        List<String> json = new ArrayList<>(stocks.size());
+        for (UndervaluedStock stock : stocks) {
+            json.add(ProfileSet.of(stock.getPassedProfiles()).toJson());
+        }
+        return json;
+    }
+
+    // A, B, ..., Z, AA, AB, ... (id 순서대로 고유)
+    private static String ticker(int index) {
+        StringBuilder ticker = new StringBuilder();
+        int n = index;
+        do {
+            ticker.insert(0, (char) ('A' + n % 26));
+            n = n / 26 - 1;
+        } while (n >= 0);
+        return ticker.toString();
+    }
+
+    private static List<String> profiles(SplittableRandom random) {
+        List<String> passed = new ArrayList<>(PROFILES.size());
+        for (String profile : PROFILES) {
+            if (random.nextInt(4) == 0) {
+                passed.add(profile);
+            }
+        }
+        return ProfileSet.of(passed);
+    }
+
+    // 점수는 0~100, 나머지는 정수부 자릿수의 절반 범위 안에서 부호 포함 생성
+    private static BigDecimal value(StockMetric metric, SplittableRandom random) {
+        long bound;
+        boolean signed;
+        if (metric.ordinal() >= StockMetric.GROWTH_SCORE.ordinal()) {
+            bound = 100;
+            signed = false;
+        } else {
+            int integerDigits = Math.max(1, Math.min(12, (metric.getPrecision() - metric.getScale() + 1) / 2));
+            bound = (long) Math.pow(10, integerDigits);
+            signed = metric != StockMetric.PRICE && metric != StockMetric.MARKET_CAP;
+        }
+        long unscaledBound = bound * (long) Math.pow(10, metric.getScale());
+        long unscaled = random.nextLong(unscaledBound);
+        if (signed && random.nextInt(5) == 0) {
+            unscaled = -unscaled;
+        }
+        return BigDecimal.valueOf(unscaled, metric.getScale());
+    }
+
+    private static void set(UndervaluedStock stock, StockMetric metric, BigDecimal value) {
+        try {
+            FIELDS.get(metric).set(stock, value);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
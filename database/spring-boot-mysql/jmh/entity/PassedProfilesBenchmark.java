@@ -0,0 +1,76 @@
+package com.ddalkkak.backend.entity;
+
+import com.ddalkkak.backend.benchmark.SyntheticDataset;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * passed_profiles JSON 컬럼 로딩 벤치마크
+ *
+ * - objectMapperPerRow: 엔티티 로딩 후 행마다 ObjectMapper 로 JSON 배열을 파싱하던 기존 방식
+ * - converter: PassedProfilesConverter (같은 JSON 은 인턴된 ProfileSet 재사용)
+ * - converterAndRead: 변환 후 이름 목록까지 읽는 경우 (DTO 직렬화 시점과 동일)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PassedProfilesBenchmark {
+
+    private static final TypeReference<List<String>> LIST_TYPE = new TypeReference<>() {};
+
+    @Param({"20", "100", "5000"})
+    private int rows;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final PassedProfilesConverter converter = new PassedProfilesConverter();
+    private List<String> json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        json = SyntheticDataset.passedProfilesJson(SyntheticDataset.stocks(rows));
+    }
+
+    @Benchmark
+    public void objectMapperPerRow(Blackhole blackhole) throws JsonProcessingException {
+        for (String value : json) {
+            blackhole.consume(objectMapper.readValue(value, LIST_TYPE));
+        }
+    }
+
+    @Benchmark
+    public void converter(Blackhole blackhole) {
+        for (String value : json) {
+            blackhole.consume(converter.convertToEntityAttribute(value));
+        }
+    }
+
+    @Benchmark
+    public void converterAndRead(Blackhole blackhole) {
+        for (String value : json) {
+            List<String> profiles = converter.convertToEntityAttribute(value);
+            for (int i = 0; i < profiles.size(); i++) {
+                blackhole.consume(profiles.get(i));
+            }
+        }
+    }
+}
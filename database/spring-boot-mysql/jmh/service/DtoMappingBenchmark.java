@@ -0,0 +1,73 @@
+package com.ddalkkak.backend.service;
+
+import com.ddalkkak.backend.benchmark.SyntheticDataset;
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import com.ddalkkak.backend.snapshot.StockSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → DTO 변환 벤치마크
+ *
+ * - entityToDto / entityToDtoList: DB 경로 (UndervaluedStockService.toDto / toDtos)
+ * - snapshotToDtoList: 스냅샷 경로 (컬럼 배열 → DTO, 행마다 BigDecimal 생성)
+ * 응답 크기별 비교를 위해 행 수는 20 (목록 기본) / 100 (페이지 최대) / 5000 (전체 종목)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "100", "5000"})
+    private int rows;
+
+    private List<UndervaluedStock> stocks;
+    private StockSnapshot snapshot;
+    private int[] snapshotRows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stocks = SyntheticDataset.stocks(rows);
+        snapshot = StockSnapshot.of(SyntheticDataset.DATA_DATE, stocks);
+        snapshotRows = snapshot.top(rows);
+    }
+
+    @Benchmark
+    public void entityToDto(Blackhole blackhole) {
+        for (UndervaluedStock stock : stocks) {
+            blackhole.consume(UndervaluedStockService.toDto(stock));
+        }
+    }
+
+    @Benchmark
+    public List<UndervaluedStockDto> entityToDtoList() {
+        return UndervaluedStockService.toDtos(stocks);
+    }
+
+    @Benchmark
+    public void snapshotToDtoList(Blackhole blackhole) {
+        // StockRowList 는 지연 변환이므로 get(i) 로 실제 DTO 를 만든다
+        List<UndervaluedStockDto> dtos = snapshot.toDtoList(snapshotRows);
+        for (int i = 0; i < dtos.size(); i++) {
+            blackhole.consume(dtos.get(i));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.benchmark.SyntheticDataset;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 서비스 필터 / 정렬 연산 벤치마크 (행 번호 선택까지, DTO 변환 제외)
+ *
+ * 스냅샷 경로 연산과 같은 조건을 엔티티 목록 stream 으로 처리하는 기준선을 함께 잰다.
+ * - filters: getStocksWithFilters (프로필 + 섹터 + 최소 총점, total_score 순 페이지)
+ * - sector: getTopStocksBySector
+ * - orderBy: 지표 내림차순 상위 N (rowsOrderedBy 는 스냅샷당 1회 계산 후 캐시)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FilterSortBenchmark {
+
+    private static final String PROFILE = "undervalued_quality";
+    private static final String SECTOR = "Technology";
+    private static final BigDecimal MIN_SCORE = new BigDecimal("50");
+    private static final int LIMIT = 20;
+
+    @Param({"5000"})
+    private int rows;
+
+    private List<UndervaluedStock> stocks;
+    private StockSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stocks = SyntheticDataset.stocks(rows);
+        snapshot = StockSnapshot.of(SyntheticDataset.DATA_DATE, stocks);
+        snapshot.rowsOrderedBy(StockMetric.MARKET_CAP);
+    }
+
+    // ============================================================
+    // 스냅샷 경로
+    // ============================================================
+
+    @Benchmark
+    public int[] snapshotFilters() {
+        BitSet matched = snapshot.match(PROFILE, SECTOR, MIN_SCORE);
+        return snapshot.select(matched, 0, LIMIT);
+    }
+
+    @Benchmark
+    public int[] snapshotSector() {
+        return snapshot.selectFrom(snapshot.sectorRows(snapshot.sectorCode(SECTOR)), null, 0, LIMIT);
+    }
+
+    @Benchmark
+    public int[] snapshotOrderBy() {
+        return snapshot.selectFrom(snapshot.rowsOrderedBy(StockMetric.MARKET_CAP), null, 0, LIMIT);
+    }
+
+    @Benchmark
+    public int[] snapshotFiltersOrderBy() {
+        BitSet matched = snapshot.match(PROFILE, null, null);
+        return ScreenEngine.top(snapshot, matched, StockMetric.MARKET_CAP, false, LIMIT);
+    }
+
+    // ============================================================
+    // 엔티티 목록 기준선
+    // ============================================================
+
+    @Benchmark
+    public List<UndervaluedStock> streamFilters() {
+        return stocks.stream()
+            .filter(stock -> stock.getPassedProfiles().contains(PROFILE))
+            .filter(stock -> SECTOR.equals(stock.getSector()))
+            .filter(stock -> stock.getTotalScore() != null && stock.getTotalScore().compareTo(MIN_SCORE) >= 0)
+            .sorted(Comparator.comparing(UndervaluedStock::getTotalScore, Comparator.reverseOrder())
+                .thenComparing(UndervaluedStock::getId))
+            .limit(LIMIT)
+            .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<UndervaluedStock> streamOrderBy() {
+        return stocks.stream()
+            .filter(stock -> stock.getMarketCap() != null)
+            .sorted(Comparator.comparing(UndervaluedStock::getMarketCap, Comparator.reverseOrder()))
+            .limit(LIMIT)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,90 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.benchmark.SyntheticDataset;
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List&lt;UndervaluedStockDto&gt; JSON 직렬화 벤치마크
+ *
+ * - dtoList: DB 경로 응답 (ArrayList of DTO, BigDecimal 필드)
+ * - rowList: 스냅샷 경로 응답 (StockRowList, unscaled long 에서 바로 출력)
+ * ObjectMapper 는 application.properties 의 spring.jackson.* 설정과 같은 구성.
+ * 반환값은 출력 바이트 수 (-prof gc 의 gc.alloc.rate.norm 으로 요청당 할당량 비교).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SerializationBenchmark {
+
+    @Param({"20", "100", "5000"})
+    private int rows;
+
+    private ObjectWriter writer;
+    private List<UndervaluedStockDto> dtoList;
+    private List<UndervaluedStockDto> rowList;
+    private ByteArrayOutputStream out;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd");
+        dateFormat.setTimeZone(TimeZone.getTimeZone("Asia/Seoul"));
+        ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new StockRowListModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .setDateFormat(dateFormat)
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory()
+            .constructCollectionType(List.class, UndervaluedStockDto.class));
+
+        List<UndervaluedStock> stocks = SyntheticDataset.stocks(rows);
+        StockSnapshot snapshot = StockSnapshot.of(SyntheticDataset.DATA_DATE, stocks);
+        rowList = snapshot.toDtoList(snapshot.top(rows));
+        // 같은 행 순서로 DTO 를 미리 만들어 둔다 (변환 비용 제외)
+        dtoList = new ArrayList<>(rowList);
+        out = new ByteArrayOutputStream(rows * 2048);
+    }
+
+    @Benchmark
+    public int dtoList() throws IOException {
+        out.reset();
+        writer.writeValue(out, dtoList);
+        return out.size();
+    }
+
+    @Benchmark
+    public int rowList() throws IOException {
+        out.reset();
+        writer.writeValue(out, rowList);
+        return out.size();
+    }
+}
@@ -0,0 +1,141 @@
+package com.ddalkkak.backend.loadtest;
+
+import com.ddalkkak.backend.loadtest.WorkloadMix.Operation;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 종류별 지연 히스토그램 (HdrHistogram, 마이크로초)
+ *
+ * 응답 스레드는 Recorder 에 기록만 하고 (잠금 없음), 집계 스레드가 주기마다 구간 히스토그램을 꺼내
+ * 진행 상황을 출력한 뒤 누적 히스토그램에 더한다.
+ * 지연은 실제 전송 시각이 아니라 예정 도착 시각부터 재므로 (coordinated omission 보정)
+ * 서버가 밀려 전송이 늦어진 시간도 지연에 포함된다.
+ */
+final class LatencyRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final List<Operation> operations;
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> totals = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+    private final Histogram overall = new Histogram(SIGNIFICANT_DIGITS);
+    private final AtomicLong dropped = new AtomicLong();
+
+    LatencyRecorder(List<Operation> operations) {
+        this.operations = operations;
+        for (Operation operation : operations) {
+            recorders.put(operation, new Recorder(SIGNIFICANT_DIGITS));
+            totals.put(operation, new Histogram(SIGNIFICANT_DIGITS));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    void success(Operation operation, long latencyMicros) {
+        recorders.get(operation).recordValue(Math.max(1, latencyMicros));
+    }
+
+    void error(Operation operation) {
+        errors.get(operation).incrementAndGet();
+    }
+
+    /**
+     * 동시 요청 상한 초과로 보내지 못한 요청 (서버가 도착률을 따라가지 못함)
+     */
+    void dropped() {
+        dropped.incrementAndGet();
+    }
+
+    boolean hasFailures() {
+        return dropped.get() > 0 || errors.values().stream().anyMatch(count -> count.get() > 0);
+    }
+
+    /**
+     * 측정 시작 전 (워밍업) 기록 폐기
+     */
+    synchronized void reset() {
+        recorders.values().forEach(Recorder::reset);
+        totals.values().forEach(Histogram::reset);
+        overall.reset();
+        errors.values().forEach(count -> count.set(0));
+        dropped.set(0);
+    }
+
+    /**
+     * 구간 히스토그램을 누적하고 구간 요약 한 줄 반환
+     */
+    synchronized String interval(double seconds) {
+        Histogram interval = new Histogram(SIGNIFICANT_DIGITS);
+        for (Operation operation : operations) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            totals.get(operation).add(histogram);
+            interval.add(histogram);
+        }
+        overall.add(interval);
+        return String.format(Locale.ROOT, "%8.1f req/s  p50 %8.2f ms  p99 %8.2f ms  max %8.2f ms",
+            interval.getTotalCount() / seconds,
+            millis(interval.getValueAtPercentile(50)),
+            millis(interval.getValueAtPercentile(99)),
+            millis(interval.getMaxValue()));
+    }
+
+    /**
+     * 최종 요약 출력 (측정 구간 seconds 기준 처리량)
+     */
+    synchronized void print(PrintStream out, double seconds) {
+        out.printf(Locale.ROOT, "%-8s %10s %10s %8s %10s %10s %10s %10s %10s%n",
+            "op", "count", "req/s", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (Operation operation : operations) {
+            printRow(out, operation.key(), totals.get(operation), errors.get(operation).get(), seconds);
+        }
+        long totalErrors = errors.values().stream().mapToLong(AtomicLong::get).sum();
+        printRow(out, "total", overall, totalErrors, seconds);
+        if (dropped.get() > 0) {
+            out.printf(Locale.ROOT, "dropped (in-flight limit): %d%n", dropped.get());
+        }
+    }
+
+    /**
+     * 종류별 / 전체 백분위 분포를 .hgrm 파일로 저장 (HdrHistogram plotter 로 시각화)
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Operation operation : operations) {
+            writeDistribution(directory.resolve(operation.key() + ".hgrm"), totals.get(operation));
+        }
+        writeDistribution(directory.resolve("total.hgrm"), overall);
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors, double seconds) {
+        out.printf(Locale.ROOT, "%-8s %10d %10.1f %8d", name, histogram.getTotalCount(),
+            histogram.getTotalCount() / seconds, errors);
+        for (double percentile : PERCENTILES) {
+            out.printf(Locale.ROOT, " %10.2f", millis(histogram.getValueAtPercentile(percentile)));
+        }
+        out.printf(Locale.ROOT, " %10.2f%n", millis(histogram.getMaxValue()));
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(new FileOutputStream(file.toFile()))) {
+            // 마이크로초 기록 → 밀리초 단위 출력
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
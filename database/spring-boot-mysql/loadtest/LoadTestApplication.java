@@ -0,0 +1,35 @@
+package com.ddalkkak.backend.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * 부하 테스트 실행기 (MySQL 없이 로컬에서 실행)
+ *
+ * 1. loadtest 프로필로 애플리케이션 전체를 임의 포트에 기동 (H2 MODE=MySQL 메모리 DB)
+ * 2. SyntheticStockSeeder 가 기동 중에 합성 데이터를 적재 → 기동 완료 시 최신 날짜 스냅샷 게시
+ * 3. OpenLoadDriver 가 실제 HTTP 엔드포인트에 개방형 부하를 걸고 결과 출력 후 종료
+ *
+ * 설정은 application-loadtest.properties 의 loadtest.* 이며 실행 인자로 덮어쓸 수 있다.
+ * 예) --loadtest.rate=1000 --loadtest.tickers=8000 --loadtest.mix=top=50,ticker=50
+ */
+@SpringBootApplication(scanBasePackages = "com.ddalkkak.backend")
+@EntityScan("com.ddalkkak.backend.entity")
+@EnableJpaRepositories("com.ddalkkak.backend.repository")
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        SpringApplication application = new SpringApplication(LoadTestApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        int exitCode;
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            exitCode = context.getBean(OpenLoadDriver.class).run(port);
+        }
+        System.exit(exitCode);
+    }
+}
@@ -0,0 +1,99 @@
+package com.ddalkkak.backend.loadtest;
+
+import com.ddalkkak.backend.snapshot.StockMetric;
+
+import java.util.List;
+
+/**
+ * 부하 테스트용 H2 (MODE=MySQL) 스키마
+ *
+ * schema/undervalued_stocks_mysql.sql 과 같은 테이블/인덱스를 만들되, JSON 컬럼은 VARCHAR 로 두고 파티셔닝은 생략한다.
+ * (H2 의 JSON 타입은 문자열 바인딩 값을 JSON 문자열 리터럴로 저장하므로 컨버터가 읽을 수 없다)
+ * 지표 컬럼은 StockMetric 의 컬럼명/precision/scale 로 생성해 엔티티와 항상 일치한다.
+ */
+final class LoadTestSchema {
+
+    private LoadTestSchema() {
+    }
+
+    static List<String> statements() {
+        return List.of(
+            undervaluedStocks(),
+            "CREATE INDEX idx_ticker ON undervalued_stocks (ticker)",
+            "CREATE INDEX idx_data_date ON undervalued_stocks (data_date)",
+            "CREATE INDEX idx_sector ON undervalued_stocks (sector)",
+            "CREATE INDEX idx_date_score_id ON undervalued_stocks (data_date, total_score DESC, id)",
+            "CREATE INDEX idx_ticker_date_scores ON undervalued_stocks "
+                + "(ticker, data_date, total_score, growth_score, quality_score, value_score, momentum_score)",
+
+            "CREATE TABLE screening_profiles ("
+                + "id INT AUTO_INCREMENT PRIMARY KEY, "
+                + "profile_name VARCHAR(50) NOT NULL UNIQUE, "
+                + "display_name VARCHAR(100), "
+                + "description VARCHAR(1000), "
+                + "is_active BOOLEAN DEFAULT TRUE)",
+
+            "CREATE TABLE stock_profiles ("
+                + "stock_id BIGINT NOT NULL, "
+                + "profile_id INT NOT NULL, "
+                + "data_date DATE NOT NULL, "
+                + "total_score DECIMAL(6, 2), "
+                + "PRIMARY KEY (stock_id, profile_id))",
+            "CREATE INDEX idx_profile_date_score ON stock_profiles (profile_id, data_date, total_score DESC, stock_id)",
+
+            "CREATE TABLE data_collection_logs ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "collection_date DATE NOT NULL, "
+                + "collection_start_time TIMESTAMP NOT NULL, "
+                + "collection_end_time TIMESTAMP, "
+                + "total_tickers_attempted INT, "
+                + "total_tickers_success INT, "
+                + "total_tickers_failed INT, "
+                + "stage1_success INT, "
+                + "stage1_failed INT, "
+                + "stage2_success INT, "
+                + "stage2_failed INT, "
+                + "error_messages VARCHAR(4000), "
+                + "status VARCHAR(20), "
+                + "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)",
+
+            "CREATE TABLE snapshot_versions ("
+                + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "data_date DATE NOT NULL, "
+                + "row_count INT, "
+                + "status VARCHAR(20) NOT NULL, "
+                + "note VARCHAR(500), "
+                + "published_at TIMESTAMP, "
+                + "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)",
+            "CREATE INDEX idx_status_id ON snapshot_versions (status, id)",
+
+            "CREATE TABLE daily_stats ("
+                + "data_date DATE PRIMARY KEY, "
+                + "version BIGINT NOT NULL, "
+                + "total_stocks INT NOT NULL, "
+                + "average_total_score DECIMAL(10, 4), "
+                + "profile_counts VARCHAR(4000), "
+                + "score_stats VARCHAR(4000), "
+                + "computed_at TIMESTAMP NOT NULL)"
+        );
+    }
+
+    private static String undervaluedStocks() {
+        StringBuilder ddl = new StringBuilder("CREATE TABLE undervalued_stocks (")
+            .append("id BIGINT AUTO_INCREMENT PRIMARY KEY, ")
+            .append("ticker VARCHAR(20) NOT NULL, ")
+            .append("name VARCHAR(255), ")
+            .append("sector VARCHAR(100), ")
+            .append("industry VARCHAR(100), ");
+        for (StockMetric metric : StockMetric.values()) {
+            ddl.append(metric.getColumnName())
+                .append(" DECIMAL(").append(metric.getPrecision()).append(", ").append(metric.getScale()).append("), ");
+        }
+        return ddl.append("passed_profiles VARCHAR(1000), ")
+            .append("data_date DATE NOT NULL, ")
+            .append("created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, ")
+            .append("updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, ")
+            .append("CONSTRAINT unique_ticker_date UNIQUE (ticker, data_date))")
+            .toString();
+    }
+}
@@ -0,0 +1,174 @@
+package com.ddalkkak.backend.loadtest;
+
+import com.ddalkkak.backend.loadtest.WorkloadMix.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open model) 부하 발생기
+ *
+ * 응답을 기다리지 않고 정해진 도착률(rate req/s)로 요청을 보낸다. 닫힌 모델(고정 사용자 수)과 달리
+ * 서버가 느려져도 보내는 속도가 줄지 않으므로 포화 시 대기열 증가가 지연에 그대로 드러난다.
+ *
+ * - 도착 간격: poisson (지수 분포, 기본) 또는 constant
+ * - 워밍업 구간 요청은 집계하지 않음 (JIT, 스냅샷 정렬 캐시, 응답 캐시 채우기)
+ * - 동시 요청이 max-in-flight 를 넘으면 보내지 않고 dropped 로 집계 (클라이언트 메모리 보호)
+ */
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class OpenLoadDriver {
+
+    private final SyntheticStockSeeder seeder;
+
+    @Value("${loadtest.rate:200}")
+    private double rate;
+
+    @Value("${loadtest.arrival:poisson}")
+    private String arrival;
+
+    @Value("${loadtest.warmup-seconds:10}")
+    private int warmupSeconds;
+
+    @Value("${loadtest.duration-seconds:60}")
+    private int durationSeconds;
+
+    @Value("${loadtest.mix:top=30,search=25,profile=20,stats=10,ticker=15}")
+    private String mixSpec;
+
+    @Value("${loadtest.historical-ratio:0.0}")
+    private double historicalRatio;
+
+    @Value("${loadtest.max-in-flight:2000}")
+    private int maxInFlight;
+
+    @Value("${loadtest.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    @Value("${loadtest.report-interval-seconds:5}")
+    private int reportIntervalSeconds;
+
+    @Value("${loadtest.gzip:true}")
+    private boolean gzip;
+
+    @Value("${loadtest.output-dir:build/loadtest}")
+    private String outputDir;
+
+    @Value("${loadtest.seed:42}")
+    private long seed;
+
+    /**
+     * 부하 실행 후 결과 출력 (오류 또는 dropped 가 있으면 1 반환)
+     */
+    public int run(int port) throws InterruptedException, IOException {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("loadtest.rate 는 0 보다 커야 합니다: " + rate);
+        }
+        boolean poisson = !"constant".equalsIgnoreCase(arrival);
+        WorkloadMix mix = WorkloadMix.parse(mixSpec);
+        RequestFactory requests = new RequestFactory(seeder.getTickers(), seeder.getDates(), historicalRatio);
+        LatencyRecorder recorder = new LatencyRecorder(mix.operations());
+        String baseUrl = "http://localhost:" + port;
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        SplittableRandom random = new SplittableRandom(seed);
+
+        log.info("부하 시작 - {} req/s ({}), 워밍업 {}s, 측정 {}s, 비율: {}, 과거 날짜 비율: {}",
+            rate, poisson ? "poisson" : "constant", warmupSeconds, durationSeconds, mix, historicalRatio);
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long endNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(durationSeconds);
+        reporter.scheduleAtFixedRate(
+            () -> log.info("[{}] {}", System.nanoTime() < measureStartNanos ? "warmup " : "measure",
+                recorder.interval(reportIntervalSeconds)),
+            reportIntervalSeconds, reportIntervalSeconds, TimeUnit.SECONDS);
+
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        double next = startNanos;
+        boolean measuring = false;
+        try {
+            while (next < endNanos) {
+                long intended = (long) next;
+                long now;
+                while ((now = System.nanoTime()) < intended) {
+                    LockSupport.parkNanos(intended - now);
+                }
+                if (!measuring && intended >= measureStartNanos) {
+                    recorder.reset();
+                    measuring = true;
+                }
+                Operation operation = mix.next(random);
+                send(client, inFlight, recorder, operation, baseUrl + requests.path(operation, random),
+                    intended, measuring);
+                next += poisson ? -Math.log(1 - random.nextDouble()) * meanIntervalNanos : meanIntervalNanos;
+            }
+
+            // 남은 요청 완료 대기 (요청 타임아웃 이상 기다리지 않음)
+            if (!inFlight.tryAcquire(maxInFlight, requestTimeoutMs + 1000, TimeUnit.MILLISECONDS)) {
+                log.warn("응답 대기 시간 초과 - 미완료 요청 {}건", maxInFlight - inFlight.availablePermits());
+            }
+        } finally {
+            reporter.shutdownNow();
+        }
+
+        recorder.interval(reportIntervalSeconds);
+        System.out.printf("%n=== 부하 테스트 결과 (%d req/s %s, %ds, %d일 × %d종목) ===%n",
+            (long) rate, poisson ? "poisson" : "constant", durationSeconds,
+            seeder.getDates().size(), seeder.getTickers().size());
+        recorder.print(System.out, durationSeconds);
+        Path output = Path.of(outputDir);
+        recorder.write(output);
+        System.out.println("히스토그램: " + output.toAbsolutePath());
+        return recorder.hasFailures() ? 1 : 0;
+    }
+
+    private void send(HttpClient client, Semaphore inFlight, LatencyRecorder recorder,
+                      Operation operation, String url, long intendedNanos, boolean measured) {
+        if (!inFlight.tryAcquire()) {
+            if (measured) {
+                recorder.dropped();
+            }
+            return;
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofMillis(requestTimeoutMs))
+            .header("Accept-Encoding", gzip ? "gzip" : "identity")
+            .GET()
+            .build();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                inFlight.release();
+                if (!measured) {
+                    return;
+                }
+                if (error != null || response.statusCode() >= 400) {
+                    recorder.error(operation);
+                } else {
+                    recorder.success(operation, (System.nanoTime() - intendedNanos) / 1000);
+                }
+            });
+    }
+}
@@ -0,0 +1,78 @@
+package com.ddalkkak.backend.loadtest;
+
+import com.ddalkkak.backend.loadtest.WorkloadMix.Operation;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 요청 종류별 경로/쿼리 생성
+ *
+ * 같은 URL 만 반복하면 응답 캐시 적중만 재게 되므로 티커, 프로필, 섹터, 페이지, 최소 점수를
+ * 적재 데이터 범위 안에서 무작위로 고른다.
+ * historicalRatio 비율만큼 search / profile 요청에 과거 date 를 붙여 DB 경로를 섞는다.
+ */
+final class RequestFactory {
+
+    private static final String API_PREFIX = "/api/undervalued-stocks";
+    private static final int[] TOP_LIMITS = {20, 50, 100};
+    private static final int MAX_PAGE = 5;
+    private static final int PAGE_SIZE = 20;
+
+    private final List<String> tickers;
+    private final List<LocalDate> historicalDates;
+    private final double historicalRatio;
+
+    RequestFactory(List<String> tickers, List<LocalDate> dates, double historicalRatio) {
+        this.tickers = tickers;
+        // 마지막(최신) 날짜는 스냅샷 경로이므로 제외
+        this.historicalDates = dates.subList(0, Math.max(0, dates.size() - 1));
+        this.historicalRatio = historicalDates.isEmpty() ? 0 : historicalRatio;
+    }
+
+    String path(Operation operation, SplittableRandom random) {
+        switch (operation) {
+            case TOP:
+                return API_PREFIX + "/top?limit=" + TOP_LIMITS[random.nextInt(TOP_LIMITS.length)];
+            case SEARCH: {
+                StringBuilder path = new StringBuilder(API_PREFIX).append("/search?size=").append(PAGE_SIZE)
+                    .append("&page=").append(random.nextInt(MAX_PAGE));
+                if (random.nextBoolean()) {
+                    path.append("&profile=").append(pick(SyntheticStockSeeder.PROFILES, random));
+                }
+                if (random.nextBoolean()) {
+                    path.append("&sector=").append(pick(SyntheticStockSeeder.SECTORS, random).replace(" ", "%20"));
+                }
+                if (random.nextInt(3) == 0) {
+                    path.append("&minScore=").append(10 * random.nextInt(8));
+                }
+                return appendDate(path, random).toString();
+            }
+            case PROFILE: {
+                StringBuilder path = new StringBuilder(API_PREFIX).append("/profile/")
+                    .append(pick(SyntheticStockSeeder.PROFILES, random))
+                    .append("/paging?size=").append(PAGE_SIZE)
+                    .append("&page=").append(random.nextInt(MAX_PAGE));
+                return appendDate(path, random).toString();
+            }
+            case STATS:
+                return API_PREFIX + "/stats";
+            case TICKER:
+                return API_PREFIX + "/" + pick(tickers, random);
+            default:
+                throw new IllegalArgumentException("알 수 없는 요청 종류입니다: " + operation);
+        }
+    }
+
+    private StringBuilder appendDate(StringBuilder path, SplittableRandom random) {
+        if (historicalRatio > 0 && random.nextDouble() < historicalRatio) {
+            path.append("&date=").append(pick(historicalDates, random));
+        }
+        return path;
+    }
+
+    private static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,278 @@
+package com.ddalkkak.backend.loadtest;
+
+import com.ddalkkak.backend.entity.ProfileRegistry;
+import com.ddalkkak.backend.entity.ProfileSet;
+import com.ddalkkak.backend.snapshot.StockMetric;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 합성 데이터 적재 (days × tickers 행)
+ *
+ * 컨텍스트 초기화 중에 실행되므로 ProfileRegistryLoader(ContextRefreshedEvent) 와
+ * 스냅샷 최초 게시(ApplicationReadyEvent) 는 적재가 끝난 데이터를 본다.
+ * 같은 seed 면 항상 같은 데이터가 만들어진다.
+ *
+ * - 종목 유니버스(티커/이름/섹터/산업)는 날짜와 무관하게 고정, 지표와 통과 프로필은 날짜마다 새로 생성
+ * - 날짜는 end-date 부터 거꾸로 평일만 사용
+ * - stock_profiles 는 sync_stock_profiles 프로시저 대신 같은 내용을 직접 적재
+ * - 날짜마다 completed 수집 로그를 남겨 운영과 같은 게시 신호 상태로 기동
+ */
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticStockSeeder implements InitializingBean {
+
+    // schema/undervalued_stocks_mysql.sql 기본 프로필과 같은 순서 (id 1..6)
+    static final List<String> PROFILES = List.of(
+        "undervalued_quality", "value_basic", "value_strict", "growth_quality", "momentum", "swing");
+
+    static final List<String> SECTORS = List.of(
+        "Technology", "Healthcare", "Financial Services", "Consumer Cyclical", "Industrials",
+        "Communication Services", "Consumer Defensive", "Energy", "Utilities", "Real Estate", "Basic Materials");
+
+    private static final double NULL_RATIO = 0.1;
+    private static final double PROFILE_PASS_RATIO = 0.2;
+    private static final int BATCH_SIZE = 1000;
+
+    private final DataSource dataSource;
+
+    @Value("${loadtest.days:30}")
+    private int days;
+
+    @Value("${loadtest.tickers:5000}")
+    private int tickerCount;
+
+    @Value("${loadtest.end-date:2025-11-07}")
+    private String endDate;
+
+    @Value("${loadtest.seed:42}")
+    private long seed;
+
+    private List<String> tickers = List.of();
+    private List<LocalDate> dates = List.of();
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        long started = System.currentTimeMillis();
+        tickers = tickers(tickerCount);
+        dates = dates(LocalDate.parse(endDate), days);
+        ProfileRegistry.register(PROFILES);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                for (String ddl : LoadTestSchema.statements()) {
+                    statement.execute(ddl);
+                }
+            }
+            insertProfiles(connection);
+            insertStocks(connection);
+            insertCollectionLogs(connection);
+            connection.commit();
+        }
+        log.info("부하 테스트 데이터 적재 - {}일 × {}종목 = {}행, 최신 날짜: {}, {}ms",
+            dates.size(), tickers.size(), (long) dates.size() * tickers.size(), latestDate(),
+            System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 적재한 티커 목록 (id 순)
+     */
+    public List<String> getTickers() {
+        return tickers;
+    }
+
+    /**
+     * 적재한 날짜 목록 (오름차순, 마지막이 최신)
+     */
+    public List<LocalDate> getDates() {
+        return dates;
+    }
+
+    public LocalDate latestDate() {
+        return dates.get(dates.size() - 1);
+    }
+
+    // ============================================================
+    // 적재
+    // ============================================================
+
+    private void insertProfiles(Connection connection) throws SQLException {
+        String sql = "INSERT INTO screening_profiles (profile_name, display_name, is_active) VALUES (?, ?, TRUE)";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (String profile : PROFILES) {
+                statement.setString(1, profile);
+                statement.setString(2, profile);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void insertStocks(Connection connection) throws SQLException {
+        StockMetric[] metrics = StockMetric.values();
+        StringBuilder columns = new StringBuilder("id, ticker, name, sector, industry");
+        StringBuilder values = new StringBuilder("?, ?, ?, ?, ?");
+        for (StockMetric metric : metrics) {
+            columns.append(", ").append(metric.getColumnName());
+            values.append(", ?");
+        }
+        columns.append(", passed_profiles, data_date, created_at, updated_at");
+        values.append(", ?, ?, ?, ?");
+        String stockSql = "INSERT INTO undervalued_stocks (" + columns + ") VALUES (" + values + ")";
+        String profileSql = "INSERT INTO stock_profiles (stock_id, profile_id, data_date, total_score) VALUES (?, ?, ?, ?)";
+
+        // 티커별 섹터/산업은 날짜와 무관하게 고정
+        SplittableRandom universe = new SplittableRandom(seed);
+        String[] sectors = new String[tickers.size()];
+        String[] industries = new String[tickers.size()];
+        for (int t = 0; t < tickers.size(); t++) {
+            sectors[t] = SECTORS.get(universe.nextInt(SECTORS.size()));
+            industries[t] = sectors[t] + " " + (char) ('A' + universe.nextInt(6));
+        }
+
+        SplittableRandom random = universe.split();
+        long id = 0;
+        int pending = 0;
+        try (PreparedStatement stocks = connection.prepareStatement(stockSql);
+             PreparedStatement profiles = connection.prepareStatement(profileSql)) {
+            for (LocalDate date : dates) {
+                Date dataDate = Date.valueOf(date);
+                Timestamp loadedAt = Timestamp.valueOf(date.atTime(18, 0));
+                for (int t = 0; t < tickers.size(); t++) {
+                    id++;
+                    int index = 1;
+                    stocks.setLong(index++, id);
+                    stocks.setString(index++, tickers.get(t));
+                    stocks.setString(index++, "Synthetic " + tickers.get(t) + " Inc.");
+                    stocks.setString(index++, sectors[t]);
+                    stocks.setString(index++, industries[t]);
+                    BigDecimal totalScore = null;
+                    for (StockMetric metric : metrics) {
+                        BigDecimal value = random.nextDouble() < NULL_RATIO ? null : value(metric, random);
+                        stocks.setBigDecimal(index++, value);
+                        if (metric == StockMetric.TOTAL_SCORE) {
+                            totalScore = value;
+                        }
+                    }
+
+                    List<String> passed = new ArrayList<>(PROFILES.size());
+                    for (int p = 0; p < PROFILES.size(); p++) {
+                        if (random.nextDouble() < PROFILE_PASS_RATIO) {
+                            passed.add(PROFILES.get(p));
+                            profiles.setLong(1, id);
+                            profiles.setInt(2, p + 1);
+                            profiles.setDate(3, dataDate);
+                            profiles.setBigDecimal(4, totalScore);
+                            profiles.addBatch();
+                        }
+                    }
+                    stocks.setString(index++, ProfileSet.of(passed).toJson());
+                    stocks.setDate(index++, dataDate);
+                    stocks.setTimestamp(index++, loadedAt);
+                    stocks.setTimestamp(index, loadedAt);
+                    stocks.addBatch();
+
+                    if (++pending == BATCH_SIZE) {
+                        stocks.executeBatch();
+                        profiles.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            stocks.executeBatch();
+            profiles.executeBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE undervalued_stocks ALTER COLUMN id RESTART WITH " + (id + 1));
+        }
+    }
+
+    private void insertCollectionLogs(Connection connection) throws SQLException {
+        String sql = "INSERT INTO data_collection_logs (collection_date, collection_start_time, collection_end_time, "
+            + "total_tickers_attempted, total_tickers_success, total_tickers_failed, status) VALUES (?, ?, ?, ?, ?, 0, 'completed')";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (LocalDate date : dates) {
+                statement.setDate(1, Date.valueOf(date));
+                statement.setTimestamp(2, Timestamp.valueOf(date.atTime(17, 0)));
+                statement.setTimestamp(3, Timestamp.valueOf(date.atTime(18, 0)));
+                statement.setInt(4, tickers.size());
+                statement.setInt(5, tickers.size());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    // ============================================================
+    // 합성 값
+    // ============================================================
+
+    // A, B, ..., Z, AA, AB, ... (id 순서대로 고유)
+    private static List<String> tickers(int count) {
+        List<String> tickers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder ticker = new StringBuilder();
+            int n = i;
+            do {
+                ticker.insert(0, (char) ('A' + n % 26));
+                n = n / 26 - 1;
+            } while (n >= 0);
+            tickers.add(ticker.toString());
+        }
+        return Collections.unmodifiableList(tickers);
+    }
+
+    // end 부터 거꾸로 평일 count 개 (오름차순 반환)
+    private static List<LocalDate> dates(LocalDate end, int count) {
+        List<LocalDate> dates = new ArrayList<>(count);
+        LocalDate date = end;
+        while (dates.size() < count) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                dates.add(date);
+            }
+            date = date.minusDays(1);
+        }
+        Collections.reverse(dates);
+        return Collections.unmodifiableList(dates);
+    }
+
+    // 점수는 0~100, 나머지는 컬럼 정수부 자릿수의 절반 범위 (음수 20%)
+    private static BigDecimal value(StockMetric metric, SplittableRandom random) {
+        long bound;
+        if (metric.ordinal() >= StockMetric.GROWTH_SCORE.ordinal()) {
+            bound = 100;
+        } else {
+            int integerDigits = Math.max(1, Math.min(12, (metric.getPrecision() - metric.getScale() + 1) / 2));
+            bound = (long) Math.pow(10, integerDigits);
+        }
+        long unscaled = random.nextLong(bound * (long) Math.pow(10, metric.getScale()));
+        boolean signed = metric.ordinal() < StockMetric.GROWTH_SCORE.ordinal()
+            && metric != StockMetric.PRICE && metric != StockMetric.MARKET_CAP;
+        if (signed && random.nextInt(5) == 0) {
+            unscaled = -unscaled;
+        }
+        return BigDecimal.valueOf(unscaled, metric.getScale());
+    }
+}
@@ -0,0 +1,111 @@
+package com.ddalkkak.backend.loadtest;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 요청 종류별 비율 (예: "top=30,search=25,profile=20,stats=10,ticker=15")
+ *
+ * 가중치는 합이 100 일 필요 없이 상대 비율로 해석한다.
+ */
+final class WorkloadMix {
+
+    /**
+     * 부하 대상 엔드포인트 종류
+     */
+    enum Operation {
+        TOP("top"),
+        SEARCH("search"),
+        PROFILE("profile"),
+        STATS("stats"),
+        TICKER("ticker");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        String key() {
+            return key;
+        }
+
+        static Operation fromKey(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equalsIgnoreCase(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 요청 종류입니다: " + key + " (top/search/profile/stats/ticker)");
+        }
+    }
+
+    private final Map<Operation, Integer> weights;
+    private final Operation[] operations;
+    private final int[] cumulative;
+    private final int total;
+
+    private WorkloadMix(Map<Operation, Integer> weights) {
+        this.weights = weights;
+        this.operations = weights.keySet().toArray(new Operation[0]);
+        this.cumulative = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += weights.get(operations[i]);
+            cumulative[i] = sum;
+        }
+        this.total = sum;
+    }
+
+    static WorkloadMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] pair = entry.trim().split("[=:]");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("비율 형식은 종류=가중치 입니다: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("가중치는 0 이상이어야 합니다: " + entry);
+            }
+            if (weight > 0) {
+                weights.put(Operation.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("요청 비율이 비어 있습니다: " + spec);
+        }
+        return new WorkloadMix(weights);
+    }
+
+    Operation next(SplittableRandom random) {
+        int pick = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (pick < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    List<Operation> operations() {
+        return List.of(operations);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        weights.forEach((operation, weight) -> {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(operation.key()).append('=').append(weight * 100 / total).append('%');
+        });
+        return text.toString();
+    }
+}
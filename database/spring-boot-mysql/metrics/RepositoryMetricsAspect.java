@@ -0,0 +1,106 @@
+package com.ddalkkak.backend.metrics;
+
+import com.ddalkkak.backend.dto.StockSeriesDto;
+import com.ddalkkak.backend.snapshot.SnapshotVersion;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저장소 쿼리별 실행 시간 / 결과 행 수 메트릭
+ *
+ * - stock.repository.query (Timer): repository, query(메서드명), date, outcome
+ * - stock.repository.rows (DistributionSummary): repository, query, date
+ * date 태그는 인자의 LocalDate 가 현재 게시본 날짜면 latest, 아니면 historical, 날짜 인자가 없으면 none.
+ * 20여 개 쿼리 중 어느 쿼리가 느린지, 최신/과거 날짜 중 어느 쪽이 느린지를 운영에서 구분하기 위함.
+ * 태그 조합은 (쿼리 수 × date × outcome) 으로 유한하므로 조합별 미터를 처음 한 번만 등록해 재사용한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RepositoryMetricsAspect {
+
+    private static final String QUERY_TIMER = "stock.repository.query";
+    private static final String ROWS_SUMMARY = "stock.repository.rows";
+
+    private final MeterRegistry registry;
+    private final SnapshotVersion snapshotVersion;
+    private final Map<Tags, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Tags, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    @Around("execution(* com.ddalkkak.backend.repository..*.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Tags tags = Tags.of(
+            "repository", joinPoint.getSignature().getDeclaringType().getSimpleName(),
+            "query", joinPoint.getSignature().getName(),
+            "date", dateTag(joinPoint.getArgs())
+        );
+
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        try {
+            Object result = joinPoint.proceed();
+            long rows = rows(result);
+            if (rows >= 0) {
+                rowSummaries.computeIfAbsent(tags, key -> DistributionSummary.builder(ROWS_SUMMARY)
+                    .description("저장소 쿼리 결과 행 수")
+                    .baseUnit("rows")
+                    .tags(key)
+                    .publishPercentileHistogram()
+                    .register(registry))
+                    .record(rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(timers.computeIfAbsent(tags.and("outcome", outcome), key -> Timer.builder(QUERY_TIMER)
+                .description("저장소 쿼리 실행 시간")
+                .tags(key)
+                .publishPercentileHistogram()
+                .register(registry)));
+        }
+    }
+
+    private String dateTag(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof LocalDate date) {
+                return snapshotVersion.getLatestDate().filter(date::equals).isPresent() ? "latest" : "historical";
+            }
+        }
+        return "none";
+    }
+
+    /**
+     * 결과 행 수 (목록형 결과가 아니면 -1)
+     */
+    private static long rows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof StockSeriesDto series) {
+            return series.getDates().size();
+        }
+        return -1;
+    }
+}
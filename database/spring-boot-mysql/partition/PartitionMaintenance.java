@@ -0,0 +1,283 @@
+package com.ddalkkak.backend.partition;
+
+import com.ddalkkak.backend.snapshot.SnapshotVersion;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * data_date 월 파티션 관리 (V7 RANGE COLUMNS 파티셔닝)
+ *
+ * 1. 미리 생성: 이번 달 + months-ahead 까지 파티션이 없으면 pmax 를 REORGANIZE 해서 월 파티션 추가
+ *    (적재가 pmax 로 들어가 나중에 큰 파티션을 나누는 일이 없도록)
+ * 2. 보관 정리: 경계(VALUES LESS THAN)가 보관 기준일 이하인 파티션, 즉 모든 행이 기준일보다 오래된 달만 삭제
+ *    - drop: DROP PARTITION (행 단위 DELETE 없이 메타데이터 변경으로 삭제)
+ *    - exchange: 같은 구조의 보관 테이블 ({table}_archive_{partition}) 로 EXCHANGE 후 빈 파티션 삭제
+ *    현재 게시된 최신 날짜가 들어 있는 파티션은 수집이 멈춰 있어도 삭제하지 않는다.
+ *    stock_profiles 를 먼저 정리해 삭제된 종목 행을 가리키는 프로필 행이 남지 않게 한다 (app.partition.tables 순서).
+ *
+ * 기동 직후와 매일 cron 시각에 실행하며, 여러 인스턴스가 동시에 DDL 을 내지 않도록 GET_LOCK 으로 한 곳만 수행.
+ * 파티셔닝되지 않은 테이블(V7 미적용)은 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenance {
+
+    private static final String LOCK_NAME = "ddalkkak_partition_maintenance";
+    private static final Pattern TABLE_NAME = Pattern.compile("[A-Za-z0-9_]+");
+    private static final DateTimeFormatter MONTH_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter DAY_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    private static final String LIST_PARTITIONS_SQL =
+        "SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS FROM information_schema.PARTITIONS " +
+        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private final DataSource dataSource;
+    private final SnapshotVersion snapshotVersion;
+
+    @Value("${app.partition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.partition.tables:stock_profiles,undervalued_stocks}")
+    private List<String> tables;
+
+    @Value("${app.partition.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${app.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    // drop | exchange
+    @Value("${app.partition.retention-mode:drop}")
+    private String retentionMode;
+
+    // DDL 이 조회의 메타데이터 잠금 뒤에서 오래 기다리며 뒤따르는 조회를 막지 않도록
+    @Value("${app.partition.lock-wait-timeout-seconds:10}")
+    private int lockWaitTimeoutSeconds;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            maintain();
+        }
+    }
+
+    @Scheduled(cron = "${app.partition.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void scheduledMaintain() {
+        if (enabled) {
+            maintain();
+        }
+    }
+
+    /**
+     * 모든 대상 테이블의 파티션 생성 / 보관 정리 (다른 인스턴스가 실행 중이면 건너뜀)
+     */
+    public synchronized void maintain() {
+        LocalDate today = LocalDate.now();
+        LocalDate cutoff = retentionCutoff(today);
+        try (Connection connection = dataSource.getConnection()) {
+            if (!acquireLock(connection)) {
+                log.info("파티션 관리 건너뜀 - 다른 인스턴스에서 실행 중");
+                return;
+            }
+            try {
+                execute(connection, "SET SESSION lock_wait_timeout = " + lockWaitTimeoutSeconds);
+                // 테이블별로 실패를 나눠 한 테이블의 잠금 대기가 다른 테이블 관리를 막지 않도록
+                for (String table : tables) {
+                    String name = validTableName(table.trim());
+                    try {
+                        maintainTable(connection, name, today, cutoff);
+                    } catch (SQLException e) {
+                        log.error("파티션 관리 실패 - {}: {}", name, e.getMessage(), e);
+                    }
+                }
+            } finally {
+                // 풀로 돌아가는 커넥션에 세션 설정을 남기지 않음
+                execute(connection, "SET SESSION lock_wait_timeout = DEFAULT");
+                releaseLock(connection);
+            }
+        } catch (SQLException e) {
+            log.error("파티션 관리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 보관 기준일 (이 날짜 이전 데이터만 삭제 대상)
+     * 게시된 최신 날짜보다 뒤로 가지 않으며, 아직 게시본이 없으면 null (삭제하지 않음)
+     */
+    private LocalDate retentionCutoff(LocalDate today) {
+        LocalDate latest = snapshotVersion.getLatestDate().orElse(null);
+        if (latest == null) {
+            return null;
+        }
+        LocalDate cutoff = today.minusDays(retentionDays);
+        return latest.isBefore(cutoff) ? latest : cutoff;
+    }
+
+    private void maintainTable(Connection connection, String table, LocalDate today, LocalDate cutoff)
+        throws SQLException {
+        List<RangePartition> partitions = listPartitions(connection, table);
+        if (partitions.isEmpty()) {
+            log.warn("파티셔닝되지 않은 테이블 - {} (V7 마이그레이션 필요)", table);
+            return;
+        }
+        createFuturePartitions(connection, table, partitions, today);
+        if (cutoff != null) {
+            dropExpiredPartitions(connection, table, partitions, cutoff);
+        }
+    }
+
+    // ============================================================
+    // 미리 생성
+    // ============================================================
+
+    private void createFuturePartitions(Connection connection, String table, List<RangePartition> partitions,
+                                        LocalDate today) throws SQLException {
+        LocalDate target = today.withDayOfMonth(1).plusMonths(monthsAhead + 1L);
+        LocalDate lower = partitions.stream()
+            .filter(partition -> !partition.isMaxValue())
+            .map(RangePartition::upperBound)
+            .max(LocalDate::compareTo)
+            .orElse(today.withDayOfMonth(1));
+        if (!lower.isBefore(target)) {
+            return;
+        }
+
+        StringBuilder definitions = new StringBuilder();
+        List<String> created = new ArrayList<>();
+        while (lower.isBefore(target)) {
+            LocalDate upper = lower.withDayOfMonth(1).plusMonths(1);
+            String name = (lower.getDayOfMonth() == 1 ? MONTH_NAME : DAY_NAME).format(lower);
+            definitions.append("PARTITION ").append(name)
+                .append(" VALUES LESS THAN ('").append(upper).append("'), ");
+            created.add(name);
+            lower = upper;
+        }
+
+        RangePartition last = partitions.get(partitions.size() - 1);
+        String ddl = last.isMaxValue()
+            ? "ALTER TABLE " + table + " REORGANIZE PARTITION " + last.name() + " INTO ("
+                + definitions + "PARTITION " + last.name() + " VALUES LESS THAN (MAXVALUE))"
+            : "ALTER TABLE " + table + " ADD PARTITION ("
+                + definitions.substring(0, definitions.length() - 2) + ")";
+        execute(connection, ddl);
+        log.info("파티션 생성 - {}: {}", table, created);
+    }
+
+    // ============================================================
+    // 보관 정리
+    // ============================================================
+
+    private void dropExpiredPartitions(Connection connection, String table, List<RangePartition> partitions,
+                                       LocalDate cutoff) throws SQLException {
+        List<RangePartition> expired = partitions.stream()
+            .filter(partition -> !partition.isMaxValue() && !partition.upperBound().isAfter(cutoff))
+            .toList();
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        boolean exchange = "exchange".equalsIgnoreCase(retentionMode);
+        List<String> dropped = new ArrayList<>();
+        for (RangePartition partition : expired) {
+            if (exchange && !archive(connection, table, partition)) {
+                continue;
+            }
+            dropped.add(partition.name());
+        }
+        if (dropped.isEmpty()) {
+            return;
+        }
+        execute(connection, "ALTER TABLE " + table + " DROP PARTITION " + String.join(", ", dropped));
+        log.info("파티션 삭제 - {}: {} (기준일 {} 이전, 모드: {})",
+            table, dropped, cutoff, exchange ? "exchange" : "drop");
+    }
+
+    /**
+     * 파티션 행을 보관 테이블로 EXCHANGE (성공하면 파티션은 빈 상태)
+     * 보관 테이블이 이미 있으면 덮어쓰지 않고 건너뜀
+     */
+    private boolean archive(Connection connection, String table, RangePartition partition) {
+        String archiveTable = table + "_archive_" + partition.name();
+        try {
+            execute(connection, "CREATE TABLE " + archiveTable + " LIKE " + table);
+            execute(connection, "ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+            execute(connection, "ALTER TABLE " + table + " EXCHANGE PARTITION " + partition.name()
+                + " WITH TABLE " + archiveTable);
+            log.info("파티션 보관 - {}.{} → {} (약 {}행)", table, partition.name(), archiveTable, partition.rows());
+            return true;
+        } catch (SQLException e) {
+            log.error("파티션 보관 실패 - {}.{}: {}", table, partition.name(), e.getMessage());
+            return false;
+        }
+    }
+
+    // ============================================================
+    // 공통
+    // ============================================================
+
+    private List<RangePartition> listPartitions(Connection connection, String table) throws SQLException {
+        List<RangePartition> partitions = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(LIST_PARTITIONS_SQL)) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String name = rs.getString(1);
+                    if (name == null) {
+                        // 파티셔닝되지 않은 테이블은 PARTITION_NAME 이 NULL 인 행 1개
+                        return List.of();
+                    }
+                    partitions.add(RangePartition.of(name, rs.getString(2), rs.getLong(3)));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    private boolean acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        }
+    }
+
+    private static void execute(Connection connection, String ddl) throws SQLException {
+        log.debug("파티션 DDL: {}", ddl);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(ddl);
+        }
+    }
+
+    private static String validTableName(String table) {
+        if (!TABLE_NAME.matcher(table).matches()) {
+            throw new IllegalArgumentException("잘못된 테이블 이름입니다: " + table);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ddalkkak.backend.partition;
+
+import java.time.LocalDate;
+
+/**
+ * RANGE COLUMNS (data_date) 파티션 1개 (information_schema.PARTITIONS 행)
+ *
+ * @param name       파티션 이름 (pYYYYMM, pmax)
+ * @param upperBound VALUES LESS THAN 경계 (MAXVALUE 이면 null)
+ * @param rows       통계상 행 수 (근사값)
+ */
+record RangePartition(String name, LocalDate upperBound, long rows) {
+
+    boolean isMaxValue() {
+        return upperBound == null;
+    }
+
+    /**
+     * PARTITION_DESCRIPTION 값 해석 ('2025-12-01' 또는 MAXVALUE)
+     */
+    static RangePartition of(String name, String description, long rows) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description.trim())) {
+            return new RangePartition(name, null, rows);
+        }
+        String bound = description.trim();
+        if (bound.startsWith("'") && bound.endsWith("'")) {
+            bound = bound.substring(1, bound.length() - 1);
+        }
+        return new RangePartition(name, LocalDate.parse(bound), rows);
+    }
+}
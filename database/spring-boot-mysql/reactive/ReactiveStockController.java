@@ -0,0 +1,433 @@
+package com.ddalkkak.backend.reactive;
+
+import com.ddalkkak.backend.dto.BatchLookupRequest;
+import com.ddalkkak.backend.dto.BatchLookupResponse;
+import com.ddalkkak.backend.dto.CursorPage;
+import com.ddalkkak.backend.dto.ScreenRequest;
+import com.ddalkkak.backend.dto.ScreenResponse;
+import com.ddalkkak.backend.dto.SectorDistributionDto;
+import com.ddalkkak.backend.dto.StockSeriesDto;
+import com.ddalkkak.backend.dto.StockStatisticsDto;
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import com.ddalkkak.backend.service.UndervaluedStockService;
+import com.ddalkkak.backend.snapshot.StockMetric;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 저평가 우량주 REST API - WebFlux 버전 (reactive 프로필)
+ *
+ * UndervaluedStockController 와 같은 경로/파라미터/응답 형식을 제공한다.
+ * 목록 API 는 Flux 로 행 단위 스트리밍 (Accept: application/x-ndjson 이면 한 줄에 한 종목).
+ * 관리/적재/내보내기 API 는 servlet 인스턴스에서만 제공.
+ */
+@RestController
+@RequestMapping(value = "/api/undervalued-stocks",
+    produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveStockController {
+
+    private static final String VIEW_FULL = "full";
+    private static final String VIEW_SUMMARY = "summary";
+
+    private final ReactiveStockService service;
+    private final UndervaluedStockService blockingService;
+
+    // ============================================================
+    // 기본 조회 API
+    // ============================================================
+
+    /**
+     * GET /api/undervalued-stocks/latest-date
+     */
+    @GetMapping("/latest-date")
+    public Mono<Map<String, LocalDate>> getLatestDataDate() {
+        return service.getLatestDataDate().map(latestDate -> {
+            Map<String, LocalDate> response = new HashMap<>();
+            response.put("latestDate", latestDate);
+            return response;
+        });
+    }
+
+    /**
+     * GET /api/undervalued-stocks/top?limit=100&view=full
+     */
+    @GetMapping("/top")
+    public Flux<?> getTopStocks(
+        @RequestParam(defaultValue = "100") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
+    ) {
+        log.info("GET /api/undervalued-stocks/top - limit: {}, view: {}", limit, view);
+        return isSummary(view)
+            ? service.getLatestTopSummaries(limit)
+            : service.getLatestTopStocks(limit);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/{ticker}
+     */
+    @GetMapping("/{ticker}")
+    public Mono<UndervaluedStockDto> getStockByTicker(@PathVariable String ticker) {
+        log.info("GET /api/undervalued-stocks/{}", ticker);
+        return service.getStockByTicker(ticker.toUpperCase());
+    }
+
+    /**
+     * GET /api/undervalued-stocks/batch?tickers=AAPL,MSFT,GOOGL
+     */
+    @GetMapping("/batch")
+    public Mono<BatchLookupResponse> getStocksByTickers(@RequestParam List<String> tickers) {
+        log.info("GET /api/undervalued-stocks/batch - tickers: {}", tickers.size());
+        return service.blocking(() -> blockingService.getStocksByTickers(tickers, null));
+    }
+
+    /**
+     * POST /api/undervalued-stocks/batch
+     */
+    @PostMapping("/batch")
+    public Mono<BatchLookupResponse> postStocksByTickers(@RequestBody BatchLookupRequest request) {
+        log.info("POST /api/undervalued-stocks/batch - tickers: {}, date: {}",
+            request.getTickers() != null ? request.getTickers().size() : 0, request.getDate());
+        return service.blocking(() -> blockingService.getStocksByTickers(request.getTickers(), request.getDate()));
+    }
+
+    /**
+     * GET /api/undervalued-stocks/{ticker}/history?date=2025-11-07
+     */
+    @GetMapping("/{ticker}/history")
+    public Mono<UndervaluedStockDto> getStockByTickerAndDate(
+        @PathVariable String ticker,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        log.info("GET /api/undervalued-stocks/{}/history - date: {}", ticker, date);
+        return service.getStockByTickerAndDate(ticker.toUpperCase(), date);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/{ticker}/series?from=2025-01-01&to=2025-11-07&fields=totalScore,pe
+     */
+    @GetMapping("/{ticker}/series")
+    public Mono<StockSeriesDto> getStockSeries(
+        @PathVariable String ticker,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) List<String> fields,
+        @RequestParam(defaultValue = "daily") String interval,
+        @RequestParam(defaultValue = "1") int every
+    ) {
+        log.info("GET /api/undervalued-stocks/{}/series - from: {}, to: {}, fields: {}, interval: {}, every: {}",
+            ticker, from, to, fields, interval, every);
+        return service.blocking(() ->
+            blockingService.getTickerSeries(ticker.toUpperCase(), from, to, fields, interval, every));
+    }
+
+    // ============================================================
+    // 프로필 기반 조회
+    // ============================================================
+
+    /**
+     * GET /api/undervalued-stocks/profile/undervalued-quality?limit=50&view=full
+     */
+    @GetMapping("/profile/undervalued-quality")
+    public Flux<?> getUndervaluedQualityStocks(
+        @RequestParam(defaultValue = "50") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
+    ) {
+        return getStocksByProfile("undervalued_quality", limit, view);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/profile/{profileName}?limit=50&view=full
+     */
+    @GetMapping("/profile/{profileName}")
+    public Flux<?> getStocksByProfile(
+        @PathVariable String profileName,
+        @RequestParam(defaultValue = "50") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
+    ) {
+        log.info("GET /api/undervalued-stocks/profile/{} - limit: {}, view: {}", profileName, limit, view);
+        return isSummary(view)
+            ? service.getSummariesByProfile(profileName, limit)
+            : service.getStocksByProfile(profileName, limit);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/profile/{profileName}/paging?page=0&size=20&date=2025-11-07
+     */
+    @GetMapping("/profile/{profileName}/paging")
+    public Mono<Slice<UndervaluedStockDto>> getStocksByProfileWithPaging(
+        @PathVariable String profileName,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(defaultValue = "true") boolean withTotal
+    ) {
+        log.info("GET /api/undervalued-stocks/profile/{}/paging - page: {}, size: {}, date: {}, withTotal: {}",
+            profileName, page, size, date, withTotal);
+        return service.blocking(() -> withTotal
+            ? blockingService.getStocksByProfileWithPaging(profileName, date, page, size)
+            : blockingService.getStocksByProfileSlice(profileName, date, page, size));
+    }
+
+    /**
+     * GET /api/undervalued-stocks/profile/{profileName}/cursor?size=20&cursor=...
+     */
+    @GetMapping("/profile/{profileName}/cursor")
+    public Mono<CursorPage<UndervaluedStockDto>> getStocksByProfileWithCursor(
+        @PathVariable String profileName,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        log.info("GET /api/undervalued-stocks/profile/{}/cursor - cursor: {}, size: {}, date: {}",
+            profileName, cursor, size, date);
+        return service.blocking(() -> blockingService.getStocksByProfileWithCursor(profileName, date, cursor, size));
+    }
+
+    // ============================================================
+    // 섹터 기반 조회
+    // ============================================================
+
+    /**
+     * GET /api/undervalued-stocks/sectors
+     */
+    @GetMapping("/sectors")
+    public Flux<String> getSectors() {
+        log.info("GET /api/undervalued-stocks/sectors");
+        return service.getSectors();
+    }
+
+    /**
+     * GET /api/undervalued-stocks/sector/{sectorName}/top?limit=20&view=full
+     */
+    @GetMapping("/sector/{sectorName}/top")
+    public Flux<?> getTopStocksBySector(
+        @PathVariable String sectorName,
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
+    ) {
+        log.info("GET /api/undervalued-stocks/sector/{}/top - limit: {}, view: {}", sectorName, limit, view);
+        return isSummary(view)
+            ? service.getTopSummariesBySector(sectorName, limit)
+            : service.getTopStocksBySector(sectorName, limit);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/sectors/distribution
+     */
+    @GetMapping("/sectors/distribution")
+    public Mono<List<SectorDistributionDto>> getSectorDistributions() {
+        log.info("GET /api/undervalued-stocks/sectors/distribution");
+        return service.blocking(blockingService::getSectorDistributions);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/sectors/{sector}/distribution
+     */
+    @GetMapping("/sectors/{sector}/distribution")
+    public Mono<SectorDistributionDto> getSectorDistribution(@PathVariable String sector) {
+        log.info("GET /api/undervalued-stocks/sectors/{}/distribution", sector);
+        return service.blocking(() -> blockingService.getSectorDistribution(sector));
+    }
+
+    // ============================================================
+    // 필터링 조회
+    // ============================================================
+
+    /**
+     * GET /api/undervalued-stocks/filter/score?minScore=70&maxScore=100&limit=50
+     */
+    @GetMapping("/filter/score")
+    public Flux<UndervaluedStockDto> getStocksByScoreRange(
+        @RequestParam BigDecimal minScore,
+        @RequestParam BigDecimal maxScore,
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        log.info("GET /api/undervalued-stocks/filter/score - min: {}, max: {}, limit: {}",
+            minScore, maxScore, limit);
+        return service.getStocksByScoreRange(minScore, maxScore, limit);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/filter/market-cap?minMarketCap=1000000000&maxMarketCap=100000000000&limit=50
+     */
+    @GetMapping("/filter/market-cap")
+    public Flux<UndervaluedStockDto> getStocksByMarketCapRange(
+        @RequestParam BigDecimal minMarketCap,
+        @RequestParam BigDecimal maxMarketCap,
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        log.info("GET /api/undervalued-stocks/filter/market-cap - min: {}, max: {}, limit: {}",
+            minMarketCap, maxMarketCap, limit);
+        return service.getStocksByMarketCapRange(minMarketCap, maxMarketCap, limit);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/filter/most-undervalued?limit=30
+     */
+    @GetMapping("/filter/most-undervalued")
+    public Flux<UndervaluedStockDto> getMostUndervaluedStocks(
+        @RequestParam(defaultValue = "30") int limit
+    ) {
+        log.info("GET /api/undervalued-stocks/filter/most-undervalued - limit: {}", limit);
+        return service.getMostUndervaluedStocks(limit);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/search?profile=undervalued_quality&sector=Technology&minScore=70&page=0&size=20
+     */
+    @GetMapping("/search")
+    public Mono<Slice<UndervaluedStockDto>> searchStocks(
+        @RequestParam(required = false) String profile,
+        @RequestParam(required = false) String sector,
+        @RequestParam(required = false) BigDecimal minScore,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size,
+        @RequestParam(defaultValue = "true") boolean withTotal
+    ) {
+        log.info("GET /api/undervalued-stocks/search - profile: {}, sector: {}, minScore: {}, date: {}, page: {}, size: {}, withTotal: {}",
+            profile, sector, minScore, date, page, size, withTotal);
+        if (!withTotal) {
+            return service.blocking(() ->
+                blockingService.getStocksWithFiltersSlice(profile, sector, minScore, date, page, size));
+        }
+        return service.getStocksWithFilters(profile, sector, minScore, date, page, size);
+    }
+
+    /**
+     * GET /api/undervalued-stocks/search/cursor?profile=undervalued_quality&size=20&cursor=...
+     */
+    @GetMapping("/search/cursor")
+    public Mono<CursorPage<UndervaluedStockDto>> searchStocksWithCursor(
+        @RequestParam(required = false) String profile,
+        @RequestParam(required = false) String sector,
+        @RequestParam(required = false) BigDecimal minScore,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("GET /api/undervalued-stocks/search/cursor - profile: {}, sector: {}, minScore: {}, date: {}, cursor: {}, size: {}",
+            profile, sector, minScore, date, cursor, size);
+        return service.blocking(() ->
+            blockingService.getStocksWithFiltersByCursor(profile, sector, minScore, date, cursor, size));
+    }
+
+    /**
+     * POST /api/undervalued-stocks/screen
+     */
+    @PostMapping("/screen")
+    public Mono<ScreenResponse> screenStocks(@RequestBody ScreenRequest request) {
+        log.info("POST /api/undervalued-stocks/screen - date: {}, sort: {} {}, limit: {}",
+            request.getDate(), request.getSort(), request.getDirection(), request.getLimit());
+        return service.blocking(() -> blockingService.screen(request));
+    }
+
+    // ============================================================
+    // Top N 조회 (점수별)
+    // ============================================================
+
+    /**
+     * GET /api/undervalued-stocks/top/{growth|quality|value|momentum}?limit=20&view=full
+     */
+    @GetMapping("/top/{score:growth|quality|value|momentum}")
+    public Flux<?> getTopStocksByScore(
+        @PathVariable String score,
+        @RequestParam(defaultValue = "20") int limit,
+        @RequestParam(defaultValue = VIEW_FULL) String view
+    ) {
+        log.info("GET /api/undervalued-stocks/top/{} - limit: {}, view: {}", score, limit, view);
+        StockMetric metric = StockMetric.fromName(score + "Score").orElseThrow();
+        return isSummary(view)
+            ? service.getTopSummariesByScore(metric, limit)
+            : service.getTopStocksByScore(metric, limit);
+    }
+
+    // ============================================================
+    // 통계 API
+    // ============================================================
+
+    /**
+     * GET /api/undervalued-stocks/stats
+     */
+    @GetMapping("/stats")
+    public Mono<StockStatisticsDto> getStatistics() {
+        log.info("GET /api/undervalued-stocks/stats");
+        return service.getStatistics();
+    }
+
+    /**
+     * GET /api/undervalued-stocks/profile/{profileName}/count
+     */
+    @GetMapping("/profile/{profileName}/count")
+    public Mono<Map<String, Object>> getProfileStockCount(@PathVariable String profileName) {
+        log.info("GET /api/undervalued-stocks/profile/{}/count", profileName);
+        return Mono.zip(service.getStockCountByProfile(profileName), service.getLatestDataDate())
+            .map(result -> {
+                Map<String, Object> response = new HashMap<>();
+                response.put("profile", profileName);
+                response.put("count", result.getT1());
+                response.put("latestDate", result.getT2());
+                return response;
+            });
+    }
+
+    // ============================================================
+    // 헬스 체크
+    // ============================================================
+
+    /**
+     * GET /api/undervalued-stocks/health
+     */
+    @GetMapping("/health")
+    public Mono<Map<String, String>> healthCheck() {
+        Map<String, String> response = new HashMap<>();
+        response.put("status", "UP");
+        response.put("service", "ReactiveStockService");
+        response.put("timestamp", LocalDate.now().toString());
+
+        return service.getLatestDataDate()
+            .map(latestDate -> {
+                response.put("latestDataDate", latestDate.toString());
+                response.put("dataStatus", "available");
+                return response;
+            })
+            .onErrorResume(e -> {
+                response.put("dataStatus", "unavailable");
+                response.put("error", e.getMessage());
+                return Mono.just(response);
+            });
+    }
+
+    // ============================================================
+    // Helper
+    // ============================================================
+
+    /**
+     * 목록 응답 형태 (full: 전체 지표, summary: 카드용 요약)
+     */
+    private static boolean isSummary(String view) {
+        if (VIEW_SUMMARY.equalsIgnoreCase(view)) {
+            return true;
+        }
+        if (VIEW_FULL.equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new IllegalArgumentException("view 는 summary 또는 full 입니다: " + view);
+    }
+}
@@ -0,0 +1,227 @@
+package com.ddalkkak.backend.reactive;
+
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import com.ddalkkak.backend.entity.ProfileSet;
+import com.ddalkkak.backend.snapshot.StockMetric;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * R2DBC 조회 저장소 (reactive 프로필)
+ *
+ * UndervaluedStockRepository 의 조회 쿼리와 같은 SQL 을 논블로킹으로 실행한다.
+ * 결과는 행 단위 Flux 로 내보내며, 구독자 요청량만큼만 드라이버에서 읽는다 (backpressure).
+ * 컬럼명은 StockMetric 에 정의된 이름만 사용하므로 SQL 에 그대로 넣어도 안전하다.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveStockRepository {
+
+    private static final String PROFILE_EXISTS =
+        "EXISTS (SELECT 1 FROM stock_profiles sp " +
+        "    JOIN screening_profiles p ON p.id = sp.profile_id " +
+        "    WHERE sp.stock_id = s.id AND sp.data_date = s.data_date AND p.profile_name = :profileName)";
+
+    private static final String FILTERS =
+        "WHERE s.data_date = :dataDate " +
+        "AND (:profileName IS NULL OR " + PROFILE_EXISTS + ") " +
+        "AND (:sector IS NULL OR s.sector = :sector) " +
+        "AND (:minScore IS NULL OR s.total_score >= :minScore) ";
+
+    private final DatabaseClient client;
+
+    // ============================================================
+    // 기본 조회
+    // ============================================================
+
+    public Mono<LocalDate> findLatestDataDate() {
+        return client.sql("SELECT data_date FROM undervalued_stocks ORDER BY data_date DESC LIMIT 1")
+            .map(row -> row.get("data_date", LocalDate.class))
+            .one();
+    }
+
+    public Flux<UndervaluedStockDto> findTop(LocalDate dataDate, int limit) {
+        return client.sql("SELECT * FROM undervalued_stocks s WHERE s.data_date = :dataDate " +
+                "ORDER BY s.total_score DESC LIMIT :limit")
+            .bind("dataDate", dataDate)
+            .bind("limit", limit)
+            .map(ReactiveStockRepository::toDto)
+            .all();
+    }
+
+    public Mono<UndervaluedStockDto> findByTickerAndDataDate(String ticker, LocalDate dataDate) {
+        return client.sql("SELECT * FROM undervalued_stocks s WHERE s.ticker = :ticker AND s.data_date = :dataDate")
+            .bind("ticker", ticker)
+            .bind("dataDate", dataDate)
+            .map(ReactiveStockRepository::toDto)
+            .one();
+    }
+
+    // ============================================================
+    // 프로필 / 섹터
+    // ============================================================
+
+    public Flux<UndervaluedStockDto> findByProfile(LocalDate dataDate, String profileName, int limit) {
+        return client.sql("SELECT s.* FROM stock_profiles sp " +
+                "JOIN undervalued_stocks s ON s.id = sp.stock_id AND s.data_date = sp.data_date " +
+                "WHERE sp.profile_id = (SELECT p.id FROM screening_profiles p WHERE p.profile_name = :profileName) " +
+                "AND sp.data_date = :dataDate " +
+                "ORDER BY sp.total_score DESC LIMIT :limit")
+            .bind("profileName", profileName)
+            .bind("dataDate", dataDate)
+            .bind("limit", limit > 0 ? limit : Integer.MAX_VALUE)
+            .map(ReactiveStockRepository::toDto)
+            .all();
+    }
+
+    public Mono<Long> countByProfile(LocalDate dataDate, String profileName) {
+        return client.sql("SELECT COUNT(*) AS cnt FROM stock_profiles sp " +
+                "WHERE sp.profile_id = (SELECT p.id FROM screening_profiles p WHERE p.profile_name = :profileName) " +
+                "AND sp.data_date = :dataDate")
+            .bind("profileName", profileName)
+            .bind("dataDate", dataDate)
+            .map(row -> row.get("cnt", Long.class))
+            .one();
+    }
+
+    public Flux<String> findActiveProfileNames() {
+        return client.sql("SELECT profile_name FROM screening_profiles WHERE is_active = TRUE ORDER BY id")
+            .map(row -> row.get("profile_name", String.class))
+            .all();
+    }
+
+    public Flux<String> findDistinctSectors(LocalDate dataDate) {
+        return client.sql("SELECT DISTINCT s.sector FROM undervalued_stocks s " +
+                "WHERE s.data_date = :dataDate AND s.sector IS NOT NULL ORDER BY s.sector")
+            .bind("dataDate", dataDate)
+            .map(row -> row.get("sector", String.class))
+            .all();
+    }
+
+    public Flux<UndervaluedStockDto> findBySector(LocalDate dataDate, String sector, int limit) {
+        return client.sql("SELECT * FROM undervalued_stocks s WHERE s.data_date = :dataDate AND s.sector = :sector " +
+                "ORDER BY s.total_score DESC LIMIT :limit")
+            .bind("dataDate", dataDate)
+            .bind("sector", sector)
+            .bind("limit", limit)
+            .map(ReactiveStockRepository::toDto)
+            .all();
+    }
+
+    // ============================================================
+    // 필터링 / 점수별 Top
+    // ============================================================
+
+    /**
+     * 지표 범위 필터 (총점 내림차순)
+     */
+    public Flux<UndervaluedStockDto> findByMetricBetween(LocalDate dataDate, StockMetric metric,
+                                                         BigDecimal min, BigDecimal max, int limit) {
+        String column = metric.getColumnName();
+        return client.sql("SELECT * FROM undervalued_stocks s WHERE s.data_date = :dataDate " +
+                "AND s." + column + " BETWEEN :min AND :max " +
+                "ORDER BY s.total_score DESC LIMIT :limit")
+            .bind("dataDate", dataDate)
+            .bind("min", min)
+            .bind("max", max)
+            .bind("limit", limit)
+            .map(ReactiveStockRepository::toDto)
+            .all();
+    }
+
+    public Flux<UndervaluedStockDto> findMostUndervalued(LocalDate dataDate, int limit) {
+        return client.sql("SELECT * FROM undervalued_stocks s WHERE s.data_date = :dataDate " +
+                "AND s.discount < 0 ORDER BY s.discount ASC LIMIT :limit")
+            .bind("dataDate", dataDate)
+            .bind("limit", limit)
+            .map(ReactiveStockRepository::toDto)
+            .all();
+    }
+
+    /**
+     * 점수 컬럼 기준 Top N (NULL 제외)
+     */
+    public Flux<UndervaluedStockDto> findTopByScore(LocalDate dataDate, StockMetric score, int limit) {
+        String column = score.getColumnName();
+        return client.sql("SELECT * FROM undervalued_stocks s WHERE s.data_date = :dataDate " +
+                "AND s." + column + " IS NOT NULL ORDER BY s." + column + " DESC LIMIT :limit")
+            .bind("dataDate", dataDate)
+            .bind("limit", limit)
+            .map(ReactiveStockRepository::toDto)
+            .all();
+    }
+
+    public Flux<UndervaluedStockDto> findWithFilters(LocalDate dataDate, String profileName, String sector,
+                                                     BigDecimal minScore, int limit, int offset) {
+        DatabaseClient.GenericExecuteSpec spec = client.sql("SELECT * FROM undervalued_stocks s " + FILTERS +
+                "ORDER BY s.total_score DESC LIMIT :limit OFFSET :offset")
+            .bind("limit", limit)
+            .bind("offset", offset);
+        return bindFilters(spec, dataDate, profileName, sector, minScore)
+            .map(ReactiveStockRepository::toDto)
+            .all();
+    }
+
+    public Mono<Long> countWithFilters(LocalDate dataDate, String profileName, String sector, BigDecimal minScore) {
+        DatabaseClient.GenericExecuteSpec spec = client.sql("SELECT COUNT(*) AS cnt FROM undervalued_stocks s " + FILTERS);
+        return bindFilters(spec, dataDate, profileName, sector, minScore)
+            .map(row -> row.get("cnt", Long.class))
+            .one();
+    }
+
+    // ============================================================
+    // 통계
+    // ============================================================
+
+    public Mono<Long> countByDataDate(LocalDate dataDate) {
+        return client.sql("SELECT COUNT(*) AS cnt FROM undervalued_stocks WHERE data_date = :dataDate")
+            .bind("dataDate", dataDate)
+            .map(row -> row.get("cnt", Long.class))
+            .one();
+    }
+
+    public Mono<BigDecimal> averageTotalScore(LocalDate dataDate) {
+        return client.sql("SELECT COALESCE(AVG(total_score), 0) AS avg_score FROM undervalued_stocks " +
+                "WHERE data_date = :dataDate")
+            .bind("dataDate", dataDate)
+            .map(row -> row.get("avg_score", BigDecimal.class))
+            .one();
+    }
+
+    // ============================================================
+    // Helper
+    // ============================================================
+
+    private static DatabaseClient.GenericExecuteSpec bindFilters(DatabaseClient.GenericExecuteSpec spec,
+                                                                 LocalDate dataDate, String profileName,
+                                                                 String sector, BigDecimal minScore) {
+        spec = spec.bind("dataDate", dataDate);
+        spec = profileName != null ? spec.bind("profileName", profileName) : spec.bindNull("profileName", String.class);
+        spec = sector != null ? spec.bind("sector", sector) : spec.bindNull("sector", String.class);
+        spec = minScore != null ? spec.bind("minScore", minScore) : spec.bindNull("minScore", BigDecimal.class);
+        return spec;
+    }
+
+    private static UndervaluedStockDto toDto(Readable row) {
+        UndervaluedStockDto.UndervaluedStockDtoBuilder builder = UndervaluedStockDto.builder()
+            .ticker(row.get("ticker", String.class))
+            .name(row.get("name", String.class))
+            .sector(row.get("sector", String.class))
+            .industry(row.get("industry", String.class))
+            .passedProfiles(ProfileSet.fromJson(row.get("passed_profiles", String.class)))
+            .dataDate(row.get("data_date", LocalDate.class));
+        for (StockMetric metric : StockMetric.values()) {
+            metric.write(builder, row.get(metric.getColumnName(), BigDecimal.class));
+        }
+        return builder.build();
+    }
+}
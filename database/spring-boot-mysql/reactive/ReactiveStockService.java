@@ -0,0 +1,245 @@
+package com.ddalkkak.backend.reactive;
+
+import com.ddalkkak.backend.dto.StockStatisticsDto;
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import com.ddalkkak.backend.dto.UndervaluedStockSummaryDto;
+import com.ddalkkak.backend.service.UndervaluedStockService;
+import com.ddalkkak.backend.snapshot.PublishedSnapshot;
+import com.ddalkkak.backend.snapshot.SnapshotVersion;
+import com.ddalkkak.backend.snapshot.StockMetric;
+import com.ddalkkak.backend.snapshot.StockSnapshotHolder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 논블로킹 조회 서비스 (reactive 프로필)
+ *
+ * 최신 날짜 + 스냅샷 게시 상태에서는 UndervaluedStockService 의 스냅샷 경로를 그대로 쓴다 (메모리 조회라 블로킹 없음).
+ * 스냅샷이 없거나 과거 날짜이면 R2DBC 로 조회한다.
+ * R2DBC 로 옮기지 않은 조회(배치, 시계열, 커서, 스크리닝 등)는 blocking 서비스를 boundedElastic 에서 실행하여
+ * 이벤트 루프 스레드를 막지 않는다.
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveStockService {
+
+    private final ReactiveStockRepository repository;
+    private final UndervaluedStockService blockingService;
+    private final StockSnapshotHolder snapshotHolder;
+    private final SnapshotVersion snapshotVersion;
+
+    // ============================================================
+    // 기본 조회
+    // ============================================================
+
+    public Mono<LocalDate> getLatestDataDate() {
+        return Mono.justOrEmpty(snapshotVersion.getLatestDate())
+            .switchIfEmpty(Mono.defer(repository::findLatestDataDate))
+            .switchIfEmpty(Mono.error(() -> new RuntimeException("데이터가 없습니다")));
+    }
+
+    public Flux<UndervaluedStockDto> getLatestTopStocks(int limit) {
+        return latest(() -> blockingService.getLatestTopStocks(limit),
+            date -> repository.findTop(date, limit));
+    }
+
+    public Flux<UndervaluedStockSummaryDto> getLatestTopSummaries(int limit) {
+        return latest(() -> blockingService.getLatestTopSummaries(limit),
+            date -> repository.findTop(date, limit).map(ReactiveStockService::toSummary));
+    }
+
+    public Mono<UndervaluedStockDto> getStockByTicker(String ticker) {
+        if (snapshotHolder.current() != null) {
+            return Mono.fromCallable(() -> blockingService.getStockByTicker(ticker));
+        }
+        return getLatestDataDate().flatMap(date -> getStockByTickerAndDate(ticker, date));
+    }
+
+    public Mono<UndervaluedStockDto> getStockByTickerAndDate(String ticker, LocalDate date) {
+        if (snapshotHolder.forDate(date) != null) {
+            return Mono.fromCallable(() -> blockingService.getStockByTickerAndDate(ticker, date));
+        }
+        return repository.findByTickerAndDataDate(ticker, date)
+            .switchIfEmpty(Mono.error(() -> new RuntimeException("종목을 찾을 수 없습니다: " + ticker)));
+    }
+
+    // ============================================================
+    // 프로필 / 섹터
+    // ============================================================
+
+    public Flux<UndervaluedStockDto> getStocksByProfile(String profile, int limit) {
+        return latest(() -> blockingService.getStocksByProfile(profile, limit),
+            date -> repository.findByProfile(date, profile, limit));
+    }
+
+    public Flux<UndervaluedStockSummaryDto> getSummariesByProfile(String profile, int limit) {
+        return latest(() -> blockingService.getSummariesByProfile(profile, limit),
+            date -> repository.findByProfile(date, profile, limit).map(ReactiveStockService::toSummary));
+    }
+
+    public Mono<Long> getStockCountByProfile(String profile) {
+        if (snapshotHolder.current() != null) {
+            return Mono.fromCallable(() -> blockingService.getStockCountByProfile(profile));
+        }
+        return getLatestDataDate().flatMap(date -> repository.countByProfile(date, profile));
+    }
+
+    public Flux<String> getSectors() {
+        return latest(blockingService::getSectors, repository::findDistinctSectors);
+    }
+
+    public Flux<UndervaluedStockDto> getTopStocksBySector(String sector, int limit) {
+        return latest(() -> blockingService.getTopStocksBySector(sector, limit),
+            date -> repository.findBySector(date, sector, limit));
+    }
+
+    public Flux<UndervaluedStockSummaryDto> getTopSummariesBySector(String sector, int limit) {
+        return latest(() -> blockingService.getTopSummariesBySector(sector, limit),
+            date -> repository.findBySector(date, sector, limit).map(ReactiveStockService::toSummary));
+    }
+
+    // ============================================================
+    // 필터링 / 점수별 Top
+    // ============================================================
+
+    public Flux<UndervaluedStockDto> getStocksByScoreRange(BigDecimal minScore, BigDecimal maxScore, int limit) {
+        return latest(() -> blockingService.getStocksByScoreRange(minScore, maxScore, limit),
+            date -> repository.findByMetricBetween(date, StockMetric.TOTAL_SCORE, minScore, maxScore, limit));
+    }
+
+    public Flux<UndervaluedStockDto> getStocksByMarketCapRange(BigDecimal minMarketCap, BigDecimal maxMarketCap,
+                                                               int limit) {
+        return latest(() -> blockingService.getStocksByMarketCapRange(minMarketCap, maxMarketCap, limit),
+            date -> repository.findByMetricBetween(date, StockMetric.MARKET_CAP, minMarketCap, maxMarketCap, limit));
+    }
+
+    public Flux<UndervaluedStockDto> getMostUndervaluedStocks(int limit) {
+        return latest(() -> blockingService.getMostUndervaluedStocks(limit),
+            date -> repository.findMostUndervalued(date, limit));
+    }
+
+    public Flux<UndervaluedStockDto> getTopStocksByScore(StockMetric score, int limit) {
+        return latest(() -> switch (score) {
+                case GROWTH_SCORE -> blockingService.getTopGrowthStocks(limit);
+                case QUALITY_SCORE -> blockingService.getTopQualityStocks(limit);
+                case VALUE_SCORE -> blockingService.getTopValueStocks(limit);
+                case MOMENTUM_SCORE -> blockingService.getTopMomentumStocks(limit);
+                default -> throw new IllegalArgumentException("점수 컬럼이 아닙니다: " + score.getFieldName());
+            },
+            date -> repository.findTopByScore(date, score, limit));
+    }
+
+    public Flux<UndervaluedStockSummaryDto> getTopSummariesByScore(StockMetric score, int limit) {
+        return latest(() -> blockingService.getTopSummariesByScore(score, limit),
+            date -> repository.findTopByScore(date, score, limit).map(ReactiveStockService::toSummary));
+    }
+
+    /**
+     * 다중 조건 검색 (DB 경로는 목록과 total 카운트를 동시에 조회)
+     */
+    public Mono<Slice<UndervaluedStockDto>> getStocksWithFilters(String profile, String sector, BigDecimal minScore,
+                                                                 LocalDate date, int page, int size) {
+        Mono<LocalDate> dataDate = date != null ? Mono.just(date) : getLatestDataDate();
+        return dataDate.flatMap(d -> {
+            if (snapshotHolder.forDate(d) != null) {
+                return Mono.fromCallable(() -> blockingService.getStocksWithFilters(profile, sector, minScore, d, page, size));
+            }
+            return Mono.zip(
+                repository.findWithFilters(d, profile, sector, minScore, size, page * size).collectList(),
+                repository.countWithFilters(d, profile, sector, minScore)
+            ).map(result -> new PageImpl<>(result.getT1(), PageRequest.of(page, size), result.getT2()));
+        });
+    }
+
+    // ============================================================
+    // 통계
+    // ============================================================
+
+    /**
+     * 게시본 사전 집계 통계 (첫 게시 전에만 종목 수/평균/프로필별 수를 R2DBC 로 동시에 집계)
+     */
+    public Mono<StockStatisticsDto> getStatistics() {
+        PublishedSnapshot published = snapshotVersion.current();
+        if (published != null && published.getStatistics() != null) {
+            return Mono.just(published.getStatistics());
+        }
+        long version = published != null ? published.getVersion() : 0L;
+        return getLatestDataDate().flatMap(date -> Mono.zip(
+            repository.countByDataDate(date),
+            repository.averageTotalScore(date),
+            repository.findActiveProfileNames()
+                .flatMapSequential(profile -> repository.countByProfile(date, profile)
+                    .map(count -> Map.entry(profile, count)))
+                .collect(LinkedHashMap<String, Long>::new, (map, entry) -> map.put(entry.getKey(), entry.getValue()))
+        ).map(result -> StockStatisticsDto.builder()
+            .latestDate(date)
+            .version(version)
+            .totalStocks(result.getT1())
+            .averageTotalScore(result.getT2())
+            .profileCounts(result.getT3())
+            .computedAt(LocalDateTime.now())
+            .build()));
+    }
+
+    // ============================================================
+    // blocking 서비스 위임
+    // ============================================================
+
+    /**
+     * R2DBC 로 옮기지 않은 조회를 boundedElastic 에서 실행
+     */
+    public <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // ============================================================
+    // Helper
+    // ============================================================
+
+    /**
+     * 최신 날짜 목록 조회 - 스냅샷이 있으면 메모리, 없으면 R2DBC
+     */
+    private <T> Flux<T> latest(Supplier<List<T>> fromSnapshot, Function<LocalDate, Flux<T>> fromDatabase) {
+        return Flux.defer(() -> snapshotHolder.current() != null
+            ? Flux.fromIterable(fromSnapshot.get())
+            : getLatestDataDate().flatMapMany(fromDatabase));
+    }
+
+    private static UndervaluedStockSummaryDto toSummary(UndervaluedStockDto dto) {
+        return UndervaluedStockSummaryDto.builder()
+            .ticker(dto.getTicker())
+            .name(dto.getName())
+            .sector(dto.getSector())
+            .industry(dto.getIndustry())
+            .price(dto.getPrice())
+            .marketCap(dto.getMarketCap())
+            .peRatio(dto.getPeRatio())
+            .fairValue(dto.getFairValue())
+            .discount(dto.getDiscount())
+            .growthScore(dto.getGrowthScore())
+            .qualityScore(dto.getQualityScore())
+            .valueScore(dto.getValueScore())
+            .momentumScore(dto.getMomentumScore())
+            .totalScore(dto.getTotalScore())
+            .dataDate(dto.getDataDate())
+            .build();
+    }
+}
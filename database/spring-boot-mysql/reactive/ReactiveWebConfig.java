@@ -0,0 +1,40 @@
+package com.ddalkkak.backend.reactive;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.reactive.CorsWebFilter;
+import org.springframework.web.cors.reactive.UrlBasedCorsConfigurationSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * WebFlux 설정 (reactive 프로필)
+ *
+ * servlet 의 CorsConfig 와 같은 CORS 규칙을 WebFilter 로 적용한다 (공개 조회 API 만, 관리 API 는 이 프로필에 없음).
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveWebConfig {
+
+    @Bean
+    public CorsWebFilter corsWebFilter() {
+        // 먼저 등록한 패턴이 우선 (POST 를 받는 공개 조회 API → 나머지 GET)
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        CorsConfiguration query = config(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.POST);
+        source.registerCorsConfiguration("/api/undervalued-stocks/batch", query);
+        source.registerCorsConfiguration("/api/undervalued-stocks/screen", query);
+        source.registerCorsConfiguration("/api/undervalued-stocks/**", config(HttpMethod.GET, HttpMethod.HEAD));
+        return new CorsWebFilter(source);
+    }
+
+    private static CorsConfiguration config(HttpMethod... methods) {
+        CorsConfiguration config = new CorsConfiguration().applyPermitDefaultValues();
+        config.setAllowedOrigins(List.of("*"));
+        config.setAllowedMethods(Arrays.stream(methods).map(HttpMethod::name).toList());
+        return config;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ddalkkak.backend.repository;
+
+import com.ddalkkak.backend.entity.DailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 집계 통계 리포지토리 (MySQL 8.0)
+ */
+@Repository
+public interface DailyStatsRepository extends JpaRepository<DailyStats, LocalDate> {
+}
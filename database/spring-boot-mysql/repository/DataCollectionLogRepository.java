@@ -0,0 +1,29 @@
+package com.ddalkkak.backend.repository;
+
+import com.ddalkkak.backend.entity.DataCollectionLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 데이터 수집 로그 리포지토리 (MySQL 8.0)
+ */
+@Repository
+public interface DataCollectionLogRepository extends JpaRepository<DataCollectionLog, Long> {
+
+    /**
+     * 특정 상태의 가장 최근 로그 ID (idx_status 사용)
+     */
+    @Query("SELECT MAX(l.id) FROM DataCollectionLog l WHERE l.status = :status")
+    Optional<Long> findLatestIdByStatus(@Param("status") String status);
+
+    /**
+     * 특정 상태 로그의 가장 최근 수집 날짜 (completed 면 스크리닝까지 끝난 최신 날짜)
+     */
+    @Query("SELECT MAX(l.collectionDate) FROM DataCollectionLog l WHERE l.status = :status")
+    Optional<LocalDate> findLatestCollectionDateByStatus(@Param("status") String status);
+}
@@ -0,0 +1,19 @@
+package com.ddalkkak.backend.repository;
+
+import com.ddalkkak.backend.entity.ScreeningProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 스크리닝 프로필 리포지토리 (MySQL 8.0)
+ */
+@Repository
+public interface ScreeningProfileRepository extends JpaRepository<ScreeningProfile, Integer> {
+
+    /**
+     * 활성 프로필 목록 (등록 순)
+     */
+    List<ScreeningProfile> findByIsActiveTrueOrderByIdAsc();
+}
@@ -0,0 +1,19 @@
+package com.ddalkkak.backend.repository;
+
+import com.ddalkkak.backend.entity.SnapshotPublication;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 스냅샷 게시 이력 리포지토리 (MySQL 8.0)
+ */
+@Repository
+public interface SnapshotPublicationRepository extends JpaRepository<SnapshotPublication, Long> {
+
+    /**
+     * 특정 상태의 가장 최근 게시 이력 (idx_status_id 사용)
+     */
+    Optional<SnapshotPublication> findFirstByStatusOrderByIdDesc(String status);
+}
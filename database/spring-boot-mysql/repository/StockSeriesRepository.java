@@ -0,0 +1,67 @@
+package com.ddalkkak.backend.repository;
+
+import com.ddalkkak.backend.dto.StockSeriesDto;
+import com.ddalkkak.backend.snapshot.StockMetric;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 티커 시계열 조회 (요청 지표 컬럼만 SELECT)
+ *
+ * unique_ticker_date (ticker, data_date) 범위 스캔 한 번으로 읽는다.
+ * 점수 5종만 요청하면 idx_ticker_date_scores 만으로 응답 (커버링 인덱스).
+ * 컬럼명은 StockMetric 에 정의된 이름만 사용하므로 SQL 에 그대로 넣어도 안전하다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockSeriesRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * [from, to] 구간의 날짜 오름차순 시계열 (다운샘플링 전)
+     */
+    public StockSeriesDto findSeries(String ticker, LocalDate from, LocalDate to, List<StockMetric> metrics) {
+        String sql = "SELECT data_date"
+            + metrics.stream().map(metric -> ", " + metric.getColumnName()).collect(Collectors.joining())
+            + " FROM undervalued_stocks"
+            + " WHERE ticker = ? AND data_date BETWEEN ? AND ?"
+            + " ORDER BY data_date";
+
+        List<LocalDate> dates = new ArrayList<>();
+        List<List<BigDecimal>> columns = new ArrayList<>();
+        for (int i = 0; i < metrics.size(); i++) {
+            columns.add(new ArrayList<>());
+        }
+        jdbcTemplate.query(sql, rs -> {
+            dates.add(rs.getDate(1).toLocalDate());
+            for (int i = 0; i < metrics.size(); i++) {
+                columns.get(i).add(rs.getBigDecimal(i + 2));
+            }
+        }, ticker, Date.valueOf(from), Date.valueOf(to));
+
+        Map<String, List<BigDecimal>> series = new LinkedHashMap<>();
+        for (int i = 0; i < metrics.size(); i++) {
+            series.put(metrics.get(i).getJsonName(), columns.get(i));
+        }
+        return StockSeriesDto.builder()
+            .ticker(ticker)
+            .from(from)
+            .to(to)
+            .interval("daily")
+            .every(1)
+            .dates(dates)
+            .series(series)
+            .build();
+    }
+}
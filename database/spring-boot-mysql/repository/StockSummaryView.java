@@ -0,0 +1,40 @@
+package com.ddalkkak.backend.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 네이티브 쿼리용 요약 인터페이스 프로젝션 (컬럼 별칭 = getter 이름)
+ */
+public interface StockSummaryView {
+
+    String getTicker();
+
+    String getName();
+
+    String getSector();
+
+    String getIndustry();
+
+    BigDecimal getPrice();
+
+    BigDecimal getMarketCap();
+
+    BigDecimal getPeRatio();
+
+    BigDecimal getFairValue();
+
+    BigDecimal getDiscount();
+
+    BigDecimal getGrowthScore();
+
+    BigDecimal getQualityScore();
+
+    BigDecimal getValueScore();
+
+    BigDecimal getMomentumScore();
+
+    BigDecimal getTotalScore();
+
+    LocalDate getDataDate();
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,6 +30,11 @@ public interface UndervaluedStockRepository extends JpaRepository<UndervaluedSto
      */
     Optional<UndervaluedStock> findByTickerAndDataDate(String ticker, LocalDate dataDate);
 
+    /**
+     * 특정 날짜의 여러 티커 일괄 조회 (unique_ticker_date 사용)
+     */
+    List<UndervaluedStock> findByDataDateAndTickerIn(LocalDate dataDate, Collection<String> tickers);
+
     /**
      * 특정 날짜의 모든 데이터 조회
      */
@@ -41,72 +47,64 @@ public interface UndervaluedStockRepository extends JpaRepository<UndervaluedSto
 
     /**
      * 최신 날짜 조회
+     * 요청 처리 중에는 호출하지 않고 SnapshotPublisher 가 게시할 날짜를 정할 때만 사용
      */
     @Query("SELECT MAX(s.dataDate) FROM UndervaluedStock s")
     Optional<LocalDate> findLatestDataDate();
 
     /**
-     * 최신 데이터 조회 (totalScore 내림차순)
+     * 특정 날짜 데이터 조회 (totalScore 내림차순)
      */
-    @Query("SELECT s FROM UndervaluedStock s WHERE s.dataDate = " +
-           "(SELECT MAX(s2.dataDate) FROM UndervaluedStock s2) " +
-           "ORDER BY s.totalScore DESC")
-    List<UndervaluedStock> findLatestStocksOrderByTotalScore(Pageable pageable);
+    List<UndervaluedStock> findByDataDateOrderByTotalScoreDesc(LocalDate dataDate, Pageable pageable);
 
     // ============================================================
-    // 프로필 기반 조회 (MySQL JSON_CONTAINS 사용)
+    // 프로필 기반 조회 (stock_profiles 인덱스 사용)
     // ============================================================
+    // passed_profiles JSON 은 인덱스를 탈 수 없으므로 정규화 테이블 stock_profiles 의
+    // idx_profile_date_score (profile_id, data_date, total_score DESC) 범위 스캔으로 조회
+    // undervalued_stocks 조인에도 data_date 를 함께 걸어 기본 키 (id, data_date) 로 해당 월 파티션만 읽는다 (V7)
 
     /**
      * 특정 프로필을 통과한 종목 조회
-     * MySQL의 JSON_CONTAINS 함수 사용
      */
-    @Query(value = "SELECT * FROM undervalued_stocks s " +
-           "WHERE s.data_date = :dataDate " +
-           "AND JSON_CONTAINS(s.passed_profiles, :profileJson) = 1 " +
-           "ORDER BY s.total_score DESC",
+    @Query(value = "SELECT s.* FROM stock_profiles sp " +
+           "JOIN undervalued_stocks s ON s.id = sp.stock_id AND s.data_date = sp.data_date " +
+           "WHERE sp.profile_id = (SELECT p.id FROM screening_profiles p WHERE p.profile_name = :profileName) " +
+           "AND sp.data_date = :dataDate " +
+           "ORDER BY sp.total_score DESC",
            nativeQuery = true)
     List<UndervaluedStock> findByDataDateAndProfile(
         @Param("dataDate") LocalDate dataDate,
-        @Param("profileJson") String profileJson
+        @Param("profileName") String profileName
     );
 
-    /**
-     * 최신 데이터에서 특정 프로필을 통과한 종목 조회
-     */
-    @Query(value = "SELECT * FROM undervalued_stocks s " +
-           "WHERE s.data_date = (SELECT MAX(data_date) FROM undervalued_stocks) " +
-           "AND JSON_CONTAINS(s.passed_profiles, :profileJson) = 1 " +
-           "ORDER BY s.total_score DESC",
-           nativeQuery = true)
-    List<UndervaluedStock> findLatestByProfile(@Param("profileJson") String profileJson);
-
     /**
      * 특정 프로필을 통과한 종목 페이징 조회
      */
-    @Query(value = "SELECT * FROM undervalued_stocks s " +
-           "WHERE s.data_date = :dataDate " +
-           "AND JSON_CONTAINS(s.passed_profiles, :profileJson) = 1 " +
-           "ORDER BY s.total_score DESC " +
+    @Query(value = "SELECT s.* FROM stock_profiles sp " +
+           "JOIN undervalued_stocks s ON s.id = sp.stock_id AND s.data_date = sp.data_date " +
+           "WHERE sp.profile_id = (SELECT p.id FROM screening_profiles p WHERE p.profile_name = :profileName) " +
+           "AND sp.data_date = :dataDate " +
+           "ORDER BY sp.total_score DESC " +
            "LIMIT :limit OFFSET :offset",
            nativeQuery = true)
     List<UndervaluedStock> findByDataDateAndProfilePaged(
         @Param("dataDate") LocalDate dataDate,
-        @Param("profileJson") String profileJson,
+        @Param("profileName") String profileName,
         @Param("limit") int limit,
         @Param("offset") int offset
     );
 
     /**
-     * 프로필별 종목 수 조회
+     * 프로필별 종목 수 조회 (인덱스만으로 처리)
      */
-    @Query(value = "SELECT COUNT(*) FROM undervalued_stocks s " +
-           "WHERE s.data_date = :dataDate " +
-           "AND JSON_CONTAINS(s.passed_profiles, :profileJson) = 1",
+    @Query(value = "SELECT COUNT(*) FROM stock_profiles sp " +
+           "WHERE sp.profile_id = (SELECT p.id FROM screening_profiles p WHERE p.profile_name = :profileName) " +
+           "AND sp.data_date = :dataDate",
            nativeQuery = true)
     Long countByDataDateAndProfile(
         @Param("dataDate") LocalDate dataDate,
-        @Param("profileJson") String profileJson
+        @Param("profileName") String profileName
     );
 
     // ============================================================
@@ -122,18 +120,6 @@ public interface UndervaluedStockRepository extends JpaRepository<UndervaluedSto
         Pageable pageable
     );
 
-    /**
-     * 최신 데이터에서 섹터별 Top 종목 조회
-     */
-    @Query("SELECT s FROM UndervaluedStock s WHERE s.dataDate = " +
-           "(SELECT MAX(s2.dataDate) FROM UndervaluedStock s2) " +
-           "AND s.sector = :sector " +
-           "ORDER BY s.totalScore DESC")
-    List<UndervaluedStock> findLatestBySectorOrderByScore(
-        @Param("sector") String sector,
-        Pageable pageable
-    );
-
     /**
      * 특정 날짜의 모든 섹터 목록 조회
      */
@@ -188,7 +174,9 @@ public interface UndervaluedStockRepository extends JpaRepository<UndervaluedSto
      */
     @Query(value = "SELECT * FROM undervalued_stocks s " +
            "WHERE s.data_date = :dataDate " +
-           "AND (:profileJson IS NULL OR JSON_CONTAINS(s.passed_profiles, :profileJson) = 1) " +
+           "AND (:profileName IS NULL OR EXISTS (SELECT 1 FROM stock_profiles sp " +
+           "    JOIN screening_profiles p ON p.id = sp.profile_id " +
+           "    WHERE sp.stock_id = s.id AND sp.data_date = s.data_date AND p.profile_name = :profileName)) " +
            "AND (:sector IS NULL OR s.sector = :sector) " +
            "AND (:minScore IS NULL OR s.total_score >= :minScore) " +
            "ORDER BY s.total_score DESC " +
@@ -196,7 +184,7 @@ public interface UndervaluedStockRepository extends JpaRepository<UndervaluedSto
            nativeQuery = true)
     List<UndervaluedStock> findWithFilters(
         @Param("dataDate") LocalDate dataDate,
-        @Param("profileJson") String profileJson,
+        @Param("profileName") String profileName,
         @Param("sector") String sector,
         @Param("minScore") BigDecimal minScore,
         @Param("limit") int limit,
@@ -208,17 +196,75 @@ public interface UndervaluedStockRepository extends JpaRepository<UndervaluedSto
      */
     @Query(value = "SELECT COUNT(*) FROM undervalued_stocks s " +
            "WHERE s.data_date = :dataDate " +
-           "AND (:profileJson IS NULL OR JSON_CONTAINS(s.passed_profiles, :profileJson) = 1) " +
+           "AND (:profileName IS NULL OR EXISTS (SELECT 1 FROM stock_profiles sp " +
+           "    JOIN screening_profiles p ON p.id = sp.profile_id " +
+           "    WHERE sp.stock_id = s.id AND sp.data_date = s.data_date AND p.profile_name = :profileName)) " +
            "AND (:sector IS NULL OR s.sector = :sector) " +
            "AND (:minScore IS NULL OR s.total_score >= :minScore)",
            nativeQuery = true)
     Long countWithFilters(
         @Param("dataDate") LocalDate dataDate,
-        @Param("profileJson") String profileJson,
+        @Param("profileName") String profileName,
         @Param("sector") String sector,
         @Param("minScore") BigDecimal minScore
     );
 
+    // ============================================================
+    // 키셋(커서) 페이징
+    // ============================================================
+    // 정렬 키 (total_score DESC, id ASC) 위치에서 바로 시작하므로 OFFSET 스캔이 없다.
+    // 커서가 없으면 :afterId 를 NULL 로 전달 (첫 페이지).
+    // total_score 가 NULL 인 행은 DESC 정렬에서 마지막에 오므로 별도 조건으로 이어서 조회.
+
+    /**
+     * 다중 조건 필터링 - 커서 이후 limit 건 (idx_date_score_id 사용)
+     */
+    @Query(value = "SELECT * FROM undervalued_stocks s " +
+           "WHERE s.data_date = :dataDate " +
+           "AND (:profileName IS NULL OR EXISTS (SELECT 1 FROM stock_profiles sp " +
+           "    JOIN screening_profiles p ON p.id = sp.profile_id " +
+           "    WHERE sp.stock_id = s.id AND sp.data_date = s.data_date AND p.profile_name = :profileName)) " +
+           "AND (:sector IS NULL OR s.sector = :sector) " +
+           "AND (:minScore IS NULL OR s.total_score >= :minScore) " +
+           "AND (:afterId IS NULL " +
+           "    OR s.total_score < :afterScore " +
+           "    OR (s.total_score = :afterScore AND s.id > :afterId) " +
+           "    OR (s.total_score IS NULL AND (:afterScore IS NOT NULL OR s.id > :afterId))) " +
+           "ORDER BY s.total_score DESC, s.id ASC " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<UndervaluedStock> findWithFiltersAfter(
+        @Param("dataDate") LocalDate dataDate,
+        @Param("profileName") String profileName,
+        @Param("sector") String sector,
+        @Param("minScore") BigDecimal minScore,
+        @Param("afterScore") BigDecimal afterScore,
+        @Param("afterId") Long afterId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 특정 프로필 통과 종목 - 커서 이후 limit 건 (idx_profile_date_score 사용)
+     */
+    @Query(value = "SELECT s.* FROM stock_profiles sp " +
+           "JOIN undervalued_stocks s ON s.id = sp.stock_id AND s.data_date = sp.data_date " +
+           "WHERE sp.profile_id = (SELECT p.id FROM screening_profiles p WHERE p.profile_name = :profileName) " +
+           "AND sp.data_date = :dataDate " +
+           "AND (:afterId IS NULL " +
+           "    OR sp.total_score < :afterScore " +
+           "    OR (sp.total_score = :afterScore AND sp.stock_id > :afterId) " +
+           "    OR (sp.total_score IS NULL AND (:afterScore IS NOT NULL OR sp.stock_id > :afterId))) " +
+           "ORDER BY sp.total_score DESC, sp.stock_id ASC " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<UndervaluedStock> findByDataDateAndProfileAfter(
+        @Param("dataDate") LocalDate dataDate,
+        @Param("profileName") String profileName,
+        @Param("afterScore") BigDecimal afterScore,
+        @Param("afterId") Long afterId,
+        @Param("limit") int limit
+    );
+
     // ============================================================
     // 통계 조회
     // ============================================================
@@ -293,17 +339,11 @@ public interface UndervaluedStockRepository extends JpaRepository<UndervaluedSto
     // ============================================================
     // 데이터 관리
     // ============================================================
+    // 보관 기간이 지난 날짜는 행 단위 DELETE 대신 PartitionMaintenance 가 월 파티션 단위로 삭제
 
     /**
      * 특정 날짜의 데이터 삭제
      */
     @Modifying
     void deleteByDataDate(LocalDate dataDate);
-
-    /**
-     * 특정 날짜 이전의 데이터 삭제
-     */
-    @Modifying
-    @Query("DELETE FROM UndervaluedStock s WHERE s.dataDate < :cutoffDate")
-    void deleteOlderThan(@Param("cutoffDate") LocalDate cutoffDate);
 }
@@ -0,0 +1,92 @@
+package com.ddalkkak.backend.repository;
+
+import com.ddalkkak.backend.dto.UndervaluedStockSummaryDto;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.RepositoryDefinition;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 목록용 요약 조회 리포지토리 (view=summary)
+ *
+ * 엔티티 대신 카드에 필요한 컬럼만 DTO 생성자 / 인터페이스 프로젝션으로 읽는다.
+ * 영속성 컨텍스트에 올라가지 않으므로 스냅샷 복사, 변경 감지, @PostLoad JSON 파싱이 없다.
+ */
+@Repository
+@RepositoryDefinition(domainClass = UndervaluedStock.class, idClass = Long.class)
+public interface UndervaluedStockSummaryRepository {
+
+    String SUMMARY_SELECT = "SELECT new com.ddalkkak.backend.dto.UndervaluedStockSummaryDto(" +
+        "s.ticker, s.name, s.sector, s.industry, s.price, s.marketCap, s.peRatio, s.fairValue, s.discount, " +
+        "s.growthScore, s.qualityScore, s.valueScore, s.momentumScore, s.totalScore, s.dataDate) " +
+        "FROM UndervaluedStock s ";
+
+    // ============================================================
+    // 기본 / 섹터
+    // ============================================================
+
+    /**
+     * 특정 날짜 Top N (totalScore 내림차순)
+     */
+    @Query(SUMMARY_SELECT + "WHERE s.dataDate = :dataDate ORDER BY s.totalScore DESC")
+    List<UndervaluedStockSummaryDto> findTop(
+        @Param("dataDate") LocalDate dataDate,
+        Pageable pageable
+    );
+
+    /**
+     * 특정 섹터 Top N
+     */
+    @Query(SUMMARY_SELECT + "WHERE s.dataDate = :dataDate AND s.sector = :sector ORDER BY s.totalScore DESC")
+    List<UndervaluedStockSummaryDto> findTopBySector(
+        @Param("dataDate") LocalDate dataDate,
+        @Param("sector") String sector,
+        Pageable pageable
+    );
+
+    // ============================================================
+    // 점수별 Top N
+    // ============================================================
+
+    @Query(SUMMARY_SELECT + "WHERE s.dataDate = :dataDate AND s.growthScore IS NOT NULL ORDER BY s.growthScore DESC")
+    List<UndervaluedStockSummaryDto> findTopByGrowthScore(@Param("dataDate") LocalDate dataDate, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE s.dataDate = :dataDate AND s.qualityScore IS NOT NULL ORDER BY s.qualityScore DESC")
+    List<UndervaluedStockSummaryDto> findTopByQualityScore(@Param("dataDate") LocalDate dataDate, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE s.dataDate = :dataDate AND s.valueScore IS NOT NULL ORDER BY s.valueScore DESC")
+    List<UndervaluedStockSummaryDto> findTopByValueScore(@Param("dataDate") LocalDate dataDate, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE s.dataDate = :dataDate AND s.momentumScore IS NOT NULL ORDER BY s.momentumScore DESC")
+    List<UndervaluedStockSummaryDto> findTopByMomentumScore(@Param("dataDate") LocalDate dataDate, Pageable pageable);
+
+    // ============================================================
+    // 프로필 (stock_profiles 인덱스 사용)
+    // ============================================================
+
+    /**
+     * 특정 프로필 통과 종목 요약 (limit 개)
+     */
+    @Query(value = "SELECT s.ticker AS ticker, s.name AS name, s.sector AS sector, s.industry AS industry, " +
+           "s.price AS price, s.market_cap AS marketCap, s.pe_ratio AS peRatio, " +
+           "s.fair_value AS fairValue, s.discount AS discount, " +
+           "s.growth_score AS growthScore, s.quality_score AS qualityScore, s.value_score AS valueScore, " +
+           "s.momentum_score AS momentumScore, s.total_score AS totalScore, s.data_date AS dataDate " +
+           "FROM stock_profiles sp " +
+           "JOIN undervalued_stocks s ON s.id = sp.stock_id AND s.data_date = sp.data_date " +
+           "WHERE sp.profile_id = (SELECT p.id FROM screening_profiles p WHERE p.profile_name = :profileName) " +
+           "AND sp.data_date = :dataDate " +
+           "ORDER BY sp.total_score DESC " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<StockSummaryView> findByProfile(
+        @Param("dataDate") LocalDate dataDate,
+        @Param("profileName") String profileName,
+        @Param("limit") int limit
+    );
+}
@@ -0,0 +1,86 @@
+package com.ddalkkak.backend.service;
+
+import com.ddalkkak.backend.snapshot.SnapshotVersionChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 페이징 total 카운트 캐시
+ *
+ * 같은 날짜 + 같은 필터의 COUNT(*) 결과는 다음 적재 전까지 바뀌지 않으므로
+ * (data_date, 정규화된 필터) 키로 최초 요청 시에만 DB 카운트를 실행한다.
+ * 데이터 버전이 바뀌면(재적재 포함) 전체를 비운다.
+ */
+@Component
+@Slf4j
+public class CountCache {
+
+    private final Map<Key, Long> counts = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    @Value("${app.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.count.max-entries:10000}")
+    private int maxEntries;
+
+    public CountCache(MeterRegistry meterRegistry) {
+        this.hits = meterRegistry.counter("stock.cache.requests", "cache", "count", "result", "hit");
+        this.misses = meterRegistry.counter("stock.cache.requests", "cache", "count", "result", "miss");
+    }
+
+    /**
+     * 캐시된 카운트 반환 (없으면 loader 실행 후 저장)
+     */
+    public long get(String query, LocalDate dataDate, String profile, String sector, BigDecimal minScore,
+                    Supplier<Long> loader) {
+        if (!enabled) {
+            return load(loader);
+        }
+        Key key = new Key(query, dataDate, profile, sector, normalize(minScore));
+        Long cached = counts.get(key);
+        (cached != null ? hits : misses).increment();
+        if (cached != null) {
+            return cached;
+        }
+        long count = load(loader);
+        if (counts.size() >= maxEntries) {
+            // 필터 조합이 비정상적으로 많아지면 전체 비움 (다음 요청부터 다시 채움)
+            log.warn("카운트 캐시 최대 크기 도달 - {} 건 비움", counts.size());
+            counts.clear();
+        }
+        counts.put(key, count);
+        return count;
+    }
+
+    @EventListener
+    public void onVersionChanged(SnapshotVersionChangedEvent event) {
+        counts.clear();
+    }
+
+    private static long load(Supplier<Long> loader) {
+        Long count = loader.get();
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 70, 70.0, 70.00 을 같은 키로 취급
+     */
+    private static BigDecimal normalize(BigDecimal value) {
+        return value != null ? value.stripTrailingZeros() : null;
+    }
+
+    private record Key(String query, LocalDate dataDate, String profile, String sector, BigDecimal minScore) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.ddalkkak.backend.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 저장소 호출을 병렬로 실행하는 구조적 fan-out
+ *
+ * StructuredTaskScope.ShutdownOnFailure 와 같은 사용법 (Java 21 정식 API 가 아니라 직접 구현):
+ * <pre>
+ * try (FanOut.Scope scope = fanOut.open()) {
+ *     Supplier&lt;List&lt;UndervaluedStock&gt;&gt; rows = scope.fork(() -&gt; repository.findWithFilters(...));
+ *     Supplier&lt;Long&gt; total = scope.fork(() -&gt; repository.countWithFilters(...));
+ *     scope.join();
+ *     return new PageImpl&lt;&gt;(toDtoList(rows.get()), pageable, total.get());
+ * }
+ * </pre>
+ * - join 은 전부 끝나거나 하나라도 실패하면 반환 (실패 시 나머지 취소 후 첫 예외를 그대로 던짐)
+ * - scope 를 닫으면 끝나지 않은 작업 결과는 버린다
+ *
+ * 각 작업은 다른 스레드에서 자기 커넥션으로 실행되므로, 호출하는 서비스 메서드는
+ * 트랜잭션 밖(Propagation.NOT_SUPPORTED)에서 실행해야 요청 스레드가 커넥션을 쥔 채 기다리지 않는다.
+ */
+@Component
+public class FanOut {
+
+    private final AsyncTaskExecutor executor;
+
+    @Value("${app.fan-out.timeout-ms:10000}")
+    private long timeoutMs;
+
+    public FanOut(@Qualifier("fanOutExecutor") AsyncTaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    public Scope open() {
+        return new Scope();
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final List<CompletableFuture<?>> tasks = new ArrayList<>();
+        private final CompletableFuture<Void> failed = new CompletableFuture<>();
+
+        private Scope() {
+        }
+
+        /**
+         * 작업 시작. 반환한 Supplier 는 join 이후에만 호출
+         */
+        public <T> Supplier<T> fork(Callable<T> task) {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> call(task), executor);
+            future.whenComplete((result, error) -> {
+                if (error != null) {
+                    failed.completeExceptionally(error);
+                }
+            });
+            tasks.add(future);
+            return () -> {
+                if (!future.isDone()) {
+                    throw new IllegalStateException("join 전에 결과를 조회할 수 없습니다");
+                }
+                return future.join();
+            };
+        }
+
+        /**
+         * 전부 끝날 때까지 대기 (실패 또는 시간 초과 시 나머지 취소 후 예외)
+         */
+        public void join() {
+            CompletableFuture<Void> all = CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new));
+            try {
+                CompletableFuture.anyOf(all, failed).get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                cancelAll();
+                throw unwrap(e.getCause());
+            } catch (TimeoutException e) {
+                cancelAll();
+                throw new RuntimeException("병렬 조회 시간 초과 (" + timeoutMs + "ms)");
+            } catch (InterruptedException e) {
+                cancelAll();
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("병렬 조회 중단", e);
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            tasks.forEach(task -> task.cancel(true));
+        }
+    }
+
+    private static <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+            && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error fatal) {
+            throw fatal;
+        }
+        return new RuntimeException(cause);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ddalkkak.backend.service;
+
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import com.ddalkkak.backend.repository.UndervaluedStockRepository;
+import com.ddalkkak.backend.snapshot.SnapshotVersionChangedEvent;
+import com.ddalkkak.backend.snapshot.StockSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 과거 날짜 스크리닝용 임시 스냅샷 캐시 (최근 사용 순 max-entries 개)
+ *
+ * 상주 스냅샷이 없는 날짜는 그 날짜 전체를 읽어 컬럼 스냅샷을 만들어야 하므로
+ * 요청마다 만들지 않고 최근 날짜 몇 개만 보관한다.
+ * 생성은 한 번에 하나씩만 (동시 요청이 각자 전체를 읽어 힙과 커넥션 풀을 소진하지 않도록).
+ * 재적재로 과거 날짜 데이터가 바뀔 수 있으므로 데이터 버전이 바뀌면 전체를 비운다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScreenSnapshotCache {
+
+    private final UndervaluedStockRepository repository;
+
+    // access-order LinkedHashMap (가장 오래 안 쓴 날짜부터 제거)
+    private final Map<LocalDate, StockSnapshot> snapshots = new LinkedHashMap<>(8, 0.75f, true);
+
+    // 0 이면 과거 날짜 스크리닝 비활성화 (400)
+    @Value("${app.screen.historical-cache-size:2}")
+    private int maxEntries;
+
+    /**
+     * 날짜 스냅샷 (없으면 DB 에서 읽어 생성 후 보관)
+     */
+    public synchronized StockSnapshot get(LocalDate date) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("최신 날짜만 스크리닝할 수 있습니다: " + date);
+        }
+        StockSnapshot snapshot = snapshots.get(date);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        long started = System.currentTimeMillis();
+        List<UndervaluedStock> stocks = repository.findByDataDate(date);
+        if (stocks.isEmpty()) {
+            throw new RuntimeException("데이터가 없습니다: " + date);
+        }
+        snapshot = StockSnapshot.of(date, stocks);
+        snapshots.put(date, snapshot);
+        while (snapshots.size() > maxEntries) {
+            LocalDate eldest = snapshots.keySet().iterator().next();
+            snapshots.remove(eldest);
+        }
+        log.info("스크리닝 스냅샷 생성 - date: {}, rows: {}, {}ms",
+            date, snapshot.size(), System.currentTimeMillis() - started);
+        return snapshot;
+    }
+
+    @EventListener
+    public synchronized void onVersionChanged(SnapshotVersionChangedEvent event) {
+        snapshots.clear();
+    }
+}
@@ -0,0 +1,66 @@
+package com.ddalkkak.backend.service;
+
+import com.ddalkkak.backend.snapshot.StockMetric;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이징 커서 (data_date, total_score, id)
+ * 정렬 순서는 total_score DESC (NULL 마지막), id ASC
+ * 클라이언트에는 Base64 URL 문자열로만 노출
+ */
+final class StockCursor {
+
+    private static final String NULL_SCORE = "n";
+
+    private final LocalDate dataDate;
+    private final BigDecimal totalScore;
+    private final long id;
+
+    StockCursor(LocalDate dataDate, BigDecimal totalScore, long id) {
+        this.dataDate = dataDate;
+        this.totalScore = totalScore;
+        this.id = id;
+    }
+
+    LocalDate getDataDate() {
+        return dataDate;
+    }
+
+    /**
+     * 마지막 행의 total_score (NULL 구간이면 null)
+     */
+    BigDecimal getTotalScore() {
+        return totalScore;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    String encode() {
+        String score = totalScore != null ? totalScore.toPlainString() : NULL_SCORE;
+        String raw = dataDate + "|" + score + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static StockCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+            }
+            BigDecimal score = NULL_SCORE.equals(parts[1])
+                ? null
+                : new BigDecimal(parts[1]).setScale(StockMetric.TOTAL_SCORE.getScale());
+            return new StockCursor(LocalDate.parse(parts[0]), score, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException | ArithmeticException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token, e);
+        }
+    }
+}
@@ -1,51 +1,103 @@
 package com.ddalkkak.backend.service;
 
+import com.ddalkkak.backend.dto.BatchLookupResponse;
+import com.ddalkkak.backend.dto.CursorPage;
+import com.ddalkkak.backend.dto.ScreenRequest;
+import com.ddalkkak.backend.dto.ScreenResponse;
+import com.ddalkkak.backend.dto.SectorDistributionDto;
+import com.ddalkkak.backend.dto.StockSeriesDto;
+import com.ddalkkak.backend.dto.StockStatisticsDto;
 import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import com.ddalkkak.backend.dto.UndervaluedStockSummaryDto;
 import com.ddalkkak.backend.entity.UndervaluedStock;
+import com.ddalkkak.backend.repository.StockSeriesRepository;
+import com.ddalkkak.backend.repository.StockSummaryView;
 import com.ddalkkak.backend.repository.UndervaluedStockRepository;
-import lombok.RequiredArgsConstructor;
+import com.ddalkkak.backend.repository.UndervaluedStockSummaryRepository;
+import com.ddalkkak.backend.snapshot.PublishedSnapshot;
+import com.ddalkkak.backend.snapshot.ScreenEngine;
+import com.ddalkkak.backend.snapshot.SectorDistributions;
+import com.ddalkkak.backend.snapshot.StockMetric;
+import com.ddalkkak.backend.snapshot.StockSnapshot;
+import com.ddalkkak.backend.snapshot.StockSnapshotHolder;
+import com.ddalkkak.backend.snapshot.SnapshotVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * 저평가 우량주 서비스 (MySQL 8.0)
+ * 최신 날짜 조회는 메모리 스냅샷에서 처리하고, 과거 날짜 또는 스냅샷 미적재 시 DB 조회
+ *
+ * 트랜잭션을 새로 열지 않으므로(SUPPORTS) 스냅샷 경로는 커넥션을 잡지 않고,
+ * DB 경로는 저장소 호출마다 읽기 전용 트랜잭션으로 커넥션을 짧게 쓴다.
  */
 @Service
-@Transactional(readOnly = true)
-@RequiredArgsConstructor
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 @Slf4j
 public class UndervaluedStockService {
 
     private final UndervaluedStockRepository repository;
+    private final StockSeriesRepository seriesRepository;
+    private final UndervaluedStockSummaryRepository summaryRepository;
+    private final StockSnapshotHolder snapshotHolder;
+    private final SnapshotVersion snapshotVersion;
+    private final CountCache countCache;
+    private final ScreenSnapshotCache screenSnapshotCache;
+    private final FanOut fanOut;
+    // DB 경로 엔티티 → DTO 변환 시간 - 요청마다 레지스트리를 조회하지 않도록 생성 시 한 번만 등록
+    private final Timer mappingTimer;
 
-    // ============================================================
-    // Helper 메서드
-    // ============================================================
-
-    /**
-     * 프로필 이름을 JSON 형식으로 변환
-     * MySQL JSON_CONTAINS 함수에서 사용하기 위함
-     */
-    private String toJsonProfile(String profileName) {
-        return "\"" + profileName + "\"";
+    public UndervaluedStockService(UndervaluedStockRepository repository, StockSeriesRepository seriesRepository,
+                                   UndervaluedStockSummaryRepository summaryRepository,
+                                   StockSnapshotHolder snapshotHolder, SnapshotVersion snapshotVersion,
+                                   CountCache countCache, ScreenSnapshotCache screenSnapshotCache,
+                                   FanOut fanOut, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.seriesRepository = seriesRepository;
+        this.summaryRepository = summaryRepository;
+        this.snapshotHolder = snapshotHolder;
+        this.snapshotVersion = snapshotVersion;
+        this.countCache = countCache;
+        this.screenSnapshotCache = screenSnapshotCache;
+        this.fanOut = fanOut;
+        this.mappingTimer = Timer.builder("stock.mapping")
+            .tag("target", "dto")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
     }
 
     // ============================================================
     // Entity → DTO 변환
     // ============================================================
 
-    private UndervaluedStockDto toDto(UndervaluedStock entity) {
+    /**
+     * 엔티티 1건 → DTO (상태를 쓰지 않으므로 static, 벤치마크에서 직접 호출)
+     */
+    static UndervaluedStockDto toDto(UndervaluedStock entity) {
         return UndervaluedStockDto.builder()
             .ticker(entity.getTicker())
             .name(entity.getName())
@@ -105,12 +157,61 @@ public class UndervaluedStockService {
             .build();
     }
 
+    /**
+     * DB 경로 엔티티 → DTO 변환 (stock.mapping 타이머로 변환 시간 기록)
+     */
     private List<UndervaluedStockDto> toDtoList(List<UndervaluedStock> entities) {
+        return mappingTimer.record(() -> toDtos(entities));
+    }
+
+    static List<UndervaluedStockDto> toDtos(List<UndervaluedStock> entities) {
         return entities.stream()
-            .map(this::toDto)
+            .map(UndervaluedStockService::toDto)
             .collect(Collectors.toList());
     }
 
+    private UndervaluedStockSummaryDto toSummaryDto(StockSummaryView view) {
+        return UndervaluedStockSummaryDto.builder()
+            .ticker(view.getTicker())
+            .name(view.getName())
+            .sector(view.getSector())
+            .industry(view.getIndustry())
+            .price(view.getPrice())
+            .marketCap(view.getMarketCap())
+            .peRatio(view.getPeRatio())
+            .fairValue(view.getFairValue())
+            .discount(view.getDiscount())
+            .growthScore(view.getGrowthScore())
+            .qualityScore(view.getQualityScore())
+            .valueScore(view.getValueScore())
+            .momentumScore(view.getMomentumScore())
+            .totalScore(view.getTotalScore())
+            .dataDate(view.getDataDate())
+            .build();
+    }
+
+    // ============================================================
+    // 스냅샷 조회 Helper
+    // ============================================================
+
+    /**
+     * 지표 내림차순 Top N (NULL 제외)
+     */
+    private List<UndervaluedStockDto> topByMetric(StockSnapshot snapshot, StockMetric metric, int limit) {
+        return snapshot.toDtoList(snapshot.selectFrom(snapshot.rowsOrderedBy(metric), null, 0, limit));
+    }
+
+    /**
+     * BETWEEN min AND max 조건 (NULL 제외)
+     */
+    private IntPredicate between(StockSnapshot snapshot, StockMetric metric, BigDecimal min, BigDecimal max) {
+        long lower = metric.ceilScaled(min);
+        long upper = metric.floorScaled(max);
+        return row -> !snapshot.isNull(metric, row)
+            && snapshot.scaled(metric, row) >= lower
+            && snapshot.scaled(metric, row) <= upper;
+    }
+
     // ============================================================
     // 기본 조회 API
     // ============================================================
@@ -119,7 +220,7 @@ public class UndervaluedStockService {
      * 최신 데이터 날짜 조회
      */
     public LocalDate getLatestDataDate() {
-        return repository.findLatestDataDate()
+        return snapshotVersion.getLatestDate()
             .orElseThrow(() -> new RuntimeException("데이터가 없습니다"));
     }
 
@@ -127,8 +228,13 @@ public class UndervaluedStockService {
      * 최신 데이터 Top N 조회
      */
     public List<UndervaluedStockDto> getLatestTopStocks(int limit) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by("totalScore").descending());
-        List<UndervaluedStock> stocks = repository.findLatestStocksOrderByTotalScore(pageable);
+        LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return snapshot.toDtoList(snapshot.top(limit));
+        }
+        Pageable pageable = PageRequest.of(0, limit);
+        List<UndervaluedStock> stocks = repository.findByDataDateOrderByTotalScoreDesc(latestDate, pageable);
         return toDtoList(stocks);
     }
 
@@ -137,6 +243,14 @@ public class UndervaluedStockService {
      */
     public UndervaluedStockDto getStockByTicker(String ticker) {
         LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            int row = snapshot.rowOf(ticker);
+            if (row < 0) {
+                throw new RuntimeException("종목을 찾을 수 없습니다: " + ticker);
+            }
+            return snapshot.toDto(row);
+        }
         UndervaluedStock stock = repository.findByTickerAndDataDate(ticker, latestDate)
             .orElseThrow(() -> new RuntimeException("종목을 찾을 수 없습니다: " + ticker));
         return toDto(stock);
@@ -146,13 +260,162 @@ public class UndervaluedStockService {
      * 특정 날짜의 특정 티커 조회
      */
     public UndervaluedStockDto getStockByTickerAndDate(String ticker, LocalDate date) {
+        StockSnapshot snapshot = snapshotHolder.forDate(date);
+        if (snapshot != null) {
+            int row = snapshot.rowOf(ticker);
+            if (row < 0) {
+                throw new RuntimeException("종목을 찾을 수 없습니다: " + ticker);
+            }
+            return snapshot.toDto(row);
+        }
         UndervaluedStock stock = repository.findByTickerAndDataDate(ticker, date)
             .orElseThrow(() -> new RuntimeException("종목을 찾을 수 없습니다: " + ticker));
         return toDto(stock);
     }
 
+    private static final int MAX_BATCH_TICKERS = 500;
+
+    /**
+     * 여러 티커 일괄 조회 (관심 종목 목록)
+     * 최신 날짜는 스냅샷 해시 조회, 그 외 날짜는 IN 쿼리 한 번
+     */
+    public BatchLookupResponse getStocksByTickers(List<String> tickers, LocalDate date) {
+        if (tickers == null || tickers.isEmpty()) {
+            throw new IllegalArgumentException("tickers 가 비어 있습니다");
+        }
+        LinkedHashSet<String> requested = new LinkedHashSet<>();
+        for (String ticker : tickers) {
+            if (ticker != null && !ticker.isBlank()) {
+                requested.add(ticker.trim().toUpperCase());
+            }
+        }
+        if (requested.size() > MAX_BATCH_TICKERS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BATCH_TICKERS + "개 티커까지 조회할 수 있습니다: " + requested.size());
+        }
+
+        LocalDate dataDate = date != null ? date : getLatestDataDate();
+        List<UndervaluedStockDto> found = new ArrayList<>(requested.size());
+        List<String> missing = new ArrayList<>();
+
+        StockSnapshot snapshot = snapshotHolder.forDate(dataDate);
+        if (snapshot != null) {
+            for (String ticker : requested) {
+                int row = snapshot.rowOf(ticker);
+                if (row >= 0) {
+                    found.add(snapshot.toDto(row));
+                } else {
+                    missing.add(ticker);
+                }
+            }
+        } else if (!requested.isEmpty()) {
+            Map<String, UndervaluedStock> byTicker = repository.findByDataDateAndTickerIn(dataDate, requested)
+                .stream()
+                .collect(Collectors.toMap(UndervaluedStock::getTicker, stock -> stock));
+            for (String ticker : requested) {
+                UndervaluedStock stock = byTicker.get(ticker);
+                if (stock != null) {
+                    found.add(toDto(stock));
+                } else {
+                    missing.add(ticker);
+                }
+            }
+        }
+
+        return BatchLookupResponse.builder()
+            .dataDate(dataDate)
+            .found(found)
+            .missing(missing)
+            .build();
+    }
+
+    // 시계열 기본 지표 (점수 추이 차트)
+    private static final List<StockMetric> DEFAULT_SERIES_METRICS = List.of(
+        StockMetric.TOTAL_SCORE, StockMetric.GROWTH_SCORE, StockMetric.QUALITY_SCORE,
+        StockMetric.VALUE_SCORE, StockMetric.MOMENTUM_SCORE
+    );
+
+    /**
+     * 티커 시계열 (컬럼형, 한 번의 범위 조회)
+     * interval=weekly 이면 주(ISO)별 마지막 값만, every=k 이면 최신 값부터 k 개마다 하나씩 남김
+     */
+    public StockSeriesDto getTickerSeries(String ticker, LocalDate from, LocalDate to,
+                                          List<String> fields, String interval, int every) {
+        boolean weekly = "weekly".equalsIgnoreCase(interval);
+        if (!weekly && !"daily".equalsIgnoreCase(interval)) {
+            throw new IllegalArgumentException("interval 은 daily 또는 weekly 입니다: " + interval);
+        }
+        if (every < 1) {
+            throw new IllegalArgumentException("every 는 1 이상이어야 합니다: " + every);
+        }
+        LocalDate end = to != null ? to : getLatestDataDate();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from 이 to 보다 늦습니다: " + start + " > " + end);
+        }
+        List<StockMetric> metrics = fields == null || fields.isEmpty()
+            ? DEFAULT_SERIES_METRICS
+            : fields.stream().map(String::trim).map(ScreenEngine::metric).distinct().toList();
+
+        StockSeriesDto series = seriesRepository.findSeries(ticker, start, end, metrics);
+        List<Integer> points = samplePoints(series.getDates(), weekly, every);
+        if (points.size() == series.getDates().size()) {
+            series.setInterval(weekly ? "weekly" : "daily");
+            series.setEvery(every);
+            return series;
+        }
+
+        List<LocalDate> dates = new ArrayList<>(points.size());
+        for (int i : points) {
+            dates.add(series.getDates().get(i));
+        }
+        Map<String, List<BigDecimal>> values = new LinkedHashMap<>();
+        series.getSeries().forEach((name, column) -> {
+            List<BigDecimal> sampled = new ArrayList<>(points.size());
+            for (int i : points) {
+                sampled.add(column.get(i));
+            }
+            values.put(name, sampled);
+        });
+        return StockSeriesDto.builder()
+            .ticker(ticker)
+            .from(start)
+            .to(end)
+            .interval(weekly ? "weekly" : "daily")
+            .every(every)
+            .dates(dates)
+            .series(values)
+            .build();
+    }
+
+    /**
+     * 다운샘플링 후 남길 인덱스 (날짜 오름차순, 최신 값은 항상 포함, 기간에 데이터가 없으면 빈 목록)
+     */
+    static List<Integer> samplePoints(List<LocalDate> dates, boolean weekly, int every) {
+        List<Integer> points = new ArrayList<>(dates.size());
+        for (int i = 0; i < dates.size(); i++) {
+            if (weekly && i + 1 < dates.size() && sameWeek(dates.get(i), dates.get(i + 1))) {
+                continue;
+            }
+            points.add(i);
+        }
+        if (every == 1 || points.isEmpty()) {
+            return points;
+        }
+        List<Integer> sampled = new ArrayList<>(points.size() / every + 1);
+        int last = points.size() - 1;
+        for (int j = last % every; j <= last; j += every) {
+            sampled.add(points.get(j));
+        }
+        return sampled;
+    }
+
+    private static boolean sameWeek(LocalDate a, LocalDate b) {
+        return a.get(IsoFields.WEEK_BASED_YEAR) == b.get(IsoFields.WEEK_BASED_YEAR)
+            && a.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR) == b.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
+    }
+
     // ============================================================
-    // 프로필 기반 조회 (MySQL JSON 사용)
+    // 프로필 기반 조회 (stock_profiles 인덱스 사용)
     // ============================================================
 
     /**
@@ -166,8 +429,14 @@ public class UndervaluedStockService {
      * 특정 프로필 종목 조회 (최신 데이터)
      */
     public List<UndervaluedStockDto> getStocksByProfile(String profile, int limit) {
-        String profileJson = toJsonProfile(profile);
-        List<UndervaluedStock> stocks = repository.findLatestByProfile(profileJson);
+        LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            int max = limit > 0 ? limit : Integer.MAX_VALUE;
+            return snapshot.toDtoList(snapshot.select(snapshot.match(profile, null, null), 0, max));
+        }
+
+        List<UndervaluedStock> stocks = repository.findByDataDateAndProfile(latestDate, profile);
 
         // 제한
         if (limit > 0 && stocks.size() > limit) {
@@ -179,7 +448,9 @@ public class UndervaluedStockService {
 
     /**
      * 특정 날짜의 특정 프로필 종목 조회 (페이징)
+     * DB 경로는 목록과 total 카운트를 병렬 조회 (트랜잭션 밖에서 각자 커넥션 사용)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<UndervaluedStockDto> getStocksByProfileWithPaging(
         String profile,
         LocalDate date,
@@ -190,17 +461,54 @@ public class UndervaluedStockService {
             date = getLatestDataDate();
         }
 
-        String profileJson = toJsonProfile(profile);
         int offset = page * size;
+        Pageable pageable = PageRequest.of(page, size);
 
-        List<UndervaluedStock> stocks = repository.findByDataDateAndProfilePaged(
-            date, profileJson, size, offset
-        );
+        StockSnapshot snapshot = snapshotHolder.forDate(date);
+        if (snapshot != null) {
+            BitSet rows = snapshot.match(profile, null, null);
+            return snapshot.toDtoPage(snapshot.select(rows, offset, size), pageable, rows.cardinality());
+        }
+
+        LocalDate dataDate = date;
+        try (FanOut.Scope scope = fanOut.open()) {
+            Supplier<List<UndervaluedStock>> stocks = scope.fork(() -> repository.findByDataDateAndProfilePaged(
+                dataDate, profile, size, offset
+            ));
+            Supplier<Long> totalCount = scope.fork(() -> countCache.get("profile", dataDate, profile, null, null,
+                () -> repository.countByDataDateAndProfile(dataDate, profile)));
+            scope.join();
+
+            return new PageImpl<>(toDtoList(stocks.get()), pageable, totalCount.get());
+        }
+    }
+
+    /**
+     * 특정 날짜의 특정 프로필 종목 조회 (total 없이 다음 페이지 여부만)
+     */
+    public Slice<UndervaluedStockDto> getStocksByProfileSlice(
+        String profile,
+        LocalDate date,
+        int page,
+        int size
+    ) {
+        if (date == null) {
+            date = getLatestDataDate();
+        }
 
-        Long totalCount = repository.countByDataDateAndProfile(date, profileJson);
+        int offset = page * size;
         Pageable pageable = PageRequest.of(page, size);
 
-        return new PageImpl<>(toDtoList(stocks), pageable, totalCount);
+        StockSnapshot snapshot = snapshotHolder.forDate(date);
+        if (snapshot != null) {
+            return toSlice(snapshot, snapshot.match(profile, null, null), pageable);
+        }
+
+        // size + 1 건을 읽어 다음 페이지 존재 여부 판단
+        List<UndervaluedStock> stocks = repository.findByDataDateAndProfilePaged(
+            date, profile, size + 1, offset
+        );
+        return toSlice(stocks, pageable);
     }
 
     // ============================================================
@@ -212,6 +520,10 @@ public class UndervaluedStockService {
      */
     public List<String> getSectors() {
         LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return snapshot.sectors();
+        }
         return repository.findDistinctSectorsByDataDate(latestDate);
     }
 
@@ -219,8 +531,17 @@ public class UndervaluedStockService {
      * 특정 섹터의 Top 종목 조회
      */
     public List<UndervaluedStockDto> getTopStocksBySector(String sector, int limit) {
+        LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return snapshot.toDtoList(
+                snapshot.selectFrom(snapshot.sectorRows(snapshot.sectorCode(sector)), null, 0, limit)
+            );
+        }
         Pageable pageable = PageRequest.of(0, limit);
-        List<UndervaluedStock> stocks = repository.findLatestBySectorOrderByScore(sector, pageable);
+        List<UndervaluedStock> stocks = repository.findByDataDateAndSectorOrderByTotalScoreDesc(
+            latestDate, sector, pageable
+        );
         return toDtoList(stocks);
     }
 
@@ -237,6 +558,13 @@ public class UndervaluedStockService {
         int limit
     ) {
         LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return snapshot.toDtoList(
+                snapshot.select(between(snapshot, StockMetric.TOTAL_SCORE, minScore, maxScore), 0, limit)
+            );
+        }
+
         Pageable pageable = PageRequest.of(0, limit);
         List<UndervaluedStock> stocks = repository.findByDataDateAndTotalScoreBetween(
             latestDate, minScore, maxScore, pageable
@@ -253,6 +581,13 @@ public class UndervaluedStockService {
         int limit
     ) {
         LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return snapshot.toDtoList(
+                snapshot.select(between(snapshot, StockMetric.MARKET_CAP, minMarketCap, maxMarketCap), 0, limit)
+            );
+        }
+
         Pageable pageable = PageRequest.of(0, limit);
         List<UndervaluedStock> stocks = repository.findByDataDateAndMarketCapBetween(
             latestDate, minMarketCap, maxMarketCap, pageable
@@ -265,6 +600,21 @@ public class UndervaluedStockService {
      */
     public List<UndervaluedStockDto> getMostUndervaluedStocks(int limit) {
         LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            // 할인율 내림차순 목록을 뒤에서부터 읽어 음수(저평가) 구간만 선택
+            int[] order = snapshot.rowsOrderedBy(StockMetric.DISCOUNT);
+            int count = 0;
+            int[] rows = new int[Math.min(limit, order.length)];
+            for (int i = order.length - 1; i >= 0 && count < rows.length; i--) {
+                if (snapshot.scaled(StockMetric.DISCOUNT, order[i]) >= 0) {
+                    break;
+                }
+                rows[count++] = order[i];
+            }
+            return snapshot.toDtoList(Arrays.copyOf(rows, count));
+        }
+
         Pageable pageable = PageRequest.of(0, limit);
         List<UndervaluedStock> stocks = repository.findMostUndervaluedStocks(
             latestDate, BigDecimal.ZERO, pageable
@@ -274,7 +624,9 @@ public class UndervaluedStockService {
 
     /**
      * 다중 조건 필터링 (프로필, 섹터, 최소 점수)
+     * DB 경로는 목록과 total 카운트를 병렬 조회 (트랜잭션 밖에서 각자 커넥션 사용)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<UndervaluedStockDto> getStocksWithFilters(
         String profile,
         String sector,
@@ -287,17 +639,263 @@ public class UndervaluedStockService {
             date = getLatestDataDate();
         }
 
-        String profileJson = profile != null ? toJsonProfile(profile) : null;
         int offset = page * size;
+        Pageable pageable = PageRequest.of(page, size);
 
+        StockSnapshot snapshot = snapshotHolder.forDate(date);
+        if (snapshot != null) {
+            BitSet rows = snapshot.match(profile, sector, minScore);
+            return snapshot.toDtoPage(snapshot.select(rows, offset, size), pageable, rows.cardinality());
+        }
+
+        LocalDate dataDate = date;
+        try (FanOut.Scope scope = fanOut.open()) {
+            Supplier<List<UndervaluedStock>> stocks = scope.fork(() -> repository.findWithFilters(
+                dataDate, profile, sector, minScore, size, offset
+            ));
+            Supplier<Long> totalCount = scope.fork(() -> countCache.get("search", dataDate, profile, sector, minScore,
+                () -> repository.countWithFilters(dataDate, profile, sector, minScore)));
+            scope.join();
+
+            return new PageImpl<>(toDtoList(stocks.get()), pageable, totalCount.get());
+        }
+    }
+
+    /**
+     * 다중 조건 필터링 (total 없이 다음 페이지 여부만)
+     */
+    public Slice<UndervaluedStockDto> getStocksWithFiltersSlice(
+        String profile,
+        String sector,
+        BigDecimal minScore,
+        LocalDate date,
+        int page,
+        int size
+    ) {
+        if (date == null) {
+            date = getLatestDataDate();
+        }
+
+        int offset = page * size;
+        Pageable pageable = PageRequest.of(page, size);
+
+        StockSnapshot snapshot = snapshotHolder.forDate(date);
+        if (snapshot != null) {
+            return toSlice(snapshot, snapshot.match(profile, sector, minScore), pageable);
+        }
+
+        // size + 1 건을 읽어 다음 페이지 존재 여부 판단
         List<UndervaluedStock> stocks = repository.findWithFilters(
-            date, profileJson, sector, minScore, size, offset
+            date, profile, sector, minScore, size + 1, offset
         );
+        return toSlice(stocks, pageable);
+    }
 
-        Long totalCount = repository.countWithFilters(date, profileJson, sector, minScore);
-        Pageable pageable = PageRequest.of(page, size);
+    private Slice<UndervaluedStockDto> toSlice(StockSnapshot snapshot, BitSet rows, Pageable pageable) {
+        int[] selected = snapshot.select(rows, (int) pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = selected.length > pageable.getPageSize();
+        int[] content = hasNext ? Arrays.copyOf(selected, pageable.getPageSize()) : selected;
+        return snapshot.toDtoSlice(content, pageable, hasNext);
+    }
 
-        return new PageImpl<>(toDtoList(stocks), pageable, totalCount);
+    private Slice<UndervaluedStockDto> toSlice(List<UndervaluedStock> stocks, Pageable pageable) {
+        boolean hasNext = stocks.size() > pageable.getPageSize();
+        List<UndervaluedStock> content = hasNext ? stocks.subList(0, pageable.getPageSize()) : stocks;
+        return new SliceImpl<>(toDtoList(content), pageable, hasNext);
+    }
+
+    // ============================================================
+    // 키셋(커서) 페이징
+    // ============================================================
+    // OFFSET 대신 마지막 행의 (total_score, id) 이후부터 조회하므로 깊은 페이지도 비용이 같다.
+    // 커서에 data_date 가 들어 있어 스크롤 도중 새 데이터가 적재되어도 같은 날짜로 이어서 조회.
+
+    /**
+     * 다중 조건 필터링 (커서 페이징)
+     */
+    public CursorPage<UndervaluedStockDto> getStocksWithFiltersByCursor(
+        String profile,
+        String sector,
+        BigDecimal minScore,
+        LocalDate date,
+        String cursor,
+        int size
+    ) {
+        StockCursor after = cursor != null ? StockCursor.decode(cursor) : null;
+        LocalDate dataDate = resolveCursorDate(after, date);
+
+        StockSnapshot snapshot = snapshotHolder.forDate(dataDate);
+        if (snapshot != null) {
+            return sliceSnapshot(snapshot, snapshot.match(profile, sector, minScore), after, size);
+        }
+
+        List<UndervaluedStock> stocks = repository.findWithFiltersAfter(
+            dataDate, profile, sector, minScore,
+            after != null ? after.getTotalScore() : null,
+            after != null ? after.getId() : null,
+            size + 1
+        );
+        return sliceEntities(dataDate, stocks, size);
+    }
+
+    /**
+     * 특정 프로필 종목 조회 (커서 페이징)
+     */
+    public CursorPage<UndervaluedStockDto> getStocksByProfileWithCursor(
+        String profile,
+        LocalDate date,
+        String cursor,
+        int size
+    ) {
+        StockCursor after = cursor != null ? StockCursor.decode(cursor) : null;
+        LocalDate dataDate = resolveCursorDate(after, date);
+
+        StockSnapshot snapshot = snapshotHolder.forDate(dataDate);
+        if (snapshot != null) {
+            return sliceSnapshot(snapshot, snapshot.match(profile, null, null), after, size);
+        }
+
+        List<UndervaluedStock> stocks = repository.findByDataDateAndProfileAfter(
+            dataDate, profile,
+            after != null ? after.getTotalScore() : null,
+            after != null ? after.getId() : null,
+            size + 1
+        );
+        return sliceEntities(dataDate, stocks, size);
+    }
+
+    /**
+     * 커서의 날짜 우선, 없으면 요청 날짜, 그것도 없으면 최신 날짜
+     */
+    private LocalDate resolveCursorDate(StockCursor after, LocalDate date) {
+        if (after != null) {
+            return after.getDataDate();
+        }
+        return date != null ? date : getLatestDataDate();
+    }
+
+    private CursorPage<UndervaluedStockDto> sliceSnapshot(
+        StockSnapshot snapshot,
+        BitSet rows,
+        StockCursor after,
+        int size
+    ) {
+        int fromRow = 0;
+        if (after != null) {
+            Long score = after.getTotalScore() != null
+                ? StockMetric.TOTAL_SCORE.toScaled(after.getTotalScore())
+                : null;
+            fromRow = snapshot.rowAfter(score, after.getId());
+        }
+
+        // size + 1 건을 읽어 다음 페이지 존재 여부 판단
+        int[] selected = snapshot.selectFrom(rows, fromRow, size + 1);
+        boolean hasNext = selected.length > size;
+        int[] page = hasNext ? Arrays.copyOf(selected, size) : selected;
+
+        String nextCursor = null;
+        if (hasNext) {
+            int last = page[page.length - 1];
+            nextCursor = new StockCursor(
+                snapshot.getDataDate(),
+                snapshot.value(StockMetric.TOTAL_SCORE, last),
+                snapshot.id(last)
+            ).encode();
+        }
+
+        return CursorPage.<UndervaluedStockDto>builder()
+            .content(snapshot.toDtoList(page))
+            .size(page.length)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .dataDate(snapshot.getDataDate())
+            .build();
+    }
+
+    private CursorPage<UndervaluedStockDto> sliceEntities(LocalDate dataDate, List<UndervaluedStock> stocks, int size) {
+        boolean hasNext = stocks.size() > size;
+        List<UndervaluedStock> page = hasNext ? stocks.subList(0, size) : stocks;
+
+        String nextCursor = null;
+        if (hasNext) {
+            UndervaluedStock last = page.get(page.size() - 1);
+            nextCursor = new StockCursor(dataDate, last.getTotalScore(), last.getId()).encode();
+        }
+
+        return CursorPage.<UndervaluedStockDto>builder()
+            .content(toDtoList(page))
+            .size(page.size())
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .dataDate(dataDate)
+            .build();
+    }
+
+    // ============================================================
+    // 임의 조건 스크리닝
+    // ============================================================
+
+    private static final int MAX_SCREEN_LIMIT = 1000;
+
+    /**
+     * 지표 조건 트리 스크리닝 (정렬 + Top K)
+     * 최신 날짜는 상주 스냅샷, 과거 날짜는 ScreenSnapshotCache 의 임시 스냅샷으로 평가
+     */
+    public ScreenResponse screen(ScreenRequest request) {
+        LocalDate date = request.getDate() != null ? request.getDate() : getLatestDataDate();
+        StockMetric sort = request.getSort() != null ? ScreenEngine.metric(request.getSort()) : null;
+        boolean ascending = "asc".equalsIgnoreCase(request.getDirection());
+        int limit = Math.max(0, Math.min(request.getLimit(), MAX_SCREEN_LIMIT));
+
+        StockSnapshot snapshot = snapshotHolder.forDate(date);
+        if (snapshot == null) {
+            snapshot = screenSnapshotCache.get(date);
+        }
+
+        long started = System.nanoTime();
+        BitSet rows = ScreenEngine.evaluate(snapshot, request.getFilter());
+        int[] selected = ScreenEngine.top(snapshot, rows, sort, ascending, limit);
+        log.debug("스크리닝 - date: {}, rows: {}, matched: {}, {}us",
+            date, snapshot.size(), rows.cardinality(), (System.nanoTime() - started) / 1000);
+
+        return ScreenResponse.builder()
+            .dataDate(date)
+            .matched(rows.cardinality())
+            .content(snapshot.toDtoList(selected))
+            .build();
+    }
+
+    // ============================================================
+    // 섹터 분포
+    // ============================================================
+
+    /**
+     * 섹터 하나의 지표별 분포 (최신 게시본, 게시 시점에 한 번 계산)
+     */
+    public SectorDistributionDto getSectorDistribution(String sector) {
+        SectorDistributionDto distribution = publishedSectorDistributions().get(sector);
+        if (distribution == null) {
+            throw new RuntimeException("섹터를 찾을 수 없습니다: " + sector);
+        }
+        return distribution;
+    }
+
+    /**
+     * 전체 섹터의 지표별 분포 (섹터명 순)
+     */
+    public List<SectorDistributionDto> getSectorDistributions() {
+        return publishedSectorDistributions().all();
+    }
+
+    /**
+     * 게시본 사전 집계 섹터 분포 (스냅샷 비활성화여도 요청마다 전체 날짜를 다시 읽지 않음)
+     */
+    private SectorDistributions publishedSectorDistributions() {
+        PublishedSnapshot published = snapshotVersion.current();
+        if (published == null || published.getSectorDistributions() == null) {
+            throw new RuntimeException("데이터가 없습니다");
+        }
+        return published.getSectorDistributions();
     }
 
     // ============================================================
@@ -309,6 +907,10 @@ public class UndervaluedStockService {
      */
     public List<UndervaluedStockDto> getTopGrowthStocks(int limit) {
         LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return topByMetric(snapshot, StockMetric.GROWTH_SCORE, limit);
+        }
         Pageable pageable = PageRequest.of(0, limit);
         List<UndervaluedStock> stocks = repository.findTopByGrowthScore(latestDate, pageable);
         return toDtoList(stocks);
@@ -319,6 +921,10 @@ public class UndervaluedStockService {
      */
     public List<UndervaluedStockDto> getTopQualityStocks(int limit) {
         LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return topByMetric(snapshot, StockMetric.QUALITY_SCORE, limit);
+        }
         Pageable pageable = PageRequest.of(0, limit);
         List<UndervaluedStock> stocks = repository.findTopByQualityScore(latestDate, pageable);
         return toDtoList(stocks);
@@ -329,6 +935,10 @@ public class UndervaluedStockService {
      */
     public List<UndervaluedStockDto> getTopValueStocks(int limit) {
         LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return topByMetric(snapshot, StockMetric.VALUE_SCORE, limit);
+        }
         Pageable pageable = PageRequest.of(0, limit);
         List<UndervaluedStock> stocks = repository.findTopByValueScore(latestDate, pageable);
         return toDtoList(stocks);
@@ -339,20 +949,104 @@ public class UndervaluedStockService {
      */
     public List<UndervaluedStockDto> getTopMomentumStocks(int limit) {
         LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return topByMetric(snapshot, StockMetric.MOMENTUM_SCORE, limit);
+        }
         Pageable pageable = PageRequest.of(0, limit);
         List<UndervaluedStock> stocks = repository.findTopByMomentumScore(latestDate, pageable);
         return toDtoList(stocks);
     }
 
+    // ============================================================
+    // 요약 조회 (view=summary)
+    // ============================================================
+    // 카드 목록용. 스냅샷은 필요한 컬럼만 꺼내고, DB 는 요약 프로젝션으로 필요한 컬럼만 읽는다.
+
+    /**
+     * 최신 데이터 Top N 요약
+     */
+    public List<UndervaluedStockSummaryDto> getLatestTopSummaries(int limit) {
+        LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return snapshot.toSummaryDtoList(snapshot.top(limit));
+        }
+        return summaryRepository.findTop(latestDate, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 특정 프로필 종목 요약 (limit 이 0 이하이면 전체)
+     */
+    public List<UndervaluedStockSummaryDto> getSummariesByProfile(String profile, int limit) {
+        LocalDate latestDate = getLatestDataDate();
+        int max = limit > 0 ? limit : Integer.MAX_VALUE;
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return snapshot.toSummaryDtoList(snapshot.select(snapshot.match(profile, null, null), 0, max));
+        }
+        return summaryRepository.findByProfile(latestDate, profile, max).stream()
+            .map(this::toSummaryDto)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * 특정 섹터 Top N 요약
+     */
+    public List<UndervaluedStockSummaryDto> getTopSummariesBySector(String sector, int limit) {
+        LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return snapshot.toSummaryDtoList(
+                snapshot.selectFrom(snapshot.sectorRows(snapshot.sectorCode(sector)), null, 0, limit)
+            );
+        }
+        return summaryRepository.findTopBySector(latestDate, sector, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 점수별 Top N 요약 (growth / quality / value / momentum)
+     */
+    public List<UndervaluedStockSummaryDto> getTopSummariesByScore(StockMetric score, int limit) {
+        LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return snapshot.toSummaryDtoList(snapshot.selectFrom(snapshot.rowsOrderedBy(score), null, 0, limit));
+        }
+        Pageable pageable = PageRequest.of(0, limit);
+        return switch (score) {
+            case GROWTH_SCORE -> summaryRepository.findTopByGrowthScore(latestDate, pageable);
+            case QUALITY_SCORE -> summaryRepository.findTopByQualityScore(latestDate, pageable);
+            case VALUE_SCORE -> summaryRepository.findTopByValueScore(latestDate, pageable);
+            case MOMENTUM_SCORE -> summaryRepository.findTopByMomentumScore(latestDate, pageable);
+            default -> throw new IllegalArgumentException("점수 지표가 아닙니다: " + score.getJsonName());
+        };
+    }
+
     // ============================================================
     // 통계
     // ============================================================
 
+    /**
+     * 게시본 사전 집계 통계 (게시 시점에 스냅샷 활성화 여부와 무관하게 항상 계산, 요청마다 다시 세지 않음)
+     */
+    public StockStatisticsDto getStatistics() {
+        PublishedSnapshot published = snapshotVersion.current();
+        if (published == null || published.getStatistics() == null) {
+            throw new RuntimeException("데이터가 없습니다");
+        }
+        return published.getStatistics();
+    }
+
     /**
      * 전체 종목 수
      */
     public Long getTotalStockCount() {
         LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return (long) snapshot.size();
+        }
         return repository.countByDataDate(latestDate);
     }
 
@@ -361,8 +1055,11 @@ public class UndervaluedStockService {
      */
     public Long getStockCountByProfile(String profile) {
         LocalDate latestDate = getLatestDataDate();
-        String profileJson = toJsonProfile(profile);
-        return repository.countByDataDateAndProfile(latestDate, profileJson);
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            return (long) snapshot.profileIndex().cardinality(profile);
+        }
+        return repository.countByDataDateAndProfile(latestDate, profile);
     }
 
     /**
@@ -370,6 +1067,11 @@ public class UndervaluedStockService {
      */
     public BigDecimal getAverageTotalScore() {
         LocalDate latestDate = getLatestDataDate();
+        StockSnapshot snapshot = snapshotHolder.forDate(latestDate);
+        if (snapshot != null) {
+            BigDecimal average = snapshot.average(StockMetric.TOTAL_SCORE);
+            return average != null ? average : BigDecimal.ZERO;
+        }
         return repository.calculateAverageTotalScore(latestDate)
             .orElse(BigDecimal.ZERO);
     }
@@ -0,0 +1,70 @@
+package com.ddalkkak.backend.snapshot;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스냅샷 행 번호 기준 프로필 통과 비트맵 (프로필당 1개)
+ *
+ * JSON_CONTAINS 행 단위 검사 대신 프로필 필터는 비트맵 AND,
+ * 프로필별 종목 수는 cardinality 조회로 처리한다.
+ * 행이 total_score 순으로 정렬되어 있으므로 비트 순회 순서가 곧 점수 순서.
+ */
+public final class ProfileBitmapIndex {
+
+    private static final BitSet EMPTY = new BitSet(0);
+
+    private final Map<String, BitSet> bitmaps;
+    private final Map<String, Integer> cardinalities;
+
+    private ProfileBitmapIndex(Map<String, BitSet> bitmaps) {
+        this.bitmaps = bitmaps;
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        bitmaps.forEach((profile, bitmap) -> counts.put(profile, bitmap.cardinality()));
+        this.cardinalities = Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * 행별 통과 프로필 목록으로 인덱스 생성
+     */
+    public static ProfileBitmapIndex build(List<String>[] passedProfiles) {
+        Map<String, BitSet> bitmaps = new LinkedHashMap<>();
+        for (int row = 0; row < passedProfiles.length; row++) {
+            for (String profile : passedProfiles[row]) {
+                bitmaps.computeIfAbsent(profile, p -> new BitSet(passedProfiles.length)).set(row);
+            }
+        }
+        return new ProfileBitmapIndex(bitmaps);
+    }
+
+    /**
+     * 프로필 통과 여부
+     */
+    public boolean contains(String profile, int row) {
+        return bitmaps.getOrDefault(profile, EMPTY).get(row);
+    }
+
+    /**
+     * 프로필 통과 종목 수 (없는 프로필은 0)
+     */
+    public int cardinality(String profile) {
+        return cardinalities.getOrDefault(profile, 0);
+    }
+
+    /**
+     * 프로필별 종목 수 전체
+     */
+    public Map<String, Integer> cardinalities() {
+        return cardinalities;
+    }
+
+    /**
+     * target 에 프로필 비트맵을 AND (target 만 변경)
+     */
+    public void intersect(BitSet target, String profile) {
+        target.and(bitmaps.getOrDefault(profile, EMPTY));
+    }
+}
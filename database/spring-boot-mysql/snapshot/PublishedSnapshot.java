@@ -0,0 +1,68 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.StockStatisticsDto;
+
+import java.time.LocalDate;
+
+/**
+ * 게시된 데이터 버전 (불변)
+ *
+ * 버전, 최신 날짜, 메모리 스냅샷을 한 객체로 묶어 참조 하나로 교체한다.
+ * 요청은 시작 시점의 객체를 잡고 끝까지 사용하므로, 교체 후 이전 스냅샷은
+ * 처리 중인 요청이 모두 끝나 참조가 사라지면 GC 로 해제된다.
+ */
+public final class PublishedSnapshot {
+
+    private final long version;
+    private final LocalDate dataDate;
+    private final int rowCount;
+    private final StockSnapshot snapshot;
+    private final StockStatisticsDto statistics;
+    private final SectorDistributions sectorDistributions;
+
+    public PublishedSnapshot(long version, LocalDate dataDate, int rowCount, StockSnapshot snapshot,
+                             StockStatisticsDto statistics, SectorDistributions sectorDistributions) {
+        this.version = version;
+        this.dataDate = dataDate;
+        this.rowCount = rowCount;
+        this.snapshot = snapshot;
+        this.statistics = statistics;
+        this.sectorDistributions = sectorDistributions;
+    }
+
+    /**
+     * snapshot_versions.id (게시 이력이 없던 기동 직후 상태는 0)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDate getDataDate() {
+        return dataDate;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 메모리 스냅샷 (app.snapshot.enabled=false 이면 null)
+     */
+    public StockSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 게시 시점에 계산한 /stats 집계 (스냅샷 비활성화 여부와 무관하게 항상 존재)
+     */
+    public StockStatisticsDto getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * 게시 시점에 계산한 섹터별 지표 분포 (스냅샷 비활성화 여부와 무관하게 항상 존재)
+     */
+    public SectorDistributions getSectorDistributions() {
+        return sectorDistributions;
+    }
+}
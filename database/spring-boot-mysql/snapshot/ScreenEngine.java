@@ -0,0 +1,238 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.ScreenCondition;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 스냅샷 위에서 임의 지표 조건을 평가하는 스크리닝 엔진
+ *
+ * 모든 비교는 컬럼 scale 기준 unscaled long 범위 검사(lo <= x <= hi)로 바꾼 뒤
+ * 분기 없는 부호 없는 비교 한 번으로 64행씩 비트 워드를 채운다.
+ * AND / OR / NOT 은 BitSet 워드 연산이므로 조건 수와 무관하게 행당 비용이 일정하다.
+ * 리프 하나당 워드 배열 1개 외에는 행 단위 객체를 만들지 않는다.
+ */
+public final class ScreenEngine {
+
+    private ScreenEngine() {
+    }
+
+    /**
+     * 조건을 만족하는 행 비트맵 (filter 가 null 이면 전체)
+     */
+    public static BitSet evaluate(StockSnapshot snapshot, ScreenCondition filter) {
+        if (filter == null) {
+            return all(snapshot);
+        }
+        int kinds = (filter.getAnd() != null ? 1 : 0)
+            + (filter.getOr() != null ? 1 : 0)
+            + (filter.getNot() != null ? 1 : 0)
+            + (filter.getMetric() != null ? 1 : 0)
+            + (filter.getSector() != null ? 1 : 0)
+            + (filter.getProfile() != null ? 1 : 0);
+        if (kinds != 1) {
+            throw new IllegalArgumentException("조건 노드에는 and / or / not / metric / sector / profile 중 하나만 지정해야 합니다");
+        }
+
+        if (filter.getAnd() != null) {
+            BitSet rows = all(snapshot);
+            for (ScreenCondition child : filter.getAnd()) {
+                if (rows.isEmpty()) {
+                    break;
+                }
+                rows.and(evaluate(snapshot, child));
+            }
+            return rows;
+        }
+        if (filter.getOr() != null) {
+            BitSet rows = new BitSet(snapshot.size());
+            for (ScreenCondition child : filter.getOr()) {
+                rows.or(evaluate(snapshot, child));
+            }
+            return rows;
+        }
+        if (filter.getNot() != null) {
+            BitSet rows = all(snapshot);
+            rows.andNot(evaluate(snapshot, filter.getNot()));
+            return rows;
+        }
+        if (filter.getSector() != null) {
+            return snapshot.match(null, filter.getSector(), null);
+        }
+        if (filter.getProfile() != null) {
+            return snapshot.match(filter.getProfile(), null, null);
+        }
+        return compare(snapshot, metric(filter.getMetric()), Operator.of(filter.getOp()),
+            filter.getValue(), filter.getValue2());
+    }
+
+    /**
+     * 비트맵의 행을 정렬 지표 순으로 limit 개 선택 (정렬 지표가 NULL 인 행은 마지막, total_score 순)
+     * sort 가 null 이고 내림차순이면 스냅샷 행 순서(total_score DESC) 그대로 사용
+     */
+    public static int[] top(StockSnapshot snapshot, BitSet rows, StockMetric sort, boolean ascending, int limit) {
+        int[] result = new int[Math.max(0, Math.min(limit, rows.cardinality()))];
+        if (sort == null && !ascending) {
+            return snapshot.selectFrom(rows, 0, result.length);
+        }
+        StockMetric metric = sort != null ? sort : StockMetric.TOTAL_SCORE;
+        int[] order = snapshot.rowsOrderedBy(metric);
+        int found = 0;
+        for (int i = 0; i < order.length && found < result.length; i++) {
+            int row = order[ascending ? order.length - 1 - i : i];
+            if (rows.get(row)) {
+                result[found++] = row;
+            }
+        }
+        if (found < result.length) {
+            BitSet nullRows = (BitSet) rows.clone();
+            nullRows.andNot(snapshot.presentRows(metric));
+            for (int row = nullRows.nextSetBit(0); row >= 0 && found < result.length; row = nullRows.nextSetBit(row + 1)) {
+                result[found++] = row;
+            }
+        }
+        return found == result.length ? result : Arrays.copyOf(result, found);
+    }
+
+    /**
+     * 지표 이름 해석 (필드명 / 컬럼명 / JSON 이름)
+     */
+    public static StockMetric metric(String name) {
+        return StockMetric.fromName(name)
+            .orElseThrow(() -> new IllegalArgumentException("알 수 없는 지표입니다: " + name));
+    }
+
+    // ============================================================
+    // 리프 평가
+    // ============================================================
+
+    private static BitSet compare(StockSnapshot snapshot, StockMetric metric, Operator op,
+                                  BigDecimal value, BigDecimal value2) {
+        BitSet present = snapshot.presentRows(metric);
+        switch (op) {
+            case IS_NULL: {
+                BitSet rows = all(snapshot);
+                rows.andNot(present);
+                return rows;
+            }
+            case NOT_NULL:
+                return (BitSet) present.clone();
+            default:
+                break;
+        }
+
+        if (value == null || (op == Operator.BETWEEN && value2 == null)) {
+            throw new IllegalArgumentException("비교 값이 없습니다: " + metric.getFieldName() + " " + op.name().toLowerCase(Locale.ROOT));
+        }
+
+        long lo;
+        long hi;
+        switch (op) {
+            case LT: {
+                long ceil = metric.ceilScaled(value);
+                if (ceil == Long.MIN_VALUE) {
+                    return new BitSet(snapshot.size());
+                }
+                lo = Long.MIN_VALUE;
+                hi = ceil - 1;
+                break;
+            }
+            case LTE:
+                lo = Long.MIN_VALUE;
+                hi = metric.floorScaled(value);
+                break;
+            case GT: {
+                long floor = metric.floorScaled(value);
+                if (floor == Long.MAX_VALUE) {
+                    return new BitSet(snapshot.size());
+                }
+                lo = floor + 1;
+                hi = Long.MAX_VALUE;
+                break;
+            }
+            case GTE:
+                lo = metric.ceilScaled(value);
+                hi = Long.MAX_VALUE;
+                break;
+            case EQ:
+            case NE:
+                // 컬럼 scale 로 표현할 수 없는 값이면 lo > hi 가 되어 EQ 는 빈 결과
+                lo = metric.ceilScaled(value);
+                hi = metric.floorScaled(value);
+                break;
+            case BETWEEN:
+                lo = metric.ceilScaled(value);
+                hi = metric.floorScaled(value2);
+                break;
+            default:
+                throw new IllegalStateException(op.name());
+        }
+
+        BitSet rows = lo <= hi ? range(snapshot.column(metric), snapshot.size(), lo, hi) : new BitSet(snapshot.size());
+        if (op == Operator.NE) {
+            BitSet notEqual = (BitSet) present.clone();
+            notEqual.andNot(rows);
+            return notEqual;
+        }
+        rows.and(present);
+        return rows;
+    }
+
+    /**
+     * lo <= column[row] <= hi 인 행 비트맵 (NULL 행 포함 여부는 호출자가 present 로 정리)
+     */
+    private static BitSet range(long[] column, int size, long lo, long hi) {
+        long[] words = new long[(size + 63) >>> 6];
+        long width = hi - lo;
+        for (int row = 0; row < size; row++) {
+            // (x - lo) 를 부호 없는 값으로 보면 lo <= x <= hi 가 비교 한 번으로 끝남
+            long hit = Long.compareUnsigned(column[row] - lo, width) <= 0 ? 1L : 0L;
+            words[row >>> 6] |= hit << row;
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private static BitSet all(StockSnapshot snapshot) {
+        BitSet rows = new BitSet(snapshot.size());
+        rows.set(0, snapshot.size());
+        return rows;
+    }
+
+    // ============================================================
+    // 비교 연산자
+    // ============================================================
+
+    enum Operator {
+        LT("lt", "<"),
+        LTE("lte", "<="),
+        GT("gt", ">"),
+        GTE("gte", ">="),
+        EQ("eq", "=", "=="),
+        NE("ne", "!=", "<>"),
+        BETWEEN("between"),
+        IS_NULL("isnull"),
+        NOT_NULL("notnull");
+
+        private final List<String> aliases;
+
+        Operator(String... aliases) {
+            this.aliases = List.of(aliases);
+        }
+
+        static Operator of(String op) {
+            if (op != null) {
+                String normalized = op.trim().toLowerCase(Locale.ROOT).replace("_", "");
+                for (Operator operator : values()) {
+                    if (operator.aliases.contains(normalized)) {
+                        return operator;
+                    }
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 비교 연산자입니다: " + op);
+        }
+    }
+}
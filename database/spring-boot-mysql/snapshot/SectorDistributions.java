@@ -0,0 +1,179 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.HistogramDto;
+import com.ddalkkak.backend.dto.MetricDistributionDto;
+import com.ddalkkak.backend.dto.SectorDistributionDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 섹터별 전 지표 분포 (백분위 + 고정 구간 히스토그램)
+ *
+ * 스냅샷은 날짜 하나의 전체 값을 이미 메모리에 갖고 있으므로 근사 스케치 대신
+ * 섹터별 값을 정렬해 정확한 백분위를 구한다. 지표 단위로 병렬 처리하며
+ * 결과는 스냅샷에 한 번만 계산되어 다음 게시까지 재사용된다.
+ */
+public final class SectorDistributions {
+
+    private static final int BINS = 20;
+
+    // 히스토그램 경계 (전체 종목 기준, 극단값은 underflow / overflow)
+    private static final int HISTOGRAM_LOWER_PERCENT = 1;
+    private static final int HISTOGRAM_UPPER_PERCENT = 99;
+
+    private final Map<String, SectorDistributionDto> bySector;
+
+    private SectorDistributions(Map<String, SectorDistributionDto> bySector) {
+        this.bySector = bySector;
+    }
+
+    /**
+     * 스냅샷 전체 섹터 분포 계산
+     */
+    public static SectorDistributions compute(StockSnapshot snapshot) {
+        List<String> sectors = snapshot.sectors();
+        StockMetric[] metrics = StockMetric.values();
+        MetricDistributionDto[][] results = new MetricDistributionDto[metrics.length][sectors.size()];
+
+        IntStream.range(0, metrics.length).parallel().forEach(m -> {
+            StockMetric metric = metrics[m];
+            long[] column = snapshot.column(metric);
+            BitSet presentRows = snapshot.presentRows(metric);
+
+            long[] universe = new long[presentRows.cardinality()];
+            int i = 0;
+            for (int row = presentRows.nextSetBit(0); row >= 0; row = presentRows.nextSetBit(row + 1)) {
+                universe[i++] = column[row];
+            }
+            Arrays.sort(universe);
+            long lower = universe.length > 0 ? nearestRank(universe, HISTOGRAM_LOWER_PERCENT) : 0L;
+            long upper = universe.length > 0 ? nearestRank(universe, HISTOGRAM_UPPER_PERCENT) : 0L;
+
+            for (int code = 0; code < sectors.size(); code++) {
+                int[] rows = snapshot.sectorRows(code);
+                long[] values = new long[rows.length];
+                int count = 0;
+                for (int row : rows) {
+                    if (presentRows.get(row)) {
+                        values[count++] = column[row];
+                    }
+                }
+                values = Arrays.copyOf(values, count);
+                Arrays.sort(values);
+                results[m][code] = distribution(metric, values, universe.length > 0, lower, upper);
+            }
+        });
+
+        Map<String, SectorDistributionDto> bySector = new LinkedHashMap<>();
+        for (int code = 0; code < sectors.size(); code++) {
+            Map<String, MetricDistributionDto> byMetric = new LinkedHashMap<>();
+            for (StockMetric metric : metrics) {
+                byMetric.put(metric.getJsonName(), results[metric.ordinal()][code]);
+            }
+            bySector.put(sectors.get(code), SectorDistributionDto.builder()
+                .sector(sectors.get(code))
+                .dataDate(snapshot.getDataDate())
+                .stockCount(snapshot.sectorRows(code).length)
+                .metrics(Collections.unmodifiableMap(byMetric))
+                .build());
+        }
+        return new SectorDistributions(Collections.unmodifiableMap(bySector));
+    }
+
+    /**
+     * 섹터 분포 (없는 섹터는 null)
+     */
+    public SectorDistributionDto get(String sector) {
+        return bySector.get(sector);
+    }
+
+    /**
+     * 전체 섹터 분포 (섹터명 순)
+     */
+    public List<SectorDistributionDto> all() {
+        return List.copyOf(bySector.values());
+    }
+
+    private static MetricDistributionDto distribution(StockMetric metric, long[] sorted,
+                                                      boolean hasHistogram, long lower, long upper) {
+        HistogramDto histogram = hasHistogram ? histogram(metric, sorted, lower, upper) : null;
+        if (sorted.length == 0) {
+            return MetricDistributionDto.builder().count(0).histogram(histogram).build();
+        }
+        BigDecimal sum = BigDecimal.ZERO;
+        for (long value : sorted) {
+            sum = sum.add(BigDecimal.valueOf(value));
+        }
+        return MetricDistributionDto.builder()
+            .count(sorted.length)
+            .mean(sum.movePointLeft(metric.getScale())
+                .divide(BigDecimal.valueOf(sorted.length), metric.getScale() + 2, RoundingMode.HALF_UP))
+            .min(metric.fromScaled(sorted[0]))
+            .p5(percentile(metric, sorted, 5))
+            .p10(percentile(metric, sorted, 10))
+            .p25(percentile(metric, sorted, 25))
+            .median(percentile(metric, sorted, 50))
+            .p75(percentile(metric, sorted, 75))
+            .p90(percentile(metric, sorted, 90))
+            .p95(percentile(metric, sorted, 95))
+            .max(metric.fromScaled(sorted[sorted.length - 1]))
+            .histogram(histogram)
+            .build();
+    }
+
+    /**
+     * 선형 보간 백분위 (위치 = p/100 * (n - 1), 보간값은 scale + 2 로 정확히 표현)
+     */
+    private static BigDecimal percentile(StockMetric metric, long[] sorted, int percent) {
+        long position = (long) percent * (sorted.length - 1);
+        int lower = (int) (position / 100);
+        long remainder = position % 100;
+        if (remainder == 0) {
+            return metric.fromScaled(sorted[lower]);
+        }
+        BigDecimal delta = BigDecimal.valueOf(sorted[lower + 1] - sorted[lower], metric.getScale())
+            .multiply(BigDecimal.valueOf(remainder, 2));
+        return metric.fromScaled(sorted[lower]).add(delta);
+    }
+
+    private static long nearestRank(long[] sorted, int percent) {
+        return sorted[(int) Math.round(percent / 100.0 * (sorted.length - 1))];
+    }
+
+    private static HistogramDto histogram(StockMetric metric, long[] sorted, long lower, long upper) {
+        int[] counts = new int[BINS];
+        int underflow = 0;
+        int overflow = 0;
+        double range = (double) upper - (double) lower;
+        for (long value : sorted) {
+            if (value < lower) {
+                underflow++;
+            } else if (value > upper) {
+                overflow++;
+            } else if (range == 0) {
+                counts[0]++;
+            } else {
+                int bin = (int) (((double) value - (double) lower) / range * BINS);
+                counts[Math.min(bin, BINS - 1)]++;
+            }
+        }
+        return HistogramDto.builder()
+            .lower(metric.fromScaled(lower))
+            .upper(metric.fromScaled(upper))
+            .binWidth(BigDecimal.valueOf(upper, metric.getScale())
+                .subtract(BigDecimal.valueOf(lower, metric.getScale()))
+                .divide(BigDecimal.valueOf(BINS), metric.getScale() + 2, RoundingMode.HALF_UP))
+            .underflow(underflow)
+            .counts(counts)
+            .overflow(overflow)
+            .build();
+    }
+}
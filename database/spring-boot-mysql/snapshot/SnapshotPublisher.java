@@ -0,0 +1,220 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.entity.DataCollectionLog;
+import com.ddalkkak.backend.entity.SnapshotPublication;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import com.ddalkkak.backend.repository.DataCollectionLogRepository;
+import com.ddalkkak.backend.repository.SnapshotPublicationRepository;
+import com.ddalkkak.backend.repository.UndervaluedStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 스냅샷 스테이징 → 검증 → 게시
+ *
+ * 1. 스테이징: 대상 날짜 전체를 읽어 새 StockSnapshot 과 인덱스를 따로 생성 (기존 게시본은 계속 서비스)
+ * 2. 검증: 행 수 0, 티커 중복, 점수 미계산(total_score 전부 NULL), 직전 게시본 대비 급감(app.snapshot.min-row-ratio)
+ *    이면 rejected 기록 후 중단
+ * 3. 집계: /stats 통계와 섹터 분포를 스테이징 스냅샷에서 한 번에 계산 (daily_stats 저장)
+ * 4. 게시: snapshot_versions 에 published 행 기록 → SnapshotVersion 참조 교체
+ *
+ * 게시 신호
+ * - data_collection_logs 에 새 completed 로그 (주기 확인, 스크리닝 스크립트가 점수 계산 후 running → completed)
+ * - 관리자 API / 대량 적재 완료
+ * - 다른 인스턴스가 기록한 새 published 행 (주기 확인, 검증 없이 같은 날짜를 적재)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SnapshotPublisher {
+
+    // 자주 쓰는 정렬 순서는 게시 전에 미리 만들어 첫 요청 지연 방지
+    private static final StockMetric[] WARM_UP_ORDERS = {
+        StockMetric.GROWTH_SCORE, StockMetric.QUALITY_SCORE, StockMetric.VALUE_SCORE,
+        StockMetric.MOMENTUM_SCORE, StockMetric.DISCOUNT
+    };
+
+    private final UndervaluedStockRepository stockRepository;
+    private final DataCollectionLogRepository logRepository;
+    private final SnapshotPublicationRepository publicationRepository;
+    private final SnapshotVersion snapshotVersion;
+    private final SnapshotStatistics snapshotStatistics;
+
+    @Value("${app.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.snapshot.min-row-ratio:0.8}")
+    private double minRowRatio;
+
+    // 마지막으로 처리한 completed 로그 ID
+    private volatile Long lastCompletedLogId;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        lastCompletedLogId = findLatestCompletedLogId();
+        Optional<SnapshotPublication> published = findLatestPublication();
+        if (published.isPresent()) {
+            adopt(published.get());
+        } else {
+            // 게시 이력이 없는 최초 기동 (V4 적용 직후)
+            publishLatest();
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 게시 / 새 completed 수집 로그 확인
+     */
+    @Scheduled(
+        fixedDelayString = "${app.snapshot.signal-poll-interval-ms:30000}",
+        initialDelayString = "${app.snapshot.signal-poll-interval-ms:30000}"
+    )
+    public void pollIngestionSignal() {
+        try {
+            findLatestPublication()
+                .filter(publication -> publication.getId() > snapshotVersion.getVersion())
+                .ifPresent(this::adopt);
+
+            Long completedLogId = findLatestCompletedLogId();
+            if (completedLogId != null && !completedLogId.equals(lastCompletedLogId)) {
+                log.info("수집 완료 신호 감지 - logId: {}", completedLogId);
+                lastCompletedLogId = completedLogId;
+                publishLatest();
+            }
+        } catch (Exception e) {
+            log.error("게시 신호 확인 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 애플리케이션 내부 적재 완료 (같은 로그로 주기 확인에서 다시 게시하지 않도록 ID 기록)
+     */
+    public PublishedSnapshot onIngestionCompleted(Long completedLogId) {
+        lastCompletedLogId = completedLogId;
+        return publishLatest();
+    }
+
+    /**
+     * 최신 날짜를 스테이징/검증 후 게시 (데이터가 없으면 현재 게시본 유지)
+     * 최신 날짜는 MAX(data_date) 가 아니라 게시 신호와 같은 기준인 마지막 completed 수집 로그의 날짜
+     * (수집만 끝나고 스크리닝 전인 날짜로 넘어가지 않음, completed 로그가 없을 때만 MAX(data_date))
+     */
+    public synchronized PublishedSnapshot publishLatest() {
+        Optional<LocalDate> latest = logRepository.findLatestCollectionDateByStatus(DataCollectionLog.STATUS_COMPLETED)
+            .or(stockRepository::findLatestDataDate);
+        if (latest.isEmpty()) {
+            log.warn("최신 데이터 날짜 없음 - 데이터가 적재되지 않았습니다");
+            return snapshotVersion.current();
+        }
+        return publish(latest.get(), false);
+    }
+
+    /**
+     * 특정 날짜를 스테이징/검증 후 게시 (이전 날짜로 되돌릴 때도 사용)
+     * 검증 실패 시 rejected 를 기록하고 현재 게시본 유지
+     * force 이면 행 수 급감 검사를 건너뜀 (유니버스 축소 등 의도된 변경)
+     */
+    public synchronized PublishedSnapshot publish(LocalDate dataDate, boolean force) {
+        long started = System.currentTimeMillis();
+        StockSnapshot staged = stage(dataDate);
+
+        String problem = validate(staged, force);
+        if (problem != null) {
+            publicationRepository.save(SnapshotPublication.builder()
+                .dataDate(dataDate)
+                .rowCount(staged.size())
+                .status(SnapshotPublication.STATUS_REJECTED)
+                .note(problem)
+                .build());
+            log.error("스냅샷 게시 거부 - date: {}, rows: {}: {}", dataDate, staged.size(), problem);
+            return snapshotVersion.current();
+        }
+
+        SnapshotPublication publication = publicationRepository.save(SnapshotPublication.builder()
+            .dataDate(dataDate)
+            .rowCount(staged.size())
+            .status(SnapshotPublication.STATUS_PUBLISHED)
+            .publishedAt(LocalDateTime.now())
+            .build());
+        PublishedSnapshot published = swap(publication, staged);
+        log.info("스냅샷 게시 - date: {}, rows: {}, version: {}, {}ms",
+            dataDate, staged.size(), publication.getId(), System.currentTimeMillis() - started);
+        return published;
+    }
+
+    /**
+     * 이미 published 로 기록된 이력을 그대로 적재 (기동 시 / 다른 인스턴스 게시)
+     */
+    private synchronized void adopt(SnapshotPublication publication) {
+        if (publication.getId() <= snapshotVersion.getVersion()) {
+            return;
+        }
+        StockSnapshot staged = stage(publication.getDataDate());
+        swap(publication, staged);
+        log.info("게시본 적재 - date: {}, rows: {}, version: {}",
+            publication.getDataDate(), staged.size(), publication.getId());
+    }
+
+    private StockSnapshot stage(LocalDate dataDate) {
+        List<UndervaluedStock> stocks = stockRepository.findByDataDate(dataDate);
+        StockSnapshot staged = StockSnapshot.of(dataDate, stocks);
+        if (enabled) {
+            for (StockMetric metric : WARM_UP_ORDERS) {
+                staged.rowsOrderedBy(metric);
+            }
+        }
+        return staged;
+    }
+
+    /**
+     * 게시 불가 사유 (문제 없으면 null)
+     */
+    String validate(StockSnapshot staged, boolean force) {
+        if (staged.size() == 0) {
+            return "데이터가 없습니다";
+        }
+        if (staged.tickerCount() != staged.size()) {
+            return "티커 중복 " + (staged.size() - staged.tickerCount()) + "건";
+        }
+        if (staged.presentRows(StockMetric.TOTAL_SCORE).isEmpty()) {
+            // 수집만 끝나고 스크리닝 전인 날짜 (force 로도 게시하지 않음)
+            return "점수 미계산 (total_score 전부 NULL) - 스크리닝 전 데이터";
+        }
+        PublishedSnapshot current = snapshotVersion.current();
+        if (!force && current != null && staged.size() < current.getRowCount() * minRowRatio) {
+            return "행 수 급감 (" + current.getRowCount() + " → " + staged.size()
+                + ", 최소 비율 " + minRowRatio + ") - 적재 중이거나 수집 실패";
+        }
+        return null;
+    }
+
+    private PublishedSnapshot swap(SnapshotPublication publication, StockSnapshot staged) {
+        PublishedSnapshot next = new PublishedSnapshot(
+            publication.getId(),
+            publication.getDataDate(),
+            staged.size(),
+            enabled ? staged : null,
+            snapshotStatistics.compute(staged, publication.getId()),
+            staged.sectorDistributions()
+        );
+        snapshotVersion.publish(next);
+        return next;
+    }
+
+    private Optional<SnapshotPublication> findLatestPublication() {
+        return publicationRepository.findFirstByStatusOrderByIdDesc(SnapshotPublication.STATUS_PUBLISHED);
+    }
+
+    private Long findLatestCompletedLogId() {
+        return logRepository.findLatestIdByStatus(DataCollectionLog.STATUS_COMPLETED).orElse(null);
+    }
+}
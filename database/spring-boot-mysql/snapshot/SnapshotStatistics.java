@@ -0,0 +1,114 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.ScoreDistributionDto;
+import com.ddalkkak.backend.dto.StockStatisticsDto;
+import com.ddalkkak.backend.entity.DailyStats;
+import com.ddalkkak.backend.entity.ScreeningProfile;
+import com.ddalkkak.backend.repository.DailyStatsRepository;
+import com.ddalkkak.backend.repository.ScreeningProfileRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시 시점 /stats 사전 집계 + daily_stats 저장
+ *
+ * 같은 버전으로 이미 저장된 행이 있으면 (다른 인스턴스가 게시) 다시 계산하지 않고 읽어온다.
+ * 저장 실패는 로그만 남기고 메모리 집계로 게시를 계속한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SnapshotStatistics {
+
+    private static final TypeReference<LinkedHashMap<String, Long>> PROFILE_COUNTS_TYPE =
+        new TypeReference<>() {};
+    private static final TypeReference<LinkedHashMap<String, ScoreDistributionDto>> SCORE_STATS_TYPE =
+        new TypeReference<>() {};
+
+    private final DailyStatsRepository dailyStatsRepository;
+    private final ScreeningProfileRepository profileRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 스테이징된 스냅샷의 집계 (version = snapshot_versions.id)
+     */
+    public StockStatisticsDto compute(StockSnapshot staged, long version) {
+        Optional<StockStatisticsDto> stored = load(staged, version);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        long started = System.currentTimeMillis();
+        StockStatisticsDto stats = StatisticsCalculator.compute(staged, activeProfiles(), version);
+        save(stats);
+        log.info("통계 집계 - date: {}, rows: {}, version: {}, {}ms",
+            staged.getDataDate(), staged.size(), version, System.currentTimeMillis() - started);
+        return stats;
+    }
+
+    private List<String> activeProfiles() {
+        try {
+            return profileRepository.findByIsActiveTrueOrderByIdAsc().stream()
+                .map(ScreeningProfile::getProfileName)
+                .toList();
+        } catch (Exception e) {
+            // 프로필 테이블이 없으면 스냅샷에 등장한 프로필만 집계
+            log.warn("스크리닝 프로필 조회 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private Optional<StockStatisticsDto> load(StockSnapshot staged, long version) {
+        try {
+            return dailyStatsRepository.findById(staged.getDataDate())
+                .filter(row -> row.getVersion() == version && row.getTotalStocks() == staged.size())
+                .map(this::toDto);
+        } catch (Exception e) {
+            log.warn("daily_stats 조회 실패 - date: {}: {}", staged.getDataDate(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void save(StockStatisticsDto stats) {
+        try {
+            dailyStatsRepository.save(DailyStats.builder()
+                .dataDate(stats.getLatestDate())
+                .version(stats.getVersion())
+                .totalStocks((int) stats.getTotalStocks())
+                .averageTotalScore(stats.getAverageTotalScore())
+                .profileCountsJson(objectMapper.writeValueAsString(stats.getProfileCounts()))
+                .scoreStatsJson(objectMapper.writeValueAsString(stats.getScoreStats()))
+                .computedAt(stats.getComputedAt())
+                .build());
+        } catch (Exception e) {
+            log.error("daily_stats 저장 실패 - date: {}: {}", stats.getLatestDate(), e.getMessage(), e);
+        }
+    }
+
+    private StockStatisticsDto toDto(DailyStats row) {
+        try {
+            Map<String, Long> profileCounts = objectMapper.readValue(row.getProfileCountsJson(), PROFILE_COUNTS_TYPE);
+            Map<String, ScoreDistributionDto> scoreStats = objectMapper.readValue(row.getScoreStatsJson(), SCORE_STATS_TYPE);
+            return StockStatisticsDto.builder()
+                .latestDate(row.getDataDate())
+                .version(row.getVersion())
+                .totalStocks(row.getTotalStocks())
+                .averageTotalScore(row.getAverageTotalScore())
+                .profileCounts(profileCounts)
+                .scoreStats(scoreStats)
+                .computedAt(row.getComputedAt())
+                .build();
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("daily_stats 파싱 실패: " + row.getDataDate(), e);
+        }
+    }
+}
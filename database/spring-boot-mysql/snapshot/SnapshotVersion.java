@@ -0,0 +1,53 @@
+package com.ddalkkak.backend.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 게시된 데이터 버전 포인터
+ *
+ * 최신 data_date, 버전, 메모리 스냅샷이 하나의 PublishedSnapshot 참조로 묶여 있어
+ * 게시는 참조 한 번 교체로 끝나고 읽기는 잠금 없이 현재 참조만 읽는다.
+ * 게시(스테이징/검증)는 SnapshotPublisher 가 담당한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SnapshotVersion {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<PublishedSnapshot> current = new AtomicReference<>();
+
+    /**
+     * 현재 게시본 (아직 게시 전이면 null)
+     */
+    public PublishedSnapshot current() {
+        return current.get();
+    }
+
+    /**
+     * 최신 데이터 날짜 (게시 전이면 empty)
+     */
+    public Optional<LocalDate> getLatestDate() {
+        PublishedSnapshot published = current.get();
+        return published != null ? Optional.of(published.getDataDate()) : Optional.empty();
+    }
+
+    public long getVersion() {
+        PublishedSnapshot published = current.get();
+        return published != null ? published.getVersion() : 0L;
+    }
+
+    /**
+     * 새 게시본으로 교체하고 버전 변경 이벤트 발행 (캐시 비움 등)
+     */
+    void publish(PublishedSnapshot next) {
+        current.set(next);
+        eventPublisher.publishEvent(new SnapshotVersionChangedEvent(next.getDataDate(), next.getVersion()));
+    }
+}
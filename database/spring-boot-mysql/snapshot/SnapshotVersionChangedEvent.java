@@ -0,0 +1,17 @@
+package com.ddalkkak.backend.snapshot;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 최신 데이터 버전 변경 이벤트 (적재 완료 신호 수신 시 발행)
+ */
+@Getter
+@RequiredArgsConstructor
+public class SnapshotVersionChangedEvent {
+
+    private final LocalDate latestDate;
+    private final long version;
+}
@@ -0,0 +1,117 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.ScoreDistributionDto;
+import com.ddalkkak.backend.dto.StockStatisticsDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스냅샷 하나에 대한 /stats 집계
+ *
+ * 점수 합계/개수는 행을 한 번 순회하며 모든 점수 컬럼을 함께 누적하고,
+ * 백분위는 스냅샷이 이미 가진 지표 정렬 순서에서 위치로 바로 읽는다.
+ * 프로필별 종목 수는 프로필 비트맵 cardinality.
+ */
+public final class StatisticsCalculator {
+
+    private static final StockMetric[] SCORES = {
+        StockMetric.TOTAL_SCORE, StockMetric.GROWTH_SCORE, StockMetric.QUALITY_SCORE,
+        StockMetric.VALUE_SCORE, StockMetric.MOMENTUM_SCORE
+    };
+
+    // 평균 / 최소 / 백분위 / 최대 모두 같은 scale 로 응답 (정확히 한 행에 걸리는지와 무관하게 소수 자릿수 고정)
+    private static final int STAT_SCALE = 4;
+
+    private StatisticsCalculator() {
+    }
+
+    /**
+     * profiles 순서대로 프로필별 종목 수를 채우고, 목록에 없지만 스냅샷에 있는 프로필은 뒤에 추가
+     */
+    public static StockStatisticsDto compute(StockSnapshot snapshot, List<String> profiles, long version) {
+        long[] sums = new long[SCORES.length];
+        int[] counts = new int[SCORES.length];
+        long[][] columns = new long[SCORES.length][];
+        BitSet[] presents = new BitSet[SCORES.length];
+        for (int i = 0; i < SCORES.length; i++) {
+            columns[i] = snapshot.column(SCORES[i]);
+            presents[i] = snapshot.presentRows(SCORES[i]);
+        }
+
+        for (int row = 0; row < snapshot.size(); row++) {
+            for (int i = 0; i < SCORES.length; i++) {
+                if (presents[i].get(row)) {
+                    sums[i] += columns[i][row];
+                    counts[i]++;
+                }
+            }
+        }
+
+        Map<String, ScoreDistributionDto> scoreStats = new LinkedHashMap<>();
+        for (int i = 0; i < SCORES.length; i++) {
+            scoreStats.put(SCORES[i].getFieldName(), distribution(snapshot, SCORES[i], sums[i], counts[i]));
+        }
+
+        Map<String, Long> profileCounts = new LinkedHashMap<>();
+        ProfileBitmapIndex profileIndex = snapshot.profileIndex();
+        for (String profile : profiles) {
+            profileCounts.put(profile, (long) profileIndex.cardinality(profile));
+        }
+        profileIndex.cardinalities().forEach((profile, count) -> profileCounts.putIfAbsent(profile, (long) count));
+
+        BigDecimal averageTotalScore = scoreStats.get(StockMetric.TOTAL_SCORE.getFieldName()).getMean();
+        return StockStatisticsDto.builder()
+            .latestDate(snapshot.getDataDate())
+            .version(version)
+            .totalStocks(snapshot.size())
+            .averageTotalScore(averageTotalScore != null ? averageTotalScore : BigDecimal.ZERO)
+            .profileCounts(profileCounts)
+            .scoreStats(scoreStats)
+            .computedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private static ScoreDistributionDto distribution(StockSnapshot snapshot, StockMetric metric, long sum, int count) {
+        if (count == 0) {
+            return ScoreDistributionDto.builder().count(0).build();
+        }
+        // 내림차순 (NULL 제외) → 오름차순 위치 i 는 order[count - 1 - i]
+        int[] order = snapshot.rowsOrderedBy(metric);
+        long[] column = snapshot.column(metric);
+        return ScoreDistributionDto.builder()
+            .count(count)
+            .mean(BigDecimal.valueOf(sum, metric.getScale())
+                .divide(BigDecimal.valueOf(count), STAT_SCALE, RoundingMode.HALF_UP))
+            .min(metric.fromScaled(column[order[count - 1]]).setScale(STAT_SCALE, RoundingMode.HALF_UP))
+            .p10(percentile(metric, column, order, count, 10))
+            .p25(percentile(metric, column, order, count, 25))
+            .median(percentile(metric, column, order, count, 50))
+            .p75(percentile(metric, column, order, count, 75))
+            .p90(percentile(metric, column, order, count, 90))
+            .max(metric.fromScaled(column[order[0]]).setScale(STAT_SCALE, RoundingMode.HALF_UP))
+            .build();
+    }
+
+    /**
+     * 선형 보간 백분위 (위치 = p/100 * (n - 1))
+     */
+    private static BigDecimal percentile(StockMetric metric, long[] column, int[] order, int count, int percent) {
+        long position = (long) percent * (count - 1);
+        int lower = (int) (position / 100);
+        long remainder = position % 100;
+        long lowerValue = column[order[count - 1 - lower]];
+        if (remainder == 0) {
+            return metric.fromScaled(lowerValue).setScale(STAT_SCALE, RoundingMode.HALF_UP);
+        }
+        long upperValue = column[order[count - 2 - lower]];
+        BigDecimal delta = BigDecimal.valueOf(upperValue - lowerValue, metric.getScale())
+            .multiply(BigDecimal.valueOf(remainder, 2));
+        return metric.fromScaled(lowerValue).add(delta).setScale(STAT_SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,195 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * undervalued_stocks 의 숫자 지표 컬럼 정의
+ * DTO 필드 선언 순서를 그대로 따르며, 컬럼 precision/scale 은 엔티티와 동일
+ */
+public enum StockMetric {
+
+    // 가격 및 거래량
+    PRICE("price", "price", "price", 12, 2, UndervaluedStock::getPrice, UndervaluedStockDto.UndervaluedStockDtoBuilder::price),
+    MARKET_CAP("marketCap", "market_cap", "marketCap", 18, 2, UndervaluedStock::getMarketCap, UndervaluedStockDto.UndervaluedStockDtoBuilder::marketCap),
+    DOLLAR_VOLUME("dollarVolume", "dollar_volume", "dollarVolume", 18, 2, UndervaluedStock::getDollarVolume, UndervaluedStockDto.UndervaluedStockDtoBuilder::dollarVolume),
+
+    // 밸류에이션 지표
+    PE_RATIO("peRatio", "pe_ratio", "pe", 10, 2, UndervaluedStock::getPeRatio, UndervaluedStockDto.UndervaluedStockDtoBuilder::peRatio),
+    PEG_RATIO("pegRatio", "peg_ratio", "peg", 10, 2, UndervaluedStock::getPegRatio, UndervaluedStockDto.UndervaluedStockDtoBuilder::pegRatio),
+    PB_RATIO("pbRatio", "pb_ratio", "pb", 10, 2, UndervaluedStock::getPbRatio, UndervaluedStockDto.UndervaluedStockDtoBuilder::pbRatio),
+    PS_RATIO("psRatio", "ps_ratio", "ps", 10, 2, UndervaluedStock::getPsRatio, UndervaluedStockDto.UndervaluedStockDtoBuilder::psRatio),
+    EV_EBITDA("evEbitda", "ev_ebitda", "evEbitda", 10, 2, UndervaluedStock::getEvEbitda, UndervaluedStockDto.UndervaluedStockDtoBuilder::evEbitda),
+    FCF_YIELD("fcfYield", "fcf_yield", "fcfYield", 8, 4, UndervaluedStock::getFcfYield, UndervaluedStockDto.UndervaluedStockDtoBuilder::fcfYield),
+    DIV_YIELD("divYield", "div_yield", "divYield", 8, 4, UndervaluedStock::getDivYield, UndervaluedStockDto.UndervaluedStockDtoBuilder::divYield),
+    PAYOUT_RATIO("payoutRatio", "payout_ratio", "payoutRatio", 8, 4, UndervaluedStock::getPayoutRatio, UndervaluedStockDto.UndervaluedStockDtoBuilder::payoutRatio),
+
+    // 수익성 지표
+    ROE("roe", "roe", "roe", 8, 4, UndervaluedStock::getRoe, UndervaluedStockDto.UndervaluedStockDtoBuilder::roe),
+    ROA("roa", "roa", "roa", 8, 4, UndervaluedStock::getRoa, UndervaluedStockDto.UndervaluedStockDtoBuilder::roa),
+    OP_MARGIN_TTM("opMarginTtm", "op_margin_ttm", "opMargin", 8, 4, UndervaluedStock::getOpMarginTtm, UndervaluedStockDto.UndervaluedStockDtoBuilder::opMarginTtm),
+    OPERATING_MARGINS("operatingMargins", "operating_margins", "operatingMargins", 8, 4, UndervaluedStock::getOperatingMargins, UndervaluedStockDto.UndervaluedStockDtoBuilder::operatingMargins),
+    GROSS_MARGINS("grossMargins", "gross_margins", "grossMargins", 8, 4, UndervaluedStock::getGrossMargins, UndervaluedStockDto.UndervaluedStockDtoBuilder::grossMargins),
+    NET_MARGINS("netMargins", "net_margins", "netMargins", 8, 4, UndervaluedStock::getNetMargins, UndervaluedStockDto.UndervaluedStockDtoBuilder::netMargins),
+
+    // 성장성 지표
+    REV_YOY("revYoy", "rev_yoy", "revGrowth", 8, 4, UndervaluedStock::getRevYoy, UndervaluedStockDto.UndervaluedStockDtoBuilder::revYoy),
+    EPS_GROWTH_3Y("epsGrowth3y", "eps_growth_3y", "epsGrowth3Y", 8, 4, UndervaluedStock::getEpsGrowth3y, UndervaluedStockDto.UndervaluedStockDtoBuilder::epsGrowth3y),
+    REVENUE_GROWTH_3Y("revenueGrowth3y", "revenue_growth_3y", "revenueGrowth3Y", 8, 4, UndervaluedStock::getRevenueGrowth3y, UndervaluedStockDto.UndervaluedStockDtoBuilder::revenueGrowth3y),
+    EBITDA_GROWTH_3Y("ebitdaGrowth3y", "ebitda_growth_3y", "ebitdaGrowth3Y", 8, 4, UndervaluedStock::getEbitdaGrowth3y, UndervaluedStockDto.UndervaluedStockDtoBuilder::ebitdaGrowth3y),
+
+    // 기술적 지표
+    SMA_20("sma20", "sma_20", "sma20", 12, 2, UndervaluedStock::getSma20, UndervaluedStockDto.UndervaluedStockDtoBuilder::sma20),
+    SMA_50("sma50", "sma_50", "sma50", 12, 2, UndervaluedStock::getSma50, UndervaluedStockDto.UndervaluedStockDtoBuilder::sma50),
+    SMA_200("sma200", "sma_200", "sma200", 12, 2, UndervaluedStock::getSma200, UndervaluedStockDto.UndervaluedStockDtoBuilder::sma200),
+    RSI_14("rsi14", "rsi_14", "rsi", 6, 2, UndervaluedStock::getRsi14, UndervaluedStockDto.UndervaluedStockDtoBuilder::rsi14),
+    MACD("macd", "macd", "macd", 12, 4, UndervaluedStock::getMacd, UndervaluedStockDto.UndervaluedStockDtoBuilder::macd),
+    MACD_SIGNAL("macdSignal", "macd_signal", "macdSignal", 12, 4, UndervaluedStock::getMacdSignal, UndervaluedStockDto.UndervaluedStockDtoBuilder::macdSignal),
+    MACD_HISTOGRAM("macdHistogram", "macd_histogram", "macdHistogram", 12, 4, UndervaluedStock::getMacdHistogram, UndervaluedStockDto.UndervaluedStockDtoBuilder::macdHistogram),
+    BB_POSITION("bbPosition", "bb_position", "bbPosition", 6, 4, UndervaluedStock::getBbPosition, UndervaluedStockDto.UndervaluedStockDtoBuilder::bbPosition),
+    ATR_14("atr14", "atr_14", "atr", 12, 4, UndervaluedStock::getAtr14, UndervaluedStockDto.UndervaluedStockDtoBuilder::atr14),
+
+    // 모멘텀 지표
+    RET_5("ret5", "ret_5", "ret5d", 8, 4, UndervaluedStock::getRet5, UndervaluedStockDto.UndervaluedStockDtoBuilder::ret5),
+    RET_20("ret20", "ret_20", "ret20d", 8, 4, UndervaluedStock::getRet20, UndervaluedStockDto.UndervaluedStockDtoBuilder::ret20),
+    RET_63("ret63", "ret_63", "ret63d", 8, 4, UndervaluedStock::getRet63, UndervaluedStockDto.UndervaluedStockDtoBuilder::ret63),
+    MOMENTUM_12M("momentum12m", "momentum_12m", "momentum12m", 8, 4, UndervaluedStock::getMomentum12m, UndervaluedStockDto.UndervaluedStockDtoBuilder::momentum12m),
+    VOLATILITY_21D("volatility21d", "volatility_21d", "volatility", 8, 4, UndervaluedStock::getVolatility21d, UndervaluedStockDto.UndervaluedStockDtoBuilder::volatility21d),
+    HIGH_52W_RATIO("high52wRatio", "high_52w_ratio", "high52wRatio", 6, 4, UndervaluedStock::getHigh52wRatio, UndervaluedStockDto.UndervaluedStockDtoBuilder::high52wRatio),
+    LOW_52W_RATIO("low52wRatio", "low_52w_ratio", "low52wRatio", 6, 4, UndervaluedStock::getLow52wRatio, UndervaluedStockDto.UndervaluedStockDtoBuilder::low52wRatio),
+    RVOL("rvol", "rvol", "rvol", 6, 2, UndervaluedStock::getRvol, UndervaluedStockDto.UndervaluedStockDtoBuilder::rvol),
+
+    // 리스크 지표
+    BETA("beta", "beta", "beta", 6, 3, UndervaluedStock::getBeta, UndervaluedStockDto.UndervaluedStockDtoBuilder::beta),
+    SHORT_PERCENT("shortPercent", "short_percent", "shortPercent", 6, 4, UndervaluedStock::getShortPercent, UndervaluedStockDto.UndervaluedStockDtoBuilder::shortPercent),
+    INSIDER_OWNERSHIP("insiderOwnership", "insider_ownership", "insiderOwnership", 6, 4, UndervaluedStock::getInsiderOwnership, UndervaluedStockDto.UndervaluedStockDtoBuilder::insiderOwnership),
+    INSTITUTION_OWNERSHIP("institutionOwnership", "institution_ownership", "institutionOwnership", 6, 4, UndervaluedStock::getInstitutionOwnership, UndervaluedStockDto.UndervaluedStockDtoBuilder::institutionOwnership),
+
+    // 적정가치 및 할인율
+    FAIR_VALUE("fairValue", "fair_value", "fairValue", 12, 2, UndervaluedStock::getFairValue, UndervaluedStockDto.UndervaluedStockDtoBuilder::fairValue),
+    DISCOUNT("discount", "discount", "discount", 8, 4, UndervaluedStock::getDiscount, UndervaluedStockDto.UndervaluedStockDtoBuilder::discount),
+
+    // 종합 점수
+    GROWTH_SCORE("growthScore", "growth_score", "growthScore", 6, 2, UndervaluedStock::getGrowthScore, UndervaluedStockDto.UndervaluedStockDtoBuilder::growthScore),
+    QUALITY_SCORE("qualityScore", "quality_score", "qualityScore", 6, 2, UndervaluedStock::getQualityScore, UndervaluedStockDto.UndervaluedStockDtoBuilder::qualityScore),
+    VALUE_SCORE("valueScore", "value_score", "valueScore", 6, 2, UndervaluedStock::getValueScore, UndervaluedStockDto.UndervaluedStockDtoBuilder::valueScore),
+    MOMENTUM_SCORE("momentumScore", "momentum_score", "momentumScore", 6, 2, UndervaluedStock::getMomentumScore, UndervaluedStockDto.UndervaluedStockDtoBuilder::momentumScore),
+    TOTAL_SCORE("totalScore", "total_score", "totalScore", 6, 2, UndervaluedStock::getTotalScore, UndervaluedStockDto.UndervaluedStockDtoBuilder::totalScore);
+
+    private static final Map<String, StockMetric> BY_NAME = new HashMap<>();
+
+    static {
+        for (StockMetric metric : values()) {
+            BY_NAME.put(metric.fieldName, metric);
+            BY_NAME.put(metric.columnName, metric);
+            BY_NAME.put(metric.jsonName, metric);
+        }
+    }
+
+    private final String fieldName;
+    private final String columnName;
+    private final String jsonName;
+    private final int precision;
+    private final int scale;
+    private final Function<UndervaluedStock, BigDecimal> entityGetter;
+    private final BiConsumer<UndervaluedStockDto.UndervaluedStockDtoBuilder, BigDecimal> dtoSetter;
+
+    StockMetric(
+        String fieldName,
+        String columnName,
+        String jsonName,
+        int precision,
+        int scale,
+        Function<UndervaluedStock, BigDecimal> entityGetter,
+        BiConsumer<UndervaluedStockDto.UndervaluedStockDtoBuilder, BigDecimal> dtoSetter
+    ) {
+        this.fieldName = fieldName;
+        this.columnName = columnName;
+        this.jsonName = jsonName;
+        this.precision = precision;
+        this.scale = scale;
+        this.entityGetter = entityGetter;
+        this.dtoSetter = dtoSetter;
+    }
+
+    /**
+     * 엔티티 필드명, DB 컬럼명, JSON 필드명 중 하나로 지표 조회
+     */
+    public static Optional<StockMetric> fromName(String name) {
+        return Optional.ofNullable(name).map(BY_NAME::get);
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public BigDecimal read(UndervaluedStock entity) {
+        return entityGetter.apply(entity);
+    }
+
+    public void write(UndervaluedStockDto.UndervaluedStockDtoBuilder builder, BigDecimal value) {
+        dtoSetter.accept(builder, value);
+    }
+
+    // ============================================================
+    // scale 고정 long 변환 (예: scale 2 → 12.34 ↔ 1234)
+    // ============================================================
+
+    /**
+     * 컬럼 scale 로 맞춘 unscaled long 값
+     */
+    public long toScaled(BigDecimal value) {
+        return value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public BigDecimal fromScaled(long scaled) {
+        return BigDecimal.valueOf(scaled, scale);
+    }
+
+    /**
+     * value 이상인 최소 scaled 값 (>= 비교용, long 범위로 클램프)
+     */
+    public long ceilScaled(BigDecimal value) {
+        return clamp(value.setScale(scale, RoundingMode.CEILING));
+    }
+
+    /**
+     * value 이하인 최대 scaled 값 (<= 비교용, long 범위로 클램프)
+     */
+    public long floorScaled(BigDecimal value) {
+        return clamp(value.setScale(scale, RoundingMode.FLOOR));
+    }
+
+    private static long clamp(BigDecimal scaledValue) {
+        BigInteger unscaled = scaledValue.unscaledValue();
+        if (unscaled.bitLength() > 63) {
+            return unscaled.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        return unscaled.longValue();
+    }
+}
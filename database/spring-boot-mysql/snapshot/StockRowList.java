@@ -0,0 +1,44 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * 스냅샷 행 목록 (읽기 전용 List&lt;UndervaluedStockDto&gt; 뷰)
+ *
+ * 응답 직렬화는 StockRowListSerializer 가 스냅샷의 unscaled long 배열에서 바로 숫자를 쓰므로
+ * 행마다 DTO 와 지표 수만큼의 BigDecimal 을 만들지 않는다.
+ * 서비스 코드에서 get(i) 로 접근할 때만 해당 행 DTO 를 생성한다.
+ */
+@JsonSerialize(using = StockRowListSerializer.class)
+public final class StockRowList extends AbstractList<UndervaluedStockDto> implements RandomAccess {
+
+    private final StockSnapshot snapshot;
+    private final int[] rows;
+
+    StockRowList(StockSnapshot snapshot, int[] rows) {
+        this.snapshot = snapshot;
+        this.rows = rows;
+    }
+
+    @Override
+    public UndervaluedStockDto get(int index) {
+        return snapshot.toDto(rows[index]);
+    }
+
+    @Override
+    public int size() {
+        return rows.length;
+    }
+
+    StockSnapshot snapshot() {
+        return snapshot;
+    }
+
+    int row(int index) {
+        return rows[index];
+    }
+}
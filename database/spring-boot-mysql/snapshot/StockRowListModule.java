@@ -0,0 +1,94 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.type.CollectionType;
+
+import java.io.IOException;
+
+/**
+ * StockRowList 직렬화 모듈
+ *
+ * 컨트롤러가 List&lt;UndervaluedStockDto&gt; 로 선언된 값을 반환하면 Jackson 은 실제 클래스 대신
+ * 선언 타입(List)의 CollectionSerializer 를 사용한다. StockRowList 를 담을 수 있는
+ * 컬렉션 직렬화기를 감싸 실행 시점에 StockRowList 이면 StockRowListSerializer 로 보낸다.
+ */
+public class StockRowListModule extends SimpleModule {
+
+    public StockRowListModule() {
+        super("StockRowListModule");
+        StockRowListSerializer rows = new StockRowListSerializer();
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifyCollectionSerializer(SerializationConfig config, CollectionType valueType,
+                                                                BeanDescription beanDesc, JsonSerializer<?> serializer) {
+                if (valueType.getRawClass().isAssignableFrom(StockRowList.class)) {
+                    return new RowAwareSerializer(rows, serializer);
+                }
+                return serializer;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class RowAwareSerializer extends JsonSerializer<Object>
+        implements ContextualSerializer, ResolvableSerializer {
+
+        private final StockRowListSerializer rows;
+        private final JsonSerializer<Object> delegate;
+
+        RowAwareSerializer(StockRowListSerializer rows, JsonSerializer<?> delegate) {
+            this.rows = rows;
+            this.delegate = (JsonSerializer<Object>) delegate;
+        }
+
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value instanceof StockRowList list) {
+                rows.serialize(list, gen, provider);
+            } else {
+                delegate.serialize(value, gen, provider);
+            }
+        }
+
+        @Override
+        public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider,
+                                      TypeSerializer typeSer) throws IOException {
+            delegate.serializeWithType(value, gen, provider, typeSer);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, Object value) {
+            return delegate.isEmpty(provider, value);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+            if (delegate instanceof ContextualSerializer contextual) {
+                JsonSerializer<?> resolved = contextual.createContextual(provider, property);
+                if (resolved != delegate) {
+                    return new RowAwareSerializer(rows, resolved);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            if (delegate instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * StockRowList → JSON 배열 (UndervaluedStockDto 직렬화와 바이트 단위로 동일한 출력)
+ *
+ * - 필드 이름/순서: Jackson 이 UndervaluedStockDto 에 대해 계산한 프로퍼티 목록을 그대로 사용
+ * - 지표: unscaled long 을 컬럼 scale 자릿수로 직접 포맷 (BigDecimal.toString 과 같은 평문 표기)
+ * - NULL: spring.jackson.default-property-inclusion 설정을 따름 (non_null 이면 생략)
+ *
+ * DTO 에 스냅샷이 모르는 필드가 추가되면 행마다 DTO 를 만들어 기본 직렬화로 처리한다.
+ */
+public class StockRowListSerializer extends StdSerializer<StockRowList> {
+
+    private static final int TICKER = -1;
+    private static final int NAME = -2;
+    private static final int SECTOR = -3;
+    private static final int INDUSTRY = -4;
+    private static final int PASSED_PROFILES = -5;
+    private static final int DATA_DATE = -6;
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    // 부호 + 19자리 + 소수점
+    private static final int MAX_NUMBER_LENGTH = 21;
+
+    private volatile Layout layout;
+
+    public StockRowListSerializer() {
+        super(StockRowList.class);
+    }
+
+    @Override
+    public void serialize(StockRowList list, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        Layout current = layout(provider);
+        if (!current.supported) {
+            gen.writeStartArray(list, list.size());
+            for (UndervaluedStockDto dto : list) {
+                provider.defaultSerializeValue(dto, gen);
+            }
+            gen.writeEndArray();
+            return;
+        }
+
+        StockSnapshot snapshot = list.snapshot();
+        LocalDate dataDate = snapshot.getDataDate();
+        JsonSerializer<Object> dateSerializer = dataDate != null ? provider.findValueSerializer(LocalDate.class) : null;
+        char[] buffer = new char[MAX_NUMBER_LENGTH];
+
+        gen.writeStartArray(list, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            int row = list.row(i);
+            gen.writeStartObject();
+            for (int p = 0; p < current.slots.length; p++) {
+                int slot = current.slots[p];
+                SerializableString name = current.names[p];
+                switch (slot) {
+                    case TICKER -> writeString(gen, name, snapshot.ticker(row), current.writeNulls);
+                    case NAME -> writeString(gen, name, snapshot.name(row), current.writeNulls);
+                    case SECTOR -> writeString(gen, name, snapshot.sector(row), current.writeNulls);
+                    case INDUSTRY -> writeString(gen, name, snapshot.industry(row), current.writeNulls);
+                    case PASSED_PROFILES -> {
+                        List<String> profiles = snapshot.passedProfiles(row);
+                        gen.writeFieldName(name);
+                        gen.writeStartArray(profiles, profiles.size());
+                        for (String profile : profiles) {
+                            gen.writeString(profile);
+                        }
+                        gen.writeEndArray();
+                    }
+                    case DATA_DATE -> {
+                        if (dateSerializer != null) {
+                            gen.writeFieldName(name);
+                            dateSerializer.serialize(dataDate, gen, provider);
+                        } else if (current.writeNulls) {
+                            gen.writeFieldName(name);
+                            gen.writeNull();
+                        }
+                    }
+                    default -> {
+                        StockMetric metric = current.metrics[p];
+                        if (!snapshot.isNull(metric, row)) {
+                            gen.writeFieldName(name);
+                            int length = format(snapshot.scaled(metric, row), metric.getScale(), buffer);
+                            gen.writeNumber(buffer, buffer.length - length, length);
+                        } else if (current.writeNulls) {
+                            gen.writeFieldName(name);
+                            gen.writeNull();
+                        }
+                    }
+                }
+            }
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+    }
+
+    private Layout layout(SerializerProvider provider) {
+        Layout current = layout;
+        if (current == null) {
+            current = Layout.of(provider);
+            layout = current;
+        }
+        return current;
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value,
+                                    boolean writeNulls) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        } else if (writeNulls) {
+            gen.writeFieldName(name);
+            gen.writeNull();
+        }
+    }
+
+    /**
+     * unscaled 값을 buffer 끝에서부터 평문 십진수로 기록하고 길이 반환
+     * BigDecimal.valueOf(unscaled, scale).toString() 과 같은 표기 (scale 0 이면 소수점 없음)
+     */
+    static int format(long unscaled, int scale, char[] buffer) {
+        int position = buffer.length;
+        boolean negative = unscaled < 0;
+        long remaining = negative ? -unscaled : unscaled;
+        for (int digit = 0; digit < scale; digit++) {
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        if (scale > 0) {
+            buffer[--position] = '.';
+        }
+        do {
+            buffer[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining > 0);
+        if (negative) {
+            buffer[--position] = '-';
+        }
+        return buffer.length - position;
+    }
+
+    /**
+     * DTO 프로퍼티 순서대로 스냅샷 컬럼을 가리키는 배치 정보 (ObjectMapper 설정당 한 번 계산)
+     */
+    private static final class Layout {
+
+        private final int[] slots;
+        private final SerializableString[] names;
+        private final StockMetric[] metrics;
+        private final boolean supported;
+        private final boolean writeNulls;
+
+        private Layout(int[] slots, SerializableString[] names, StockMetric[] metrics, boolean supported,
+                       boolean writeNulls) {
+            this.slots = slots;
+            this.names = names;
+            this.metrics = metrics;
+            this.supported = supported;
+            this.writeNulls = writeNulls;
+        }
+
+        static Layout of(SerializerProvider provider) {
+            BeanDescription description = provider.getConfig()
+                .introspect(provider.constructType(UndervaluedStockDto.class));
+            List<BeanPropertyDefinition> properties = description.findProperties();
+
+            int[] slots = new int[properties.size()];
+            SerializableString[] names = new SerializableString[properties.size()];
+            StockMetric[] metrics = new StockMetric[properties.size()];
+            boolean supported = true;
+            for (int p = 0; p < properties.size(); p++) {
+                BeanPropertyDefinition property = properties.get(p);
+                names[p] = new SerializedString(property.getName());
+                slots[p] = slot(property.getInternalName());
+                if (slots[p] >= 0) {
+                    metrics[p] = StockMetric.values()[slots[p]];
+                } else if (slots[p] == UNKNOWN) {
+                    supported = false;
+                }
+            }
+
+            JsonInclude.Include inclusion = provider.getConfig()
+                .getDefaultPropertyInclusion(UndervaluedStockDto.class)
+                .getValueInclusion();
+            boolean writeNulls = inclusion == JsonInclude.Include.ALWAYS
+                || inclusion == JsonInclude.Include.USE_DEFAULTS;
+            // NON_EMPTY / NON_DEFAULT 등은 값별 판단이 필요하므로 기본 직렬화 사용
+            boolean plain = writeNulls
+                || inclusion == JsonInclude.Include.NON_NULL
+                || inclusion == JsonInclude.Include.NON_ABSENT;
+            return new Layout(slots, names, metrics, supported && plain, writeNulls);
+        }
+
+        private static int slot(String field) {
+            return switch (field) {
+                case "ticker" -> TICKER;
+                case "name" -> NAME;
+                case "sector" -> SECTOR;
+                case "industry" -> INDUSTRY;
+                case "passedProfiles" -> PASSED_PROFILES;
+                case "dataDate" -> DATA_DATE;
+                default -> StockMetric.fromName(field)
+                    .filter(metric -> metric.getFieldName().equals(field))
+                    .map(Enum::ordinal)
+                    .orElse(UNKNOWN);
+            };
+        }
+    }
+}
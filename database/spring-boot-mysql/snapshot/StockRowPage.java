@@ -0,0 +1,52 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * content 로 StockRowList 를 그대로 유지하는 Page
+ *
+ * PageImpl 은 생성 시 content 를 ArrayList 에 복사(addAll)하므로 StockRowList 를 넘기면
+ * 행마다 DTO 가 만들어지고 응답도 일반 List 로 직렬화된다.
+ * 상위 클래스에는 같은 크기의 null 목록만 넘겨 (행 수 기반 getter 는 그대로 사용, JSON 속성 순서도 PageImpl 과 동일)
+ * content / iterator 만 StockRowList 로 돌려 StockRowListSerializer 를 거치게 한다.
+ * (map 등 Streamable 기본 구현은 iterator 를 쓰므로 그대로 동작)
+ */
+final class StockRowPage extends PageImpl<UndervaluedStockDto> {
+
+    private final StockRowList rows;
+
+    StockRowPage(StockRowList rows, Pageable pageable, long total) {
+        super(Collections.nCopies(rows.size(), null), pageable, total);
+        this.rows = rows;
+    }
+
+    @Override
+    public List<UndervaluedStockDto> getContent() {
+        return rows;
+    }
+
+    @Override
+    public Iterator<UndervaluedStockDto> iterator() {
+        return rows.iterator();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof StockRowPage that
+            && getTotalElements() == that.getTotalElements()
+            && getPageable().equals(that.getPageable())
+            && rows.equals(that.rows);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getTotalElements(), getPageable(), rows);
+    }
+}
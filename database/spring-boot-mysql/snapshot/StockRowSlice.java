@@ -0,0 +1,46 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * content 로 StockRowList 를 그대로 유지하는 Slice (withTotal=false 응답, 이유는 StockRowPage 참고)
+ */
+final class StockRowSlice extends SliceImpl<UndervaluedStockDto> {
+
+    private final StockRowList rows;
+
+    StockRowSlice(StockRowList rows, Pageable pageable, boolean hasNext) {
+        super(Collections.nCopies(rows.size(), null), pageable, hasNext);
+        this.rows = rows;
+    }
+
+    @Override
+    public List<UndervaluedStockDto> getContent() {
+        return rows;
+    }
+
+    @Override
+    public Iterator<UndervaluedStockDto> iterator() {
+        return rows.iterator();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof StockRowSlice that
+            && hasNext() == that.hasNext()
+            && getPageable().equals(that.getPageable())
+            && rows.equals(that.rows);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hasNext(), getPageable(), rows);
+    }
+}
@@ -0,0 +1,550 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import com.ddalkkak.backend.dto.UndervaluedStockSummaryDto;
+import com.ddalkkak.backend.entity.ProfileSet;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntPredicate;
+
+/**
+ * 특정 data_date 의 undervalued_stocks 전체를 담는 읽기 전용 컬럼형 스냅샷
+ *
+ * - 지표는 컬럼 scale 기준 unscaled long 배열 + null 비트맵으로 저장
+ * - sector / industry 는 정렬된 사전 + int 코드로 인코딩
+ * - 프로필 / 섹터 필터는 행 번호 비트맵으로 처리
+ * - 행 순서는 total_score DESC (NULL 마지막), id ASC
+ *   → 기존 쿼리의 ORDER BY total_score DESC 결과를 그대로 앞에서부터 읽으면 됨
+ */
+public final class StockSnapshot {
+
+    private static final StockMetric[] METRICS = StockMetric.values();
+
+    private final LocalDate dataDate;
+    private final int size;
+
+    private final long[] ids;
+    private final String[] tickers;
+    private final String[] names;
+
+    // 사전 인코딩 컬럼 (NULL 은 -1)
+    private final String[] sectorDictionary;
+    private final int[] sectorCodes;
+    private final String[] industryDictionary;
+    private final int[] industryCodes;
+
+    // [metric.ordinal()][row]
+    private final long[][] values;
+    private final BitSet[] present;
+
+    private final List<String>[] passedProfiles;
+
+    private final Map<String, Integer> tickerIndex;
+
+    // 섹터 코드별 행 목록 (total_score 순) 및 비트맵
+    private final int[][] rowsBySector;
+    private final BitSet[] sectorBitmaps;
+
+    private final ProfileBitmapIndex profileIndex;
+
+    // 지표별 내림차순 정렬 행 목록 (NULL 제외, 최초 요청 시 생성)
+    private final AtomicReferenceArray<int[]> metricOrders = new AtomicReferenceArray<>(METRICS.length);
+
+    // 섹터별 지표 분포 (최초 요청 또는 게시 전 워밍업 시 생성)
+    private final AtomicReference<SectorDistributions> sectorDistributions = new AtomicReference<>();
+
+    @SuppressWarnings("unchecked")
+    private StockSnapshot(LocalDate dataDate, List<UndervaluedStock> rows) {
+        this.dataDate = dataDate;
+        this.size = rows.size();
+        this.ids = new long[size];
+        this.tickers = new String[size];
+        this.names = new String[size];
+        this.passedProfiles = new List[size];
+        this.values = new long[METRICS.length][size];
+        this.present = new BitSet[METRICS.length];
+        for (StockMetric metric : METRICS) {
+            present[metric.ordinal()] = new BitSet(size);
+        }
+
+        TreeSet<String> sectorSet = new TreeSet<>();
+        TreeSet<String> industrySet = new TreeSet<>();
+        for (UndervaluedStock stock : rows) {
+            if (stock.getSector() != null) {
+                sectorSet.add(stock.getSector());
+            }
+            if (stock.getIndustry() != null) {
+                industrySet.add(stock.getIndustry());
+            }
+        }
+        this.sectorDictionary = sectorSet.toArray(new String[0]);
+        this.industryDictionary = industrySet.toArray(new String[0]);
+        this.sectorCodes = new int[size];
+        this.industryCodes = new int[size];
+        this.tickerIndex = new HashMap<>(size * 2);
+
+        for (int row = 0; row < size; row++) {
+            UndervaluedStock stock = rows.get(row);
+            ids[row] = stock.getId() != null ? stock.getId() : 0L;
+            tickers[row] = stock.getTicker();
+            names[row] = stock.getName();
+            sectorCodes[row] = encode(sectorDictionary, stock.getSector());
+            industryCodes[row] = encode(industryDictionary, stock.getIndustry());
+            // 같은 조합은 같은 불변 ProfileSet 을 공유
+            passedProfiles[row] = ProfileSet.of(stock.getPassedProfiles());
+
+            for (StockMetric metric : METRICS) {
+                BigDecimal value = metric.read(stock);
+                if (value != null) {
+                    values[metric.ordinal()][row] = metric.toScaled(value);
+                    present[metric.ordinal()].set(row);
+                }
+            }
+            tickerIndex.put(stock.getTicker(), row);
+        }
+
+        int[] sectorSizes = new int[sectorDictionary.length];
+        for (int code : sectorCodes) {
+            if (code >= 0) {
+                sectorSizes[code]++;
+            }
+        }
+        this.rowsBySector = new int[sectorDictionary.length][];
+        for (int code = 0; code < sectorSizes.length; code++) {
+            rowsBySector[code] = new int[sectorSizes[code]];
+        }
+        this.sectorBitmaps = new BitSet[sectorDictionary.length];
+        for (int code = 0; code < sectorSizes.length; code++) {
+            sectorBitmaps[code] = new BitSet(size);
+        }
+        int[] cursor = new int[sectorDictionary.length];
+        for (int row = 0; row < size; row++) {
+            int code = sectorCodes[row];
+            if (code >= 0) {
+                rowsBySector[code][cursor[code]++] = row;
+                sectorBitmaps[code].set(row);
+            }
+        }
+
+        this.profileIndex = ProfileBitmapIndex.build(passedProfiles);
+    }
+
+    /**
+     * 엔티티 목록으로 스냅샷 생성 (입력 순서와 무관하게 total_score DESC, id ASC 로 정렬)
+     */
+    public static StockSnapshot of(LocalDate dataDate, List<UndervaluedStock> stocks) {
+        List<UndervaluedStock> sorted = new ArrayList<>(stocks);
+        sorted.sort(Comparator
+            .comparing(UndervaluedStock::getTotalScore, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(UndervaluedStock::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+        return new StockSnapshot(dataDate, sorted);
+    }
+
+    private static int encode(String[] dictionary, String value) {
+        if (value == null) {
+            return -1;
+        }
+        return Arrays.binarySearch(dictionary, value);
+    }
+
+    // ============================================================
+    // 컬럼 접근
+    // ============================================================
+
+    public LocalDate getDataDate() {
+        return dataDate;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long id(int row) {
+        return ids[row];
+    }
+
+    public String ticker(int row) {
+        return tickers[row];
+    }
+
+    public String name(int row) {
+        return names[row];
+    }
+
+    public String sector(int row) {
+        int code = sectorCodes[row];
+        return code >= 0 ? sectorDictionary[code] : null;
+    }
+
+    public String industry(int row) {
+        int code = industryCodes[row];
+        return code >= 0 ? industryDictionary[code] : null;
+    }
+
+    public List<String> passedProfiles(int row) {
+        return passedProfiles[row];
+    }
+
+    public boolean isNull(StockMetric metric, int row) {
+        return !present[metric.ordinal()].get(row);
+    }
+
+    /**
+     * 컬럼 scale 기준 unscaled 값 (NULL 이면 0 이므로 isNull 먼저 확인)
+     */
+    public long scaled(StockMetric metric, int row) {
+        return values[metric.ordinal()][row];
+    }
+
+    public BigDecimal value(StockMetric metric, int row) {
+        return isNull(metric, row) ? null : metric.fromScaled(values[metric.ordinal()][row]);
+    }
+
+    /**
+     * 지표 컬럼 원본 배열 (같은 패키지의 벡터 연산 전용, 수정 금지)
+     */
+    long[] column(StockMetric metric) {
+        return values[metric.ordinal()];
+    }
+
+    /**
+     * 지표 값이 있는 행 비트맵 원본 (같은 패키지의 벡터 연산 전용, 수정 금지)
+     */
+    BitSet presentRows(StockMetric metric) {
+        return present[metric.ordinal()];
+    }
+
+    /**
+     * 티커로 행 번호 조회 (없으면 -1)
+     */
+    public int rowOf(String ticker) {
+        Integer row = tickerIndex.get(ticker);
+        return row != null ? row : -1;
+    }
+
+    /**
+     * 서로 다른 티커 수 (size 와 다르면 중복 티커 존재)
+     */
+    public int tickerCount() {
+        return tickerIndex.size();
+    }
+
+    /**
+     * 섹터 목록 (이름순)
+     */
+    public List<String> sectors() {
+        return Collections.unmodifiableList(Arrays.asList(sectorDictionary));
+    }
+
+    /**
+     * 섹터 코드 조회 (없으면 -1)
+     */
+    public int sectorCode(String sector) {
+        return sector == null ? -1 : Math.max(-1, Arrays.binarySearch(sectorDictionary, sector));
+    }
+
+    public boolean hasProfile(int row, String profile) {
+        return profileIndex.contains(profile, row);
+    }
+
+    public ProfileBitmapIndex profileIndex() {
+        return profileIndex;
+    }
+
+    // ============================================================
+    // 행 선택
+    // ============================================================
+
+    /**
+     * total_score 상위 limit 개 행
+     */
+    public int[] top(int limit) {
+        int[] rows = new int[Math.max(0, Math.min(limit, size))];
+        for (int row = 0; row < rows.length; row++) {
+            rows[row] = row;
+        }
+        return rows;
+    }
+
+    /**
+     * total_score 순서로 조건에 맞는 행을 offset 부터 limit 개 선택
+     */
+    public int[] select(IntPredicate filter, int offset, int limit) {
+        return selectFrom(null, filter, offset, limit);
+    }
+
+    /**
+     * 주어진 정렬 순서(null 이면 total_score 순)에서 조건에 맞는 행 선택
+     */
+    public int[] selectFrom(int[] order, IntPredicate filter, int offset, int limit) {
+        int length = order != null ? order.length : size;
+        int[] result = new int[Math.max(0, Math.min(limit, length))];
+        int found = 0;
+        int skipped = 0;
+        for (int i = 0; i < length && found < result.length; i++) {
+            int row = order != null ? order[i] : i;
+            if (filter != null && !filter.test(row)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            result[found++] = row;
+        }
+        return found == result.length ? result : Arrays.copyOf(result, found);
+    }
+
+    /**
+     * 프로필 / 섹터 / 최소 총점 조건 비트맵 (null 인 조건은 무시)
+     * 결과는 호출자 소유의 새 BitSet
+     */
+    public BitSet match(String profile, String sector, BigDecimal minScore) {
+        BitSet rows = new BitSet(size);
+        if (minScore != null) {
+            // 행이 total_score 내림차순이므로 최소 점수 조건은 앞쪽 구간
+            rows.set(0, countTotalScoreAtLeast(StockMetric.TOTAL_SCORE.ceilScaled(minScore)));
+        } else {
+            rows.set(0, size);
+        }
+        if (profile != null) {
+            profileIndex.intersect(rows, profile);
+        }
+        if (sector != null) {
+            int code = sectorCode(sector);
+            if (code < 0) {
+                rows.clear();
+            } else {
+                rows.and(sectorBitmaps[code]);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * total_score >= minScaled 인 앞쪽 행 수 (이진 탐색)
+     */
+    private int countTotalScoreAtLeast(long minScaled) {
+        int ordinal = StockMetric.TOTAL_SCORE.ordinal();
+        int low = 0;
+        int high = present[ordinal].cardinality();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[ordinal][mid] >= minScaled) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 비트맵에서 offset 부터 limit 개 행 선택 (total_score 순)
+     */
+    public int[] select(BitSet rows, int offset, int limit) {
+        int[] result = new int[Math.max(0, Math.min(limit, rows.cardinality() - offset))];
+        int row = rows.nextSetBit(0);
+        for (int skipped = 0; skipped < offset && row >= 0; skipped++) {
+            row = rows.nextSetBit(row + 1);
+        }
+        for (int i = 0; i < result.length && row >= 0; i++) {
+            result[i] = row;
+            row = rows.nextSetBit(row + 1);
+        }
+        return result;
+    }
+
+    /**
+     * 비트맵에서 fromRow 이후 행을 limit 개 선택 (키셋 페이징용, total_score 순)
+     */
+    public int[] selectFrom(BitSet rows, int fromRow, int limit) {
+        int[] result = new int[Math.max(0, limit)];
+        int found = 0;
+        for (int row = rows.nextSetBit(fromRow); row >= 0 && found < result.length; row = rows.nextSetBit(row + 1)) {
+            result[found++] = row;
+        }
+        return found == result.length ? result : Arrays.copyOf(result, found);
+    }
+
+    /**
+     * 정렬 키 (total_score, id) 바로 다음 행 번호 (이진 탐색)
+     * scoreScaled 가 null 이면 total_score NULL 구간의 키로 취급
+     */
+    public int rowAfter(Long scoreScaled, long id) {
+        int ordinal = StockMetric.TOTAL_SCORE.ordinal();
+        int scored = present[ordinal].cardinality();
+        int low = scoreScaled != null ? 0 : scored;
+        int high = scoreScaled != null ? scored : size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            boolean atOrBefore = scoreScaled == null
+                ? ids[mid] <= id
+                : values[ordinal][mid] > scoreScaled || (values[ordinal][mid] == scoreScaled && ids[mid] <= id);
+            if (atOrBefore) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 섹터 코드별 행 목록 (total_score 순)
+     */
+    public int[] sectorRows(int sectorCode) {
+        return sectorCode >= 0 ? rowsBySector[sectorCode] : new int[0];
+    }
+
+    /**
+     * 지표 내림차순 행 목록 (NULL 제외)
+     * 오름차순이 필요하면 뒤에서부터 읽으면 됨
+     */
+    public int[] rowsOrderedBy(StockMetric metric) {
+        int[] order = metricOrders.get(metric.ordinal());
+        if (order == null) {
+            order = buildOrder(metric);
+            metricOrders.compareAndSet(metric.ordinal(), null, order);
+        }
+        return order;
+    }
+
+    private int[] buildOrder(StockMetric metric) {
+        long[] column = values[metric.ordinal()];
+        BitSet presentRows = present[metric.ordinal()];
+        Integer[] boxed = new Integer[presentRows.cardinality()];
+        int i = 0;
+        for (int row = presentRows.nextSetBit(0); row >= 0; row = presentRows.nextSetBit(row + 1)) {
+            boxed[i++] = row;
+        }
+        // 동점은 기존 행 순서(total_score 순) 유지
+        Arrays.sort(boxed, (a, b) -> Long.compare(column[b], column[a]));
+        int[] order = new int[boxed.length];
+        for (int j = 0; j < boxed.length; j++) {
+            order[j] = boxed[j];
+        }
+        return order;
+    }
+
+    // ============================================================
+    // 집계
+    // ============================================================
+
+    /**
+     * 섹터별 전 지표 분포 (스냅샷당 한 번 계산)
+     */
+    public SectorDistributions sectorDistributions() {
+        SectorDistributions distributions = sectorDistributions.get();
+        if (distributions == null) {
+            sectorDistributions.compareAndSet(null, SectorDistributions.compute(this));
+            distributions = sectorDistributions.get();
+        }
+        return distributions;
+    }
+
+    /**
+     * NULL 을 제외한 평균 (scale 4, 행이 없으면 null)
+     */
+    public BigDecimal average(StockMetric metric) {
+        BitSet presentRows = present[metric.ordinal()];
+        int count = presentRows.cardinality();
+        if (count == 0) {
+            return null;
+        }
+        long[] column = values[metric.ordinal()];
+        long sum = 0;
+        for (int row = presentRows.nextSetBit(0); row >= 0; row = presentRows.nextSetBit(row + 1)) {
+            sum += column[row];
+        }
+        return BigDecimal.valueOf(sum, metric.getScale())
+            .divide(BigDecimal.valueOf(count), 4, RoundingMode.HALF_UP);
+    }
+
+    // ============================================================
+    // DTO 변환
+    // ============================================================
+
+    public UndervaluedStockDto toDto(int row) {
+        UndervaluedStockDto.UndervaluedStockDtoBuilder builder = UndervaluedStockDto.builder()
+            .ticker(tickers[row])
+            .name(names[row])
+            .sector(sector(row))
+            .industry(industry(row));
+        for (StockMetric metric : METRICS) {
+            if (present[metric.ordinal()].get(row)) {
+                metric.write(builder, metric.fromScaled(values[metric.ordinal()][row]));
+            }
+        }
+        return builder
+            .passedProfiles(passedProfiles[row])
+            .dataDate(dataDate)
+            .build();
+    }
+
+    /**
+     * 행 목록 뷰 (JSON 직렬화는 DTO 없이 컬럼 배열에서 바로 기록)
+     */
+    public List<UndervaluedStockDto> toDtoList(int[] rows) {
+        return new StockRowList(this, rows);
+    }
+
+    /**
+     * 행 목록 Page (content 를 StockRowList 로 유지해 직렬화 시 DTO 를 만들지 않음)
+     */
+    public Page<UndervaluedStockDto> toDtoPage(int[] rows, Pageable pageable, long total) {
+        return new StockRowPage(new StockRowList(this, rows), pageable, total);
+    }
+
+    /**
+     * 행 목록 Slice (total 카운트 없는 페이징)
+     */
+    public Slice<UndervaluedStockDto> toDtoSlice(int[] rows, Pageable pageable, boolean hasNext) {
+        return new StockRowSlice(new StockRowList(this, rows), pageable, hasNext);
+    }
+
+    public UndervaluedStockSummaryDto toSummaryDto(int row) {
+        return UndervaluedStockSummaryDto.builder()
+            .ticker(tickers[row])
+            .name(names[row])
+            .sector(sector(row))
+            .industry(industry(row))
+            .price(value(StockMetric.PRICE, row))
+            .marketCap(value(StockMetric.MARKET_CAP, row))
+            .peRatio(value(StockMetric.PE_RATIO, row))
+            .fairValue(value(StockMetric.FAIR_VALUE, row))
+            .discount(value(StockMetric.DISCOUNT, row))
+            .growthScore(value(StockMetric.GROWTH_SCORE, row))
+            .qualityScore(value(StockMetric.QUALITY_SCORE, row))
+            .valueScore(value(StockMetric.VALUE_SCORE, row))
+            .momentumScore(value(StockMetric.MOMENTUM_SCORE, row))
+            .totalScore(value(StockMetric.TOTAL_SCORE, row))
+            .dataDate(dataDate)
+            .build();
+    }
+
+    public List<UndervaluedStockSummaryDto> toSummaryDtoList(int[] rows) {
+        List<UndervaluedStockSummaryDto> result = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            result.add(toSummaryDto(row));
+        }
+        return result;
+    }
+}
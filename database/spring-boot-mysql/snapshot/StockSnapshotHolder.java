@@ -0,0 +1,40 @@
+package com.ddalkkak.backend.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 최신 data_date 스냅샷 조회 창구
+ *
+ * 데이터는 하루 한 번만 바뀌므로 최신 날짜 전체를 메모리에 올려두고
+ * 서비스 계층의 최신 데이터 조회를 DB 대신 스냅샷에서 처리한다.
+ * 과거 날짜 조회는 기존처럼 DB 를 사용한다.
+ * 스냅샷은 SnapshotPublisher 가 검증 후 게시한 것만 보인다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockSnapshotHolder {
+
+    private final SnapshotVersion snapshotVersion;
+
+    /**
+     * 현재 스냅샷 (비활성화 또는 미게시 시 null)
+     */
+    public StockSnapshot current() {
+        PublishedSnapshot published = snapshotVersion.current();
+        return published != null ? published.getSnapshot() : null;
+    }
+
+    /**
+     * 요청 날짜를 스냅샷으로 처리할 수 있으면 스냅샷 반환 (아니면 null)
+     */
+    public StockSnapshot forDate(LocalDate date) {
+        StockSnapshot snapshot = current();
+        if (snapshot == null || date == null) {
+            return null;
+        }
+        return date.equals(snapshot.getDataDate()) ? snapshot : null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ddalkkak.backend.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    private static final String BATCH = "/api/undervalued-stocks/batch";
+
+    @Test
+    @DisplayName("파라미터 이름 순서와 무관하게 같은 키")
+    void parameterNameOrderIgnored() {
+        MockHttpServletRequest first = request("/api/undervalued-stocks/search");
+        first.addParameter("sector", "Technology");
+        first.addParameter("page", "0");
+        MockHttpServletRequest second = request("/api/undervalued-stocks/search");
+        second.addParameter("page", "0");
+        second.addParameter("sector", "Technology");
+
+        assertThat(ResponseCacheFilter.cacheKey(first, 3)).isEqualTo(ResponseCacheFilter.cacheKey(second, 3));
+    }
+
+    @Test
+    @DisplayName("같은 이름의 값은 요청 순서를 유지 (응답 행 순서가 다름)")
+    void repeatedValuesKeepRequestOrder() {
+        MockHttpServletRequest ab = request(BATCH);
+        ab.addParameter("tickers", "A", "B");
+        MockHttpServletRequest ba = request(BATCH);
+        ba.addParameter("tickers", "B", "A");
+
+        assertThat(ResponseCacheFilter.cacheKey(ab, 3)).isNotEqualTo(ResponseCacheFilter.cacheKey(ba, 3));
+        assertThat(ResponseCacheFilter.cacheKey(ab, 3)).isEqualTo("3 " + BATCH + "?tickers=A&tickers=B");
+    }
+
+    @Test
+    @DisplayName("버전이 다르면 다른 키")
+    void versionPartOfKey() {
+        MockHttpServletRequest request = request("/api/undervalued-stocks/top");
+        request.addParameter("limit", "10");
+
+        assertThat(ResponseCacheFilter.cacheKey(request, 3)).isNotEqualTo(ResponseCacheFilter.cacheKey(request, 4));
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
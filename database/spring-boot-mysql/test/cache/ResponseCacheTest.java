@@ -0,0 +1,87 @@
+package com.ddalkkak.backend.cache;
+
+import com.ddalkkak.backend.snapshot.SnapshotVersionChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+
+    private ResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResponseCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        ReflectionTestUtils.setField(cache, "maxBytes", 300L);
+        ReflectionTestUtils.setField(cache, "maxEntryBytes", 150L);
+    }
+
+    @Test
+    @DisplayName("바이트 합계를 넘으면 오래된 항목부터 하나씩 제거")
+    void evictsOldestByBytes() {
+        cache.put("a", response(100));
+        cache.put("b", response(100));
+        cache.put("c", response(100));
+        cache.put("d", response(100));
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNotNull();
+        assertThat(cache.get("d")).isNotNull();
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.totalBytes()).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("건수 제한도 항목 단위로 제거")
+    void evictsOldestByCount() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        cache.put("a", response(10));
+        cache.put("b", response(10));
+        cache.put("c", response(10));
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("max-entry-bytes 를 넘는 응답은 저장하지 않음")
+    void rejectsOversizedEntry() {
+        cache.put("a", response(100));
+
+        assertThat(cache.fits(151)).isFalse();
+        assertThat(cache.put("big", response(151))).isFalse();
+        assertThat(cache.get("big")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 키를 다시 저장하면 크기를 다시 계산")
+    void replaceAdjustsBytes() {
+        cache.put("a", response(100));
+        cache.put("a", response(40));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.totalBytes()).isEqualTo(40L);
+    }
+
+    @Test
+    @DisplayName("데이터 버전이 바뀌면 전체 비움")
+    void clearsOnVersionChange() {
+        cache.put("a", response(100));
+        cache.onVersionChanged(new SnapshotVersionChangedEvent(LocalDate.of(2025, 11, 7), 2L));
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.totalBytes()).isZero();
+    }
+
+    // gzipMinBytes 0 → gzip 본문 없음 (weight == 본문 길이)
+    private static CachedResponse response(int bytes) {
+        return CachedResponse.of("/api/undervalued-stocks/top", "application/json", new byte[bytes], 1L, 0);
+    }
+}
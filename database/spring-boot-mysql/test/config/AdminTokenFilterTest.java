@@ -0,0 +1,94 @@
+package com.ddalkkak.backend.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminTokenFilterTest {
+
+    private static final String INGEST = "/api/undervalued-stocks/admin/ingest";
+
+    @Test
+    @DisplayName("토큰이 일치하면 통과 (X-Admin-Token / Bearer)")
+    void acceptsMatchingToken() throws Exception {
+        MockHttpServletRequest header = new MockHttpServletRequest("POST", INGEST);
+        header.addHeader(AdminTokenFilter.TOKEN_HEADER, "s3cret");
+        MockHttpServletRequest bearer = new MockHttpServletRequest("POST", INGEST);
+        bearer.addHeader(HttpHeaders.AUTHORIZATION, "Bearer s3cret");
+
+        assertThat(run(filter("s3cret"), header).chain.getRequest()).isNotNull();
+        assertThat(run(filter("s3cret"), bearer).chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("토큰이 없거나 다르면 401")
+    void rejectsMissingOrWrongToken() throws Exception {
+        MockHttpServletRequest missing = new MockHttpServletRequest("POST", INGEST);
+        MockHttpServletRequest wrong = new MockHttpServletRequest("POST", "/api/undervalued-stocks/admin/refresh");
+        wrong.addHeader(AdminTokenFilter.TOKEN_HEADER, "guess");
+
+        Result missingResult = run(filter("s3cret"), missing);
+        Result wrongResult = run(filter("s3cret"), wrong);
+
+        assertThat(missingResult.response.getStatus()).isEqualTo(401);
+        assertThat(missingResult.chain.getRequest()).isNull();
+        assertThat(wrongResult.response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("토큰 미설정 시 관리 API 전체 403")
+    void blocksWhenTokenNotConfigured() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", INGEST);
+        request.addHeader(AdminTokenFilter.TOKEN_HEADER, "");
+
+        Result result = run(filter(""), request);
+
+        assertThat(result.response.getStatus()).isEqualTo(403);
+        assertThat(result.chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("공개 조회 API 는 검사하지 않음")
+    void ignoresPublicApi() throws Exception {
+        Result result = run(filter("s3cret"), new MockHttpServletRequest("GET", "/api/undervalued-stocks/top"));
+
+        assertThat(result.chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("CORS 는 공개 조회 API 만 (관리 API 없음, POST 는 /batch, /screen 만)")
+    void corsLimitedToPublicRoutes() {
+        CorsConfigurationSource source = CorsConfig.corsSource();
+
+        assertThat(source.getCorsConfiguration(new MockHttpServletRequest("POST", INGEST))).isNull();
+        CorsConfiguration top = source.getCorsConfiguration(new MockHttpServletRequest("GET", "/api/undervalued-stocks/top"));
+        CorsConfiguration screen = source.getCorsConfiguration(
+            new MockHttpServletRequest("POST", "/api/undervalued-stocks/screen"));
+        assertThat(top.getAllowedMethods()).containsExactly("GET", "HEAD");
+        assertThat(screen.getAllowedMethods()).contains("POST");
+    }
+
+    private static AdminTokenFilter filter(String token) {
+        AdminTokenFilter filter = new AdminTokenFilter();
+        ReflectionTestUtils.setField(filter, "token", token);
+        return filter;
+    }
+
+    private static Result run(AdminTokenFilter filter, MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return new Result(response, chain);
+    }
+
+    private record Result(MockHttpServletResponse response, MockFilterChain chain) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.ddalkkak.backend.ingest;
+
+import com.ddalkkak.backend.snapshot.StockMetric;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvStockRecordReaderTest {
+
+    @Test
+    @DisplayName("헤더는 컬럼명 / JSON 이름 모두 허용, 모르는 컬럼과 BOM 은 무시")
+    void headerAliases() throws IOException {
+        List<Snapshot> rows = read("\uFEFFticker,name,pe,return_on_equity,roe,id\naapl,Apple,28.5,x,0.15,99\n");
+
+        assertThat(rows).hasSize(1);
+        Snapshot row = rows.get(0);
+        assertThat(row.error).isNull();
+        assertThat(row.ticker).isEqualTo("AAPL");
+        assertThat(row.name).isEqualTo("Apple");
+        assertThat(row.peRatio).isEqualByComparingTo("28.50");
+        assertThat(row.roe).isEqualByComparingTo("0.15");
+    }
+
+    @Test
+    @DisplayName("따옴표 필드 - 쉼표, 이스케이프된 따옴표, 줄바꿈")
+    void quotedFields() throws IOException {
+        List<Snapshot> rows = read("ticker,name,sector\r\n"
+            + "BRK,\"Berkshire, \"\"B\"\"\nHathaway\",Financial Services\r\n"
+            + "MSFT,Microsoft,Technology\r\n");
+
+        assertThat(rows).extracting(row -> row.name)
+            .containsExactly("Berkshire, \"B\"\nHathaway", "Microsoft");
+        assertThat(rows.get(1).sector).isEqualTo("Technology");
+    }
+
+    @Test
+    @DisplayName("빈 값 / NaN / None 은 NULL, 컬럼 scale 로 반올림")
+    void numericValues() throws IOException {
+        List<Snapshot> rows = read("ticker,pe_ratio,roe\nA,NaN,\nB,12.345,None\n");
+
+        assertThat(rows.get(0).peRatio).isNull();
+        assertThat(rows.get(0).roe).isNull();
+        assertThat(rows.get(1).peRatio).isEqualByComparingTo("12.35");
+    }
+
+    @Test
+    @DisplayName("passed_profiles 는 JSON 배열 또는 | 구분")
+    void passedProfiles() throws IOException {
+        List<Snapshot> rows = read("ticker,passed_profiles\n"
+            + "A,\"[\"\"value_basic\"\",\"\"momentum\"\"]\"\n"
+            + "B,value_basic| swing\n"
+            + "C,\n");
+
+        assertThat(rows.get(0).profilesJson).isEqualTo("[\"value_basic\",\"momentum\"]");
+        assertThat(rows.get(1).profilesJson).isEqualTo("[\"value_basic\",\"swing\"]");
+        assertThat(rows.get(2).profilesJson).isNull();
+    }
+
+    @Test
+    @DisplayName("행 단위 오류는 해당 행만 실패 처리 (줄 번호 포함), 빈 줄은 건너뜀")
+    void rowErrors() throws IOException {
+        List<Snapshot> rows = read("ticker,pe_ratio\nA,abc\n\n,1\nB,1,2\nC,1\n");
+
+        assertThat(rows).hasSize(4);
+        assertThat(rows.get(0).error).startsWith("line 2:").contains("pe_ratio");
+        assertThat(rows.get(1).error).startsWith("line 4:").contains("ticker");
+        assertThat(rows.get(2).error).startsWith("line 5:").contains("컬럼 수");
+        assertThat(rows.get(3).error).isNull();
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 IllegalArgumentException")
+    void missingHeader() {
+        assertThatThrownBy(() -> read(""))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Snapshot> read(String csv) throws IOException {
+        List<Snapshot> rows = new ArrayList<>();
+        try (StockRecordReader reader = StockRecordReader.of("csv",
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            StockRecord record = new StockRecord();
+            while (reader.next(record)) {
+                rows.add(new Snapshot(record));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 재사용되는 StockRecord 의 행별 값 복사본
+     */
+    static final class Snapshot {
+        final String ticker;
+        final String name;
+        final String sector;
+        final String profilesJson;
+        final BigDecimal peRatio;
+        final BigDecimal roe;
+        final String error;
+
+        Snapshot(StockRecord record) {
+            this.ticker = record.getTicker();
+            this.name = record.getName();
+            this.sector = record.getSector();
+            this.profilesJson = record.getPassedProfilesJson();
+            this.peRatio = record.getMetric(StockMetric.PE_RATIO);
+            this.roe = record.getMetric(StockMetric.ROE);
+            this.error = record.getError();
+        }
+    }
+}
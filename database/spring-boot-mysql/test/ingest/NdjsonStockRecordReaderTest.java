@@ -0,0 +1,92 @@
+package com.ddalkkak.backend.ingest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NdjsonStockRecordReaderTest {
+
+    @Test
+    @DisplayName("키는 컬럼명 / 필드명 / JSON 이름 모두 허용, 모르는 키와 중첩 값은 무시")
+    void keyAliases() throws IOException {
+        List<CsvStockRecordReaderTest.Snapshot> rows = read(
+            "{\"ticker\":\"aapl\",\"name\":\"Apple\",\"peRatio\":28.5,\"roe\":\"0.15\",\"id\":1,\"extra\":{\"a\":[1]}}\n"
+                + "{\"ticker\":\"MSFT\",\"pe_ratio\":30,\"sector\":\"Technology\"}\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).ticker).isEqualTo("AAPL");
+        assertThat(rows.get(0).peRatio).isEqualByComparingTo("28.50");
+        assertThat(rows.get(0).roe).isEqualByComparingTo("0.15");
+        assertThat(rows.get(0).error).isNull();
+        assertThat(rows.get(1).peRatio).isEqualByComparingTo("30");
+        assertThat(rows.get(1).sector).isEqualTo("Technology");
+    }
+
+    @Test
+    @DisplayName("pandas 의 NaN / Infinity / null 은 NULL")
+    void nonNumericNumbers() throws IOException {
+        List<CsvStockRecordReaderTest.Snapshot> rows = read(
+            "{\"ticker\":\"A\",\"pe_ratio\":NaN,\"roe\":null}\n{\"ticker\":\"B\",\"pe_ratio\":Infinity}\n");
+
+        assertThat(rows.get(0).peRatio).isNull();
+        assertThat(rows.get(0).roe).isNull();
+        assertThat(rows.get(1).peRatio).isNull();
+    }
+
+    @Test
+    @DisplayName("passed_profiles 배열 / 문자열 모두 허용")
+    void passedProfiles() throws IOException {
+        List<CsvStockRecordReaderTest.Snapshot> rows = read(
+            "{\"ticker\":\"A\",\"passed_profiles\":[\"value_basic\",1,\"swing\"]}\n"
+                + "{\"ticker\":\"B\",\"passedProfiles\":\"momentum|swing\"}\n");
+
+        assertThat(rows.get(0).profilesJson).isEqualTo("[\"value_basic\",\"swing\"]");
+        assertThat(rows.get(1).profilesJson).isEqualTo("[\"momentum\",\"swing\"]");
+    }
+
+    @Test
+    @DisplayName("값 오류는 행 단위 실패 (줄 번호 포함)")
+    void rowErrors() throws IOException {
+        List<CsvStockRecordReaderTest.Snapshot> rows = read(
+            "{\"ticker\":\"A\",\"pe_ratio\":123456789012}\n{\"name\":\"no ticker\"}\n{\"ticker\":\"C\"}\n");
+
+        assertThat(rows.get(0).error).startsWith("line 1:").contains("DECIMAL(10, 2)");
+        assertThat(rows.get(1).error).startsWith("line 2:").contains("ticker");
+        assertThat(rows.get(2).error).isNull();
+    }
+
+    @Test
+    @DisplayName("객체가 아닌 행은 형식 오류 (IllegalArgumentException)")
+    void nonObjectRow() {
+        assertThatThrownBy(() -> read("{\"ticker\":\"A\"}\n[1,2]\n"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("line 2");
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식은 IllegalArgumentException")
+    void unknownFormat() {
+        assertThatThrownBy(() -> StockRecordReader.of("xml", new ByteArrayInputStream(new byte[0])))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<CsvStockRecordReaderTest.Snapshot> read(String ndjson) throws IOException {
+        List<CsvStockRecordReaderTest.Snapshot> rows = new ArrayList<>();
+        try (StockRecordReader reader = StockRecordReader.of("ndjson",
+            new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)))) {
+            StockRecord record = new StockRecord();
+            while (reader.next(record)) {
+                rows.add(new CsvStockRecordReaderTest.Snapshot(record));
+            }
+        }
+        return rows;
+    }
+}
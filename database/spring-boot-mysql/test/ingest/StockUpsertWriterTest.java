@@ -0,0 +1,43 @@
+package com.ddalkkak.backend.ingest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StockUpsertWriterTest {
+
+    @Test
+    @DisplayName("batchSize 마다 executeBatch 하고 커밋은 호출자에게 맡김")
+    void executesBatchesWithoutCommitting() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        try (StockUpsertWriter writer = new StockUpsertWriter(connection, LocalDate.of(2025, 11, 7), 2)) {
+            for (String ticker : new String[]{"A", "B", "C"}) {
+                StockRecord record = new StockRecord();
+                record.clear(1);
+                record.setText(StockRecord.TICKER, ticker);
+                writer.write(record);
+            }
+            writer.flush();
+
+            assertThat(writer.getWritten()).isEqualTo(3);
+        }
+        verify(statement, times(3)).addBatch();
+        verify(statement, times(2)).executeBatch();
+        verify(connection, never()).commit();
+    }
+}
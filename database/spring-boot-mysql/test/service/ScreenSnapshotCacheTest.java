@@ -0,0 +1,89 @@
+package com.ddalkkak.backend.service;
+
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import com.ddalkkak.backend.repository.UndervaluedStockRepository;
+import com.ddalkkak.backend.snapshot.SnapshotVersionChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScreenSnapshotCacheTest {
+
+    private static final LocalDate D1 = LocalDate.of(2025, 11, 5);
+    private static final LocalDate D2 = LocalDate.of(2025, 11, 6);
+    private static final LocalDate D3 = LocalDate.of(2025, 11, 7);
+
+    private UndervaluedStockRepository repository;
+    private ScreenSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(UndervaluedStockRepository.class);
+        when(repository.findByDataDate(any())).thenAnswer(invocation -> List.of(stock(invocation.getArgument(0))));
+        cache = new ScreenSnapshotCache(repository);
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+    }
+
+    @Test
+    @DisplayName("같은 날짜는 한 번만 읽음")
+    void loadsOncePerDate() {
+        cache.get(D1);
+        cache.get(D1);
+
+        verify(repository, times(1)).findByDataDate(D1);
+    }
+
+    @Test
+    @DisplayName("최근 사용하지 않은 날짜부터 제거")
+    void evictsLeastRecentlyUsed() {
+        cache.get(D1);
+        cache.get(D2);
+        cache.get(D1);
+        cache.get(D3);
+        cache.get(D1);
+        cache.get(D2);
+
+        verify(repository, times(1)).findByDataDate(D1);
+        verify(repository, times(2)).findByDataDate(D2);
+    }
+
+    @Test
+    @DisplayName("데이터 버전이 바뀌면 다시 읽음")
+    void clearsOnVersionChange() {
+        cache.get(D1);
+        cache.onVersionChanged(new SnapshotVersionChangedEvent(D3, 2L));
+        cache.get(D1);
+
+        verify(repository, times(2)).findByDataDate(D1);
+    }
+
+    @Test
+    @DisplayName("보관 개수 0 이면 과거 날짜 스크리닝은 400")
+    void disabled() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 0);
+
+        assertThatThrownBy(() -> cache.get(D1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static UndervaluedStock stock(LocalDate date) {
+        return UndervaluedStock.builder()
+            .id(1L)
+            .ticker("A")
+            .totalScore(BigDecimal.TEN)
+            .passedProfiles(List.of())
+            .dataDate(date)
+            .build();
+    }
+}
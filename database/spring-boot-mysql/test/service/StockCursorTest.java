@@ -0,0 +1,74 @@
+package com.ddalkkak.backend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StockCursorTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 7);
+
+    @Test
+    @DisplayName("encode → decode 왕복 시 날짜/점수/id 유지")
+    void roundTrip() {
+        StockCursor cursor = StockCursor.decode(new StockCursor(DATE, new BigDecimal("87.50"), 1234L).encode());
+
+        assertThat(cursor.getDataDate()).isEqualTo(DATE);
+        assertThat(cursor.getTotalScore()).isEqualByComparingTo("87.50");
+        assertThat(cursor.getId()).isEqualTo(1234L);
+    }
+
+    @Test
+    @DisplayName("NULL 점수 구간 커서 왕복")
+    void roundTripNullScore() {
+        StockCursor cursor = StockCursor.decode(new StockCursor(DATE, null, 7L).encode());
+
+        assertThat(cursor.getTotalScore()).isNull();
+        assertThat(cursor.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("점수는 total_score 컬럼 scale 로 맞춤 (87.5 → 87.50)")
+    void decodeNormalizesScale() {
+        StockCursor cursor = StockCursor.decode(token("2025-11-07|87.5|1"));
+
+        assertThat(cursor.getTotalScore()).isEqualTo(new BigDecimal("87.50"));
+    }
+
+    @Test
+    @DisplayName("URL 에 그대로 쓸 수 있는 문자만 사용 (패딩 없음)")
+    void encodeIsUrlSafe() {
+        String token = new StockCursor(DATE, new BigDecimal("-0.01"), Long.MAX_VALUE).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 IllegalArgumentException (400)")
+    void decodeRejectsMalformed() {
+        assertThatThrownBy(() -> StockCursor.decode("!!!"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StockCursor.decode(token("2025-11-07|87.50")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StockCursor.decode(token("2025-13-07|87.50|1")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StockCursor.decode(token("2025-11-07|abc|1")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StockCursor.decode(token("2025-11-07|87.50|x")))
+            .isInstanceOf(IllegalArgumentException.class);
+        // scale 을 넘는 자릿수는 반올림하지 않고 거부
+        assertThatThrownBy(() -> StockCursor.decode(token("2025-11-07|87.505|1")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,41 @@
+package com.ddalkkak.backend.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UndervaluedStockServiceTest {
+
+    // 2025-11-03 (월) ~ 11-07 (금), 11-10 (월) ~ 11-12 (수)
+    private static final List<LocalDate> DATES = List.of(
+        LocalDate.of(2025, 11, 3), LocalDate.of(2025, 11, 4), LocalDate.of(2025, 11, 5),
+        LocalDate.of(2025, 11, 6), LocalDate.of(2025, 11, 7),
+        LocalDate.of(2025, 11, 10), LocalDate.of(2025, 11, 11), LocalDate.of(2025, 11, 12));
+
+    @Test
+    @DisplayName("기간에 데이터가 없으면 every / interval 과 무관하게 빈 목록")
+    void emptyRange() {
+        assertThat(UndervaluedStockService.samplePoints(List.of(), false, 1)).isEmpty();
+        assertThat(UndervaluedStockService.samplePoints(List.of(), false, 5)).isEmpty();
+        assertThat(UndervaluedStockService.samplePoints(List.of(), true, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("every 간격으로 남기되 최신 값은 항상 포함")
+    void everyKeepsLatest() {
+        assertThat(UndervaluedStockService.samplePoints(DATES, false, 1)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(UndervaluedStockService.samplePoints(DATES, false, 3)).containsExactly(1, 4, 7);
+        assertThat(UndervaluedStockService.samplePoints(DATES.subList(0, 1), false, 4)).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("weekly 는 ISO 주의 마지막 거래일만 남긴 뒤 every 적용")
+    void weekly() {
+        assertThat(UndervaluedStockService.samplePoints(DATES, true, 1)).containsExactly(4, 7);
+        assertThat(UndervaluedStockService.samplePoints(DATES, true, 2)).containsExactly(7);
+    }
+}
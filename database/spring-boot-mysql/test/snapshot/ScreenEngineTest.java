@@ -0,0 +1,173 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.ScreenCondition;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScreenEngineTest {
+
+    private static StockSnapshot snapshot;
+
+    /**
+     * 행 순서는 total_score DESC → A(90) B(80) C(70) D(60) E(50)
+     * pe_ratio: A=10.00, B=15.00, C=NULL, D=20.50, E=-3.00
+     */
+    @BeforeAll
+    static void setUp() {
+        List<UndervaluedStock> stocks = new ArrayList<>();
+        stocks.add(stock(1, "A", "Technology", "90", "10", List.of("value_basic")));
+        stocks.add(stock(2, "B", "Technology", "80", "15", List.of()));
+        stocks.add(stock(3, "C", "Energy", "70", null, List.of("value_basic")));
+        stocks.add(stock(4, "D", "Energy", "60", "20.5", List.of()));
+        stocks.add(stock(5, "E", "Utilities", "50", "-3", List.of()));
+        snapshot = StockSnapshot.of(LocalDate.of(2025, 11, 7), stocks);
+    }
+
+    @Test
+    @DisplayName("범위 비교는 경계를 정확히 포함/제외하고 NULL 은 제외")
+    void rangeBoundaries() {
+        assertThat(tickers(metric("peRatio", "<", "15"))).containsExactly("A", "E");
+        assertThat(tickers(metric("peRatio", "<=", "15"))).containsExactly("A", "B", "E");
+        assertThat(tickers(metric("peRatio", ">", "15"))).containsExactly("D");
+        assertThat(tickers(metric("peRatio", ">=", "15"))).containsExactly("B", "D");
+        assertThat(tickers(metric("peRatio", "=", "20.5"))).containsExactly("D");
+        assertThat(tickers(metric("peRatio", "!=", "15"))).containsExactly("A", "D", "E");
+    }
+
+    @Test
+    @DisplayName("컬럼 scale 보다 정밀한 값은 올림/내림으로 경계 처리")
+    void subScaleValues() {
+        // pe_ratio scale 2 - 14.999 는 15.00 과 다르므로 < 14.999 에 B(15.00) 는 포함되지 않고 = 는 빈 결과
+        assertThat(tickers(metric("peRatio", "<", "14.999"))).containsExactly("A", "E");
+        assertThat(tickers(metric("peRatio", ">", "14.999"))).containsExactly("B", "D");
+        assertThat(tickers(metric("peRatio", "=", "14.999"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("between 은 양 끝 포함")
+    void between() {
+        ScreenCondition condition = metric("pe_ratio", "between", "-3");
+        condition.setValue2(new BigDecimal("15"));
+
+        assertThat(tickers(condition)).containsExactly("A", "B", "E");
+    }
+
+    @Test
+    @DisplayName("isNull / notNull")
+    void nullChecks() {
+        assertThat(tickers(metric("peRatio", "isNull", null))).containsExactly("C");
+        assertThat(tickers(metric("peRatio", "notNull", null))).containsExactly("A", "B", "D", "E");
+    }
+
+    @Test
+    @DisplayName("NOT 은 전체 종목 기준 여집합 (비교에서 빠진 NULL 행 포함)")
+    void notIsComplementOverAllRows() {
+        ScreenCondition not = new ScreenCondition();
+        not.setNot(metric("peRatio", "<", "15"));
+
+        assertThat(tickers(not)).containsExactly("B", "C", "D");
+    }
+
+    @Test
+    @DisplayName("and / or / sector / profile 조합")
+    void booleanComposition() {
+        ScreenCondition or = new ScreenCondition();
+        or.setOr(List.of(sector("Energy"), profile("value_basic")));
+        ScreenCondition and = new ScreenCondition();
+        and.setAnd(List.of(or, metric("peRatio", "notNull", null)));
+
+        assertThat(tickers(or)).containsExactly("A", "C", "D");
+        assertThat(tickers(and)).containsExactly("A", "D");
+    }
+
+    @Test
+    @DisplayName("top - 정렬 지표 NULL 행은 마지막, 오름차순 지원")
+    void topOrdering() {
+        BitSet all = ScreenEngine.evaluate(snapshot, null);
+
+        assertThat(tickers(ScreenEngine.top(snapshot, all, StockMetric.PE_RATIO, false, 5)))
+            .containsExactly("D", "B", "A", "E", "C");
+        assertThat(tickers(ScreenEngine.top(snapshot, all, StockMetric.PE_RATIO, true, 5)))
+            .containsExactly("E", "A", "B", "D", "C");
+        assertThat(tickers(ScreenEngine.top(snapshot, all, null, false, 2)))
+            .containsExactly("A", "B");
+    }
+
+    @Test
+    @DisplayName("잘못된 조건은 IllegalArgumentException (400)")
+    void invalidConditions() {
+        ScreenCondition twoKinds = metric("peRatio", "<", "15");
+        twoKinds.setSector("Energy");
+
+        assertThatThrownBy(() -> ScreenEngine.evaluate(snapshot, twoKinds))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScreenEngine.evaluate(snapshot, metric("unknown", "<", "1")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScreenEngine.evaluate(snapshot, metric("peRatio", "~", "1")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScreenEngine.evaluate(snapshot, metric("peRatio", "<", null)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ============================================================
+    // 헬퍼
+    // ============================================================
+
+    private static List<String> tickers(ScreenCondition condition) {
+        BitSet rows = ScreenEngine.evaluate(snapshot, condition);
+        return tickers(rows.stream().toArray());
+    }
+
+    private static List<String> tickers(int[] rows) {
+        List<String> tickers = new ArrayList<>();
+        for (int row : rows) {
+            tickers.add(snapshot.ticker(row));
+        }
+        return tickers;
+    }
+
+    private static ScreenCondition metric(String metric, String op, String value) {
+        ScreenCondition condition = new ScreenCondition();
+        condition.setMetric(metric);
+        condition.setOp(op);
+        condition.setValue(value != null ? new BigDecimal(value) : null);
+        return condition;
+    }
+
+    private static ScreenCondition sector(String sector) {
+        ScreenCondition condition = new ScreenCondition();
+        condition.setSector(sector);
+        return condition;
+    }
+
+    private static ScreenCondition profile(String profile) {
+        ScreenCondition condition = new ScreenCondition();
+        condition.setProfile(profile);
+        return condition;
+    }
+
+    private static UndervaluedStock stock(long id, String ticker, String sector, String totalScore, String peRatio,
+                                          List<String> profiles) {
+        return UndervaluedStock.builder()
+            .id(id)
+            .ticker(ticker)
+            .name(ticker)
+            .sector(sector)
+            .totalScore(new BigDecimal(totalScore))
+            .peRatio(peRatio != null ? new BigDecimal(peRatio) : null)
+            .passedProfiles(profiles)
+            .dataDate(LocalDate.of(2025, 11, 7))
+            .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.entity.DataCollectionLog;
+import com.ddalkkak.backend.entity.SnapshotPublication;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import com.ddalkkak.backend.repository.DataCollectionLogRepository;
+import com.ddalkkak.backend.repository.SnapshotPublicationRepository;
+import com.ddalkkak.backend.repository.UndervaluedStockRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SnapshotPublisherTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 7);
+
+    @Test
+    @DisplayName("점수가 하나도 없는 날짜(스크리닝 전)는 force 여도 거부")
+    void rejectsUnscreenedDay() {
+        SnapshotPublisher publisher = publisher();
+
+        assertThat(publisher.validate(snapshot(null, null, null), false)).contains("점수 미계산");
+        assertThat(publisher.validate(snapshot(null, null, null), true)).contains("점수 미계산");
+    }
+
+    @Test
+    @DisplayName("일부 종목만 점수가 없으면 게시 가능")
+    void acceptsPartiallyScoredDay() {
+        assertThat(publisher().validate(snapshot("80", null, "65.5"), false)).isNull();
+    }
+
+    @Test
+    @DisplayName("행 수 0 / 티커 중복은 거부")
+    void rejectsEmptyAndDuplicates() {
+        List<UndervaluedStock> duplicated = List.of(stock(1, "A", "80"), stock(2, "A", "70"));
+
+        assertThat(publisher().validate(StockSnapshot.of(DATE, List.of()), false)).isEqualTo("데이터가 없습니다");
+        assertThat(publisher().validate(StockSnapshot.of(DATE, duplicated), false)).contains("티커 중복");
+    }
+
+    @Test
+    @DisplayName("최신 게시 대상은 MAX(data_date) 가 아니라 마지막 completed 수집 로그 날짜")
+    void publishesLatestCompletedCollectionDate() {
+        UndervaluedStockRepository stockRepository = mock(UndervaluedStockRepository.class);
+        DataCollectionLogRepository logRepository = mock(DataCollectionLogRepository.class);
+        SnapshotPublicationRepository publicationRepository = mock(SnapshotPublicationRepository.class);
+        LocalDate screened = DATE.minusDays(1);
+        when(logRepository.findLatestCollectionDateByStatus(DataCollectionLog.STATUS_COMPLETED))
+            .thenReturn(Optional.of(screened));
+        when(stockRepository.findLatestDataDate()).thenReturn(Optional.of(DATE));
+        when(stockRepository.findByDataDate(screened)).thenReturn(List.of(stock(1, "A", "80")));
+        when(publicationRepository.save(any())).thenAnswer(invocation -> {
+            SnapshotPublication publication = invocation.getArgument(0);
+            ReflectionTestUtils.setField(publication, "id", 3L);
+            return publication;
+        });
+        SnapshotPublisher publisher = publisher(stockRepository, logRepository, publicationRepository);
+
+        PublishedSnapshot published = publisher.publishLatest();
+
+        assertThat(published.getDataDate()).isEqualTo(screened);
+        assertThat(published.getVersion()).isEqualTo(3L);
+        verify(stockRepository, never()).findByDataDate(DATE);
+    }
+
+    private static SnapshotPublisher publisher() {
+        return publisher(mock(UndervaluedStockRepository.class), mock(DataCollectionLogRepository.class),
+            mock(SnapshotPublicationRepository.class));
+    }
+
+    private static SnapshotPublisher publisher(UndervaluedStockRepository stockRepository,
+                                               DataCollectionLogRepository logRepository,
+                                               SnapshotPublicationRepository publicationRepository) {
+        SnapshotPublisher publisher = new SnapshotPublisher(stockRepository, logRepository, publicationRepository,
+            new SnapshotVersion(mock(ApplicationEventPublisher.class)), mock(SnapshotStatistics.class));
+        ReflectionTestUtils.setField(publisher, "minRowRatio", 0.8);
+        return publisher;
+    }
+
+    private static StockSnapshot snapshot(String... totalScores) {
+        List<UndervaluedStock> stocks = new ArrayList<>();
+        for (int i = 0; i < totalScores.length; i++) {
+            stocks.add(stock(i + 1, "T" + i, totalScores[i]));
+        }
+        return StockSnapshot.of(DATE, stocks);
+    }
+
+    private static UndervaluedStock stock(long id, String ticker, String totalScore) {
+        return UndervaluedStock.builder()
+            .id(id)
+            .ticker(ticker)
+            .totalScore(totalScore != null ? new BigDecimal(totalScore) : null)
+            .dataDate(DATE)
+            .build();
+    }
+}
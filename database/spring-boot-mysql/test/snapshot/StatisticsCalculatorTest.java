@@ -0,0 +1,117 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.ScoreDistributionDto;
+import com.ddalkkak.backend.dto.StockStatisticsDto;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class StatisticsCalculatorTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 7);
+
+    @Test
+    @DisplayName("평균 / 최소 / 최대 / 선형 보간 백분위 (NULL 제외)")
+    void percentiles() {
+        // total_score 10, 20, 30, 40, 50 + NULL 1건
+        StockStatisticsDto stats = StatisticsCalculator.compute(snapshot("10", "20", "30", "40", "50", null),
+            List.of(), 7L);
+        ScoreDistributionDto total = stats.getScoreStats().get("totalScore");
+
+        assertThat(stats.getTotalStocks()).isEqualTo(6);
+        assertThat(stats.getVersion()).isEqualTo(7L);
+        assertThat(total.getCount()).isEqualTo(5);
+        assertThat(total.getMean()).isEqualByComparingTo("30");
+        assertThat(total.getMin()).isEqualByComparingTo("10");
+        assertThat(total.getMax()).isEqualByComparingTo("50");
+        // 위치 = p/100 * (n - 1): p10 → 0.4, p90 → 3.6
+        assertThat(total.getP10()).isEqualByComparingTo("14");
+        assertThat(total.getP25()).isEqualByComparingTo("20");
+        assertThat(total.getMedian()).isEqualByComparingTo("30");
+        assertThat(total.getP75()).isEqualByComparingTo("40");
+        assertThat(total.getP90()).isEqualByComparingTo("46");
+        assertThat(stats.getAverageTotalScore()).isEqualByComparingTo("30");
+    }
+
+    @Test
+    @DisplayName("정확히 한 행에 걸린 백분위도 보간 값과 같은 scale (소수 4자리)")
+    void uniformScale() {
+        // 85.5, 85.0, 86.0, 84.0, 87.0 → median 은 85.50 한 행, p10 / p90 은 보간
+        ScoreDistributionDto total = StatisticsCalculator.compute(snapshot("85.5", "85", "86", "84", "87"),
+            List.of(), 1L).getScoreStats().get("totalScore");
+
+        assertThat(total.getMedian()).isEqualTo(new BigDecimal("85.5000"));
+        assertThat(total.getP25()).isEqualTo(new BigDecimal("85.0000"));
+        assertThat(total.getP10()).isEqualTo(new BigDecimal("84.4000"));
+        assertThat(List.of(total.getMean(), total.getMin(), total.getP10(), total.getP25(), total.getMedian(),
+            total.getP75(), total.getP90(), total.getMax()))
+            .extracting(BigDecimal::scale)
+            .containsOnly(4);
+    }
+
+    @Test
+    @DisplayName("짝수 개 중앙값은 가운데 두 값의 평균, 한 건이면 모든 백분위가 같은 값")
+    void smallSamples() {
+        ScoreDistributionDto even = StatisticsCalculator.compute(snapshot("1.5", "2.5", "4", "10"), List.of(), 1L)
+            .getScoreStats().get("totalScore");
+        ScoreDistributionDto single = StatisticsCalculator.compute(snapshot("42"), List.of(), 1L)
+            .getScoreStats().get("totalScore");
+
+        assertThat(even.getMedian()).isEqualByComparingTo("3.25");
+        assertThat(single.getP10()).isEqualByComparingTo("42");
+        assertThat(single.getP90()).isEqualByComparingTo("42");
+    }
+
+    @Test
+    @DisplayName("값이 모두 NULL 이면 count 0, 평균 총점은 0")
+    void allNull() {
+        StockStatisticsDto stats = StatisticsCalculator.compute(snapshot(null, null), List.of(), 1L);
+
+        assertThat(stats.getScoreStats().get("totalScore").getCount()).isZero();
+        assertThat(stats.getScoreStats().get("totalScore").getMedian()).isNull();
+        assertThat(stats.getAverageTotalScore()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("프로필별 종목 수 - 요청 순서대로, 목록에 없는 프로필은 뒤에 추가")
+    void profileCounts() {
+        List<UndervaluedStock> stocks = new ArrayList<>();
+        stocks.add(stock(1, "A", "90", List.of("value_basic", "momentum")));
+        stocks.add(stock(2, "B", "80", List.of("value_basic")));
+        stocks.add(stock(3, "C", "70", List.of()));
+
+        StockStatisticsDto stats = StatisticsCalculator.compute(StockSnapshot.of(DATE, stocks),
+            List.of("growth_quality", "value_basic"), 1L);
+
+        assertThat(stats.getProfileCounts()).containsExactly(
+            entry("growth_quality", 0L),
+            entry("value_basic", 2L),
+            entry("momentum", 1L));
+    }
+
+    private static StockSnapshot snapshot(String... totalScores) {
+        List<UndervaluedStock> stocks = new ArrayList<>();
+        for (int i = 0; i < totalScores.length; i++) {
+            stocks.add(stock(i + 1, "T" + i, totalScores[i], List.of()));
+        }
+        return StockSnapshot.of(DATE, stocks);
+    }
+
+    private static UndervaluedStock stock(long id, String ticker, String totalScore, List<String> profiles) {
+        return UndervaluedStock.builder()
+            .id(id)
+            .ticker(ticker)
+            .totalScore(totalScore != null ? new BigDecimal(totalScore) : null)
+            .passedProfiles(profiles)
+            .dataDate(DATE)
+            .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.ddalkkak.backend.snapshot;
+
+import com.ddalkkak.backend.dto.UndervaluedStockDto;
+import com.ddalkkak.backend.entity.UndervaluedStock;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class StockRowPageTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 7);
+
+    // 애플리케이션 설정과 같은 날짜 / NULL 처리
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .addModule(new StockRowListModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .serializationInclusion(JsonInclude.Include.NON_NULL)
+        .build();
+
+    @Test
+    @DisplayName("스냅샷 Page 는 content 를 StockRowList 로 유지하고 DTO 없이 직렬화 (PageImpl 과 같은 JSON)")
+    void pageSerializesThroughRowSerializer() throws Exception {
+        StockSnapshot snapshot = spy(snapshot());
+        Pageable pageable = PageRequest.of(0, 2);
+
+        Page<UndervaluedStockDto> page = snapshot.toDtoPage(new int[]{0, 2}, pageable, 3);
+        String json = MAPPER.writeValueAsString(page);
+
+        assertThat(page.getContent()).isInstanceOf(StockRowList.class);
+        verify(snapshot, never()).toDto(anyInt());
+        assertThat(json).isEqualTo(MAPPER.writeValueAsString(
+            new PageImpl<>(List.of(snapshot.toDto(0), snapshot.toDto(2)), pageable, 3)));
+        assertThat(page.getNumberOfElements()).isEqualTo(2);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("스냅샷 Slice 도 StockRowList 그대로 직렬화, 빈 Slice 는 empty")
+    void sliceSerializesThroughRowSerializer() throws Exception {
+        StockSnapshot snapshot = spy(snapshot());
+        Pageable pageable = PageRequest.of(1, 2);
+
+        Slice<UndervaluedStockDto> slice = snapshot.toDtoSlice(new int[]{1}, pageable, false);
+        String json = MAPPER.writeValueAsString(slice);
+
+        assertThat(slice.getContent()).isInstanceOf(StockRowList.class);
+        verify(snapshot, never()).toDto(anyInt());
+        assertThat(json).isEqualTo(MAPPER.writeValueAsString(
+            new SliceImpl<>(List.of(snapshot.toDto(1)), pageable, false)));
+        assertThat(snapshot.toDtoSlice(new int[0], pageable, false).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("map 은 StockRowList 의 각 행에 적용")
+    void mapUsesRows() {
+        Page<UndervaluedStockDto> page = snapshot().toDtoPage(new int[]{2, 0}, PageRequest.of(0, 5), 2);
+
+        assertThat(page.map(UndervaluedStockDto::getTicker).getContent()).containsExactly("C", "A");
+    }
+
+    private static StockSnapshot snapshot() {
+        List<UndervaluedStock> stocks = new ArrayList<>();
+        stocks.add(stock(1, "A", "90.5", "12.34"));
+        stocks.add(stock(2, "B", "80", null));
+        stocks.add(stock(3, "C", null, "-3"));
+        return StockSnapshot.of(DATE, stocks);
+    }
+
+    private static UndervaluedStock stock(long id, String ticker, String totalScore, String pe) {
+        return UndervaluedStock.builder()
+            .id(id)
+            .ticker(ticker)
+            .name(ticker + " Inc.")
+            .sector("Technology")
+            .totalScore(totalScore != null ? new BigDecimal(totalScore) : null)
+            .peRatio(pe != null ? new BigDecimal(pe) : null)
+            .passedProfiles(List.of("value_basic"))
+            .dataDate(DATE)
+            .build();
+    }
+}